@@ -0,0 +1,690 @@
+package dev.andrewjfei.tree;
+
+import dev.andrewjfei.exceptions.EmptyTreeException;
+import dev.andrewjfei.exceptions.NodeAlreadyExistsException;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * A {@code BPlusTree} is an ordered set where every node holds many elements instead of one. Repeated elements are not
+ * allowed.
+ *
+ * <p> Elements are only stored in the <b>leaves</b>, which all sit at the same depth and are linked to each other in
+ * order, so a range scan walks along the leaves without going back up the tree. The <b>inner nodes</b> hold separator
+ * keys, where the separator between two children is the smallest element of the right child. The number of children of
+ * a node, and the number of elements in a leaf, is bounded by the <b>fanout</b>, and every node other than the root is
+ * kept at least half full by splitting, borrowing and merging nodes.
+ *
+ * <p> With a fanout of {@code b}, the height of the tree is {@code O(log_b(n))}. A search does a binary search within
+ * each node it passes through, which reads a single array instead of following a pointer per comparison, and the
+ * cost of each node object is spread over up to {@code b} elements.
+ *
+ * @see BinarySearchTree
+ *
+ * @author andrewjfei
+ *
+ * @param <T> the data type of the tree which must be {@code Comparable}.
+ */
+public class BPlusTree<T extends Comparable<T>> implements Iterable<T> {
+
+    private static final int DEFAULT_FANOUT = 64;
+    private static final int MIN_FANOUT = 4;
+
+    private final int fanout;
+    private final int minimum;
+    private Node root;
+    private Leaf first;
+    private int size;
+    private int height;
+    private int modCount;
+    private Inner[] path;
+    private int[] pathIndex;
+
+    public BPlusTree() {
+        this(DEFAULT_FANOUT);
+    }
+
+    public BPlusTree(int fanout) {
+        if (fanout < MIN_FANOUT) {
+            throw new IllegalArgumentException("Illegal fanout: " + fanout);
+        }
+
+        this.fanout = fanout;
+        this.minimum = (fanout + 1) / 2;
+        this.first = new Leaf(fanout);
+        this.root = first;
+        this.height = 1;
+        this.path = new Inner[4];
+        this.pathIndex = new int[4];
+        this.size = 0;
+    }
+
+    /**
+     * The {@code fromSorted} method builds a tree with the default fanout out of an array of elements in ascending
+     * order.
+     *
+     * @see #fromSorted(Comparable[], int)
+     */
+    public static <T extends Comparable<T>> BPlusTree<T> fromSorted(T[] sorted) {
+        return fromSorted(sorted, DEFAULT_FANOUT);
+    }
+
+    /**
+     * The {@code fromSorted} method builds a tree out of an array of elements in ascending order. The leaves are filled
+     * as evenly as possible, and each level of inner nodes is then built over the level below, so no node is ever
+     * split.
+     *
+     * <p> This operation takes {@code O(n)} time as every element is copied into a leaf once.
+     *
+     * @param sorted the elements of the tree in ascending order.
+     * @param fanout the greatest number of children of a node.
+     * @return a tree holding the elements.
+     * @throws NodeAlreadyExistsException if the array holds equal elements.
+     * @throws IllegalArgumentException if the array is not in ascending order.
+     */
+    public static <T extends Comparable<T>> BPlusTree<T> fromSorted(T[] sorted, int fanout) {
+        BPlusTree<T> tree = new BPlusTree<>(fanout);
+
+        for (int i = 1; i < sorted.length; i++) {
+            int comparison = sorted[i].compareTo(sorted[i - 1]);
+
+            if (comparison == 0) {
+                throw new NodeAlreadyExistsException();
+            }
+
+            if (comparison < 0) {
+                throw new IllegalArgumentException("Elements are not in ascending order: " + sorted[i - 1] + ", "
+                        + sorted[i]);
+            }
+        }
+
+        if (sorted.length == 0) {
+            return tree;
+        }
+
+        // Build the leaves, splitting the elements evenly so that every leaf is at least half full
+        int nodeCount = (sorted.length + fanout - 1) / fanout;
+        Node[] level = new Node[nodeCount];
+        Object[] lowKeys = new Object[nodeCount];
+        Leaf previous = null;
+
+        for (int i = 0, from = 0; i < nodeCount; i++) {
+            int to = (int) ((long) sorted.length * (i + 1) / nodeCount);
+            Leaf leaf = new Leaf(fanout);
+
+            System.arraycopy(sorted, from, leaf.keys, 0, to - from);
+            leaf.count = to - from;
+            leaf.prev = previous;
+
+            if (previous != null) {
+                previous.next = leaf;
+            }
+
+            level[i] = leaf;
+            lowKeys[i] = sorted[from];
+            previous = leaf;
+            from = to;
+        }
+
+        tree.first = (Leaf) level[0];
+
+        // Build each level of inner nodes over the one below until a single root is left
+        while (nodeCount > 1) {
+            int parentCount = (nodeCount + fanout - 1) / fanout;
+            Node[] parents = new Node[parentCount];
+            Object[] parentLowKeys = new Object[parentCount];
+
+            for (int i = 0, from = 0; i < parentCount; i++) {
+                int to = (int) ((long) nodeCount * (i + 1) / parentCount);
+                Inner inner = new Inner(fanout);
+
+                System.arraycopy(level, from, inner.children, 0, to - from);
+                System.arraycopy(lowKeys, from + 1, inner.keys, 0, to - from - 1);
+                inner.count = to - from;
+
+                parents[i] = inner;
+                parentLowKeys[i] = lowKeys[from];
+                from = to;
+            }
+
+            level = parents;
+            lowKeys = parentLowKeys;
+            nodeCount = parentCount;
+            tree.height++;
+        }
+
+        tree.root = level[0];
+        tree.size = sorted.length;
+        return tree;
+    }
+
+    /**
+     * The {@code add} method adds an element into the tree.
+     *
+     * <p> This operation takes {@code O(b log_b(n))} time, where {@code b} is the fanout, as the elements of a node
+     * are shifted along to make room. A full node is split in two, and the split can carry up to the root.
+     *
+     * @param t the element which is being added to the tree.
+     * @throws NodeAlreadyExistsException if the element is already in the tree.
+     */
+    public void add(T t) {
+        Objects.requireNonNull(t);
+
+        Leaf leaf = descend(t);
+        int index = search(leaf.keys, leaf.count, t);
+
+        if (index >= 0) {
+            throw new NodeAlreadyExistsException();
+        }
+
+        insertAt(leaf.keys, leaf.count, -index - 1, t);
+        leaf.count++;
+        size++;
+        modCount++;
+
+        if (leaf.count > fanout) {
+            splitLeaf(leaf);
+        }
+    }
+
+    /**
+     * The {@code remove} method removes an element from the tree.
+     *
+     * <p> This operation takes {@code O(b log_b(n))} time, where {@code b} is the fanout. A node which becomes less
+     * than half full borrows an element from a sibling, or is merged with it if the sibling has none to spare, and a
+     * merge can carry up to the root.
+     *
+     * @param t the element which is being removed from the tree.
+     * @return the removed element, otherwise {@code null} if the element is not in the tree.
+     */
+    public T remove(T t) {
+        if (isEmpty()) throw new EmptyTreeException();
+
+        Leaf leaf = descend(t);
+        int index = search(leaf.keys, leaf.count, t);
+
+        if (index < 0) {
+            return null;
+        }
+
+        T removed = key(leaf.keys, index);
+
+        removeAt(leaf.keys, leaf.count, index);
+        leaf.count--;
+        size--;
+        modCount++;
+
+        if (leaf.count < minimum && leaf != root) {
+            rebalanceLeaf(leaf);
+        }
+
+        return removed;
+    }
+
+    /**
+     * The {@code contains} method checks if an element exists in the tree.
+     *
+     * <p> This operation takes {@code O(log(n))} time as a binary search is done in each of the {@code log_b(n)}
+     * nodes on the way down.
+     *
+     * @return {@code true} if the element is in the tree, otherwise {@code false}.
+     */
+    public boolean contains(T t) {
+        Leaf leaf = findLeaf(t);
+
+        return search(leaf.keys, leaf.count, t) >= 0;
+    }
+
+    /**
+     * The {@code peek} method returns the smallest element in the tree. Unlike in a {@code BinarySearchTree}, the root
+     * of a {@code BPlusTree} holds no elements, so the first element of the first leaf is returned instead.
+     *
+     * <p> This operation takes {@code O(1)} time as there is a pointer to the first leaf of the tree.
+     *
+     * @return the smallest element in the tree, otherwise {@code null} if the tree is empty.
+     */
+    public T peek() {
+        if (isEmpty()) return null;
+
+        return key(first.keys, 0);
+    }
+
+    /**
+     * The {@code size} method returns the current size of the tree.
+     *
+     * <p> This operation takes {@code O(1)} time as there is a variable tracking the size of the tree.
+     *
+     * @return the size of the tree.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * The {@code height} method returns the number of levels of the tree, counting the leaves.
+     *
+     * @return the height of the tree.
+     */
+    public int height() {
+        return height;
+    }
+
+    /**
+     * The {@code fanout} method returns the greatest number of children of a node, which is also the greatest number
+     * of elements in a leaf.
+     *
+     * @return the fanout of the tree.
+     */
+    public int fanout() {
+        return fanout;
+    }
+
+    /**
+     * The {@code isEmpty} method checks if the tree currently contains any elements or not.
+     *
+     * <p> This operation takes {@code O(1)} time as there is a variable tracking the size of the tree.
+     *
+     * @return {@code true} if the tree is empty, otherwise {@code false}.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * The {@code iterator} method returns an iterator over every element of the tree in ascending order.
+     *
+     * <p> Each step takes {@code O(1)} time as the iterator walks along the linked leaves.
+     *
+     * @return an ascending iterator over the tree.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new LeafIterator(first, 0, null);
+    }
+
+    /**
+     * The {@code iterator} method returns an iterator over the elements of the tree between two bounds, both
+     * inclusive, in ascending order.
+     *
+     * <p> Creating the iterator takes {@code O(log(n))} time to find the leaf holding the lower bound, and each step
+     * takes {@code O(1)} time as the iterator walks along the linked leaves.
+     *
+     * @param lo the lower bound of the range.
+     * @param hi the upper bound of the range.
+     * @return an ascending iterator over the range, which is empty if the lower bound is greater than the upper bound.
+     */
+    public Iterator<T> iterator(T lo, T hi) {
+        Objects.requireNonNull(hi);
+
+        Leaf leaf = findLeaf(lo);
+        int index = search(leaf.keys, leaf.count, lo);
+
+        return new LeafIterator(leaf, index >= 0 ? index : -index - 1, hi);
+    }
+
+    /**
+     * The {@code findLeaf} method walks from the root down to the leaf where the element belongs without recording
+     * anything, so reads never write to the tree and can run alongside each other.
+     */
+    private Leaf findLeaf(T t) {
+        Node node = root;
+
+        while (node instanceof Inner) {
+            Inner inner = (Inner) node;
+
+            node = inner.children[childIndex(inner, t)];
+        }
+
+        return (Leaf) node;
+    }
+
+    /**
+     * The {@code descend} method walks from the root down to the leaf where the element belongs, recording the inner
+     * nodes passed and the child taken at each of them. The path is kept in fields to avoid allocating on every update,
+     * so it is only used by {@code add} and {@code remove}.
+     */
+    private Leaf descend(T t) {
+        if (path.length < height) {
+            path = Arrays.copyOf(path, height * 2);
+            pathIndex = Arrays.copyOf(pathIndex, height * 2);
+        }
+
+        Node node = root;
+        int depth = 0;
+
+        while (node instanceof Inner) {
+            Inner inner = (Inner) node;
+            int index = childIndex(inner, t);
+
+            path[depth] = inner;
+            pathIndex[depth] = index;
+            depth++;
+            node = inner.children[index];
+        }
+
+        return (Leaf) node;
+    }
+
+    /**
+     * The {@code childIndex} method finds the child of an inner node which covers the element, which is the number of
+     * separators smaller than or equal to the element.
+     */
+    private int childIndex(Inner inner, T t) {
+        int low = 0;
+        int high = inner.count - 2;
+
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+
+            if (t.compareTo(key(inner.keys, middle)) >= 0) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * The {@code search} method does a binary search over the first {@code count} keys.
+     *
+     * @return the index of the element, otherwise {@code -(insertion point) - 1}.
+     */
+    private int search(Object[] keys, int count, T t) {
+        int low = 0;
+        int high = count - 1;
+
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int comparison = t.compareTo(key(keys, middle));
+
+            if (comparison > 0) {
+                low = middle + 1;
+            } else if (comparison < 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+
+        return -(low + 1);
+    }
+
+    /**
+     * The {@code splitLeaf} method moves the upper half of an overfull leaf into a new leaf after it, and adds the
+     * smallest element of the new leaf to the parent as a separator.
+     */
+    private void splitLeaf(Leaf leaf) {
+        Leaf sibling = new Leaf(fanout);
+        int leftCount = leaf.count / 2;
+
+        sibling.count = leaf.count - leftCount;
+        System.arraycopy(leaf.keys, leftCount, sibling.keys, 0, sibling.count);
+        Arrays.fill(leaf.keys, leftCount, leaf.count, null);
+        leaf.count = leftCount;
+
+        sibling.next = leaf.next;
+        sibling.prev = leaf;
+
+        if (leaf.next != null) {
+            leaf.next.prev = sibling;
+        }
+
+        leaf.next = sibling;
+
+        insertIntoParent(height - 2, leaf, sibling.keys[0], sibling);
+    }
+
+    /**
+     * The {@code splitInner} method moves the upper half of the children of an overfull inner node into a new inner
+     * node, and moves the separator between the halves up into the parent.
+     */
+    private void splitInner(int depth, Inner inner) {
+        Inner sibling = new Inner(fanout);
+        int leftCount = inner.count / 2;
+        Object separator = inner.keys[leftCount - 1];
+
+        sibling.count = inner.count - leftCount;
+        System.arraycopy(inner.children, leftCount, sibling.children, 0, sibling.count);
+        System.arraycopy(inner.keys, leftCount, sibling.keys, 0, sibling.count - 1);
+        Arrays.fill(inner.children, leftCount, inner.count, null);
+        Arrays.fill(inner.keys, leftCount - 1, inner.count - 1, null);
+        inner.count = leftCount;
+
+        insertIntoParent(depth - 1, inner, separator, sibling);
+    }
+
+    /**
+     * The {@code insertIntoParent} method adds a new right sibling and the separator before it into the parent of a
+     * node at the given depth, growing a new root if the node was the root.
+     */
+    private void insertIntoParent(int depth, Node node, Object separator, Node sibling) {
+        if (depth < 0) {
+            Inner newRoot = new Inner(fanout);
+
+            newRoot.children[0] = node;
+            newRoot.children[1] = sibling;
+            newRoot.keys[0] = separator;
+            newRoot.count = 2;
+            root = newRoot;
+            height++;
+            return;
+        }
+
+        Inner parent = path[depth];
+        int index = pathIndex[depth];
+
+        insertAt(parent.keys, parent.count - 1, index, separator);
+        insertAt(parent.children, parent.count, index + 1, sibling);
+        parent.count++;
+
+        if (parent.count > fanout) {
+            splitInner(depth, parent);
+        }
+    }
+
+    /**
+     * The {@code rebalanceLeaf} method fixes a leaf which is less than half full, by borrowing an element from a
+     * sibling with the same parent, otherwise by merging with that sibling.
+     */
+    private void rebalanceLeaf(Leaf leaf) {
+        int depth = height - 2;
+        Inner parent = path[depth];
+        int index = pathIndex[depth];
+        Leaf left = index > 0 ? (Leaf) parent.children[index - 1] : null;
+        Leaf right = index < parent.count - 1 ? (Leaf) parent.children[index + 1] : null;
+
+        if (left != null && left.count > minimum) {
+            insertAt(leaf.keys, leaf.count, 0, left.keys[left.count - 1]);
+            leaf.count++;
+            left.keys[--left.count] = null;
+            parent.keys[index - 1] = leaf.keys[0];
+        } else if (right != null && right.count > minimum) {
+            leaf.keys[leaf.count++] = right.keys[0];
+            removeAt(right.keys, right.count, 0);
+            right.count--;
+            parent.keys[index] = right.keys[0];
+        } else if (left != null) {
+            mergeLeaves(left, leaf);
+            removeChild(depth, index);
+        } else {
+            mergeLeaves(leaf, right);
+            removeChild(depth, index + 1);
+        }
+    }
+
+    /**
+     * The {@code rebalanceInner} method fixes an inner node with fewer than half of its children, by borrowing a child
+     * from a sibling with the same parent, otherwise by merging with that sibling. The separators are rotated through
+     * the parent.
+     */
+    private void rebalanceInner(int depth, Inner inner) {
+        Inner parent = path[depth - 1];
+        int index = pathIndex[depth - 1];
+        Inner left = index > 0 ? (Inner) parent.children[index - 1] : null;
+        Inner right = index < parent.count - 1 ? (Inner) parent.children[index + 1] : null;
+
+        if (left != null && left.count > minimum) {
+            insertAt(inner.keys, inner.count - 1, 0, parent.keys[index - 1]);
+            insertAt(inner.children, inner.count, 0, left.children[left.count - 1]);
+            inner.count++;
+            parent.keys[index - 1] = left.keys[left.count - 2];
+            left.keys[left.count - 2] = null;
+            left.children[--left.count] = null;
+        } else if (right != null && right.count > minimum) {
+            inner.keys[inner.count - 1] = parent.keys[index];
+            inner.children[inner.count++] = right.children[0];
+            parent.keys[index] = right.keys[0];
+            removeAt(right.keys, right.count - 1, 0);
+            removeAt(right.children, right.count, 0);
+            right.count--;
+        } else if (left != null) {
+            mergeInners(left, parent.keys[index - 1], inner);
+            removeChild(depth - 1, index);
+        } else {
+            mergeInners(inner, parent.keys[index], right);
+            removeChild(depth - 1, index + 1);
+        }
+    }
+
+    private void mergeLeaves(Leaf left, Leaf right) {
+        System.arraycopy(right.keys, 0, left.keys, left.count, right.count);
+        left.count += right.count;
+        left.next = right.next;
+
+        if (right.next != null) {
+            right.next.prev = left;
+        }
+    }
+
+    private void mergeInners(Inner left, Object separator, Inner right) {
+        left.keys[left.count - 1] = separator;
+        System.arraycopy(right.keys, 0, left.keys, left.count, right.count - 1);
+        System.arraycopy(right.children, 0, left.children, left.count, right.count);
+        left.count += right.count;
+    }
+
+    /**
+     * The {@code removeChild} method removes a merged child, and the separator before it, from an inner node. If the
+     * inner node is the root and has a single child left, the child becomes the root.
+     */
+    private void removeChild(int depth, int childIndex) {
+        Inner inner = path[depth];
+
+        removeAt(inner.keys, inner.count - 1, childIndex - 1);
+        removeAt(inner.children, inner.count, childIndex);
+        inner.count--;
+
+        if (depth == 0) {
+            if (inner.count == 1) {
+                root = inner.children[0];
+                height--;
+            }
+        } else if (inner.count < minimum) {
+            rebalanceInner(depth, inner);
+        }
+    }
+
+    private static void insertAt(Object[] array, int count, int index, Object value) {
+        System.arraycopy(array, index, array, index + 1, count - index);
+        array[index] = value;
+    }
+
+    private static void removeAt(Object[] array, int count, int index) {
+        System.arraycopy(array, index + 1, array, index, count - index - 1);
+        array[count - 1] = null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T key(Object[] keys, int index) {
+        return (T) keys[index];
+    }
+
+    @Override
+    public String toString() {
+        return "BPlusTree{" +
+                "size=" + size +
+                ", height=" + height +
+                ", fanout=" + fanout +
+                '}';
+    }
+
+    private abstract static class Node {
+        int count;
+    }
+
+    /**
+     * A {@code Leaf} holds up to {@code fanout} elements in ascending order, with one extra slot so that a full leaf
+     * can take an element before it is split.
+     */
+    private static final class Leaf extends Node {
+        final Object[] keys;
+        Leaf next;
+        Leaf prev;
+
+        Leaf(int fanout) {
+            keys = new Object[fanout + 1];
+        }
+    }
+
+    /**
+     * An {@code Inner} node holds up to {@code fanout} children, where {@code count} is the number of children and
+     * {@code keys[i]} is the smallest element under {@code children[i + 1]}. There is one extra slot for a child
+     * before the node is split.
+     */
+    private static final class Inner extends Node {
+        final Object[] keys;
+        final Node[] children;
+
+        Inner(int fanout) {
+            keys = new Object[fanout];
+            children = new Node[fanout + 1];
+        }
+    }
+
+    private final class LeafIterator implements Iterator<T> {
+        private final T hi;
+        private Leaf leaf;
+        private int index;
+        private int expectedModCount;
+
+        LeafIterator(Leaf leaf, int index, T hi) {
+            this.leaf = leaf;
+            this.index = index;
+            this.hi = hi;
+            this.expectedModCount = modCount;
+            skipExhaustedLeaf();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return leaf != null && (hi == null || hi.compareTo(key(leaf.keys, index)) >= 0);
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            T t = key(leaf.keys, index++);
+            skipExhaustedLeaf();
+            return t;
+        }
+
+        private void skipExhaustedLeaf() {
+            while (leaf != null && index >= leaf.count) {
+                leaf = leaf.next;
+                index = 0;
+            }
+        }
+    }
+}
@@ -2,7 +2,11 @@ package dev.andrewjfei.tree;
 
 import dev.andrewjfei.exceptions.EmptyTreeException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
 
 /**
  * A {@code Heap} is a tree based data structure where the parent node always has greater "priority" compared to the
@@ -15,6 +19,15 @@ import java.util.List;
  * data structure. For example, we can place a restriction where a node at most can only have two children, this is
  * called a <b>Binary Heap</b>.
  *
+ * <p> The tree is stored level by level in an array, so the children of the node at index {@code i} live at indexes
+ * {@code 2i + 1} and {@code 2i + 2} while its parent lives at index {@code (i - 1) / 2}. The array grows by the growth
+ * factor whenever it is full and is never shrunk implicitly, use {@code trimToSize} to release unused capacity.
+ *
+ * <p> The heap can also be created as a <b>d-ary Heap</b> with an arity of 4 or 8, where the children of the node at
+ * index {@code i} live next to each other at indexes {@code di + 1} to {@code di + d}. A wider node makes the tree
+ * shallower, so {@code poll} visits fewer levels and scans each set of children within one or two cache lines, at the
+ * cost of more comparisons per level.
+ *
  * @see Comparable
  *
  * @author andrewjfei
@@ -23,67 +36,184 @@ import java.util.List;
  */
 public class BinaryHeap<T extends Comparable<T>> {
 
-    private List<T> heap;
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+    private static final double DEFAULT_GROWTH_FACTOR = 1.5;
+
+    // Leave some headroom as some VMs reserve header words in an array
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private T[] heap;
     private int size;
-    private int maxSize;
+    private final double growthFactor;
+
+    // The arity is always a power of two, so children are found by shifting
+    private final int arityShift;
 
     public BinaryHeap() {
-        heap = new ArrayList<>();
+        this(DEFAULT_INITIAL_CAPACITY, DEFAULT_GROWTH_FACTOR);
+    }
+
+    public BinaryHeap(int initialCapacity) {
+        this(initialCapacity, DEFAULT_GROWTH_FACTOR);
+    }
+
+    public BinaryHeap(int initialCapacity, double growthFactor) {
+        this(initialCapacity, growthFactor, 2);
+    }
+
+    public BinaryHeap(int initialCapacity, double growthFactor, int arity) {
+        if (initialCapacity < 0 || initialCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Illegal initial capacity: " + initialCapacity);
+        }
+
+        if (!(growthFactor > 1.0)) {
+            throw new IllegalArgumentException("Illegal growth factor: " + growthFactor);
+        }
+
+        if (arity != 2 && arity != 4 && arity != 8) {
+            throw new IllegalArgumentException("Illegal arity: " + arity);
+        }
+
+        heap = newArray(initialCapacity);
         size = 0;
-        maxSize = 1;
+        this.growthFactor = growthFactor;
+        this.arityShift = Integer.numberOfTrailingZeros(arity);
+    }
+
+    /**
+     * Creates a heap holding all the elements of a collection. The heap is built bottom up with Floyd's method, which
+     * takes {@code O(n)} time rather than the {@code O(n log(n))} time of inserting the elements one by one.
+     *
+     * @param elements the elements which are being added to the heap.
+     */
+    public BinaryHeap(Collection<? extends T> elements) {
+        this(elements.size());
+
+        addAll(elements.toArray());
+    }
+
+    /**
+     * Creates a heap holding all the elements of an array. The heap is built bottom up with Floyd's method, which takes
+     * {@code O(n)} time rather than the {@code O(n log(n))} time of inserting the elements one by one. The array itself
+     * is not modified.
+     *
+     * @param elements the elements which are being added to the heap.
+     */
+    public BinaryHeap(T[] elements) {
+        this(elements.length);
+
+        addAll(elements);
     }
 
     /**
      * The {@code insert} method adds an element into the heap.
      *
      * <p> This operation takes {@code O(log(n))} time as new element is first added the next available position in the
-     * heap. The {@code swim} method is then recursively called until the <b>heap invariant</b> is met.
+     * heap. The {@code swim} method then moves the element up the tree until the <b>heap invariant</b> is met. Growing
+     * the backing array is amortised over the inserts which filled it.
      *
      * @param t the element which is being added to the heap.
      */
     public void insert(T t) {
-        if (size >= maxSize) {
-            maxSize++;
+        if (size == heap.length) {
+            grow(size + 1);
         }
 
-        heap.add(t);
+        swim(size, t);
         size++;
-        swim(size - 1);
+    }
+
+    /**
+     * The {@code insertAll} method adds every element of a collection into the heap.
+     *
+     * <p> If the collection is at least as large as the heap, the elements are appended and the whole heap is rebuilt
+     * with Floyd's method in {@code O(n + m)} time. Otherwise each element swims up on its own, which takes
+     * {@code O(m log(n))} time.
+     *
+     * @param elements the elements which are being added to the heap.
+     */
+    public void insertAll(Collection<? extends T> elements) {
+        int count = elements.size();
+
+        if (count == 0) {
+            return;
+        }
+
+        ensureCapacity(size + count);
+
+        if (count >= size) {
+            addAll(elements.toArray());
+        } else {
+            for (T t : elements) {
+                insert(t);
+            }
+        }
     }
 
     /**
      * The {@code poll} method removes the element at the root of the heap.
      *
-     * <p> This operation takes {@code O(log(n))} time as the root and last indexed elements are first swapped before
-     * the original root element is then removed. The {@code sink} method is then recursively called until the
-     * <b>heap invariant</b> is met.
+     * <p> This operation takes {@code O(log(n))} time as the last indexed element is taken out of the heap and then
+     * sunk from the root, which was left empty by the removed element, until the <b>heap invariant</b> is met.
      *
      * @return the element at the root of the heap.
      */
     public T poll() {
         if (isEmpty()) throw new EmptyTreeException();
 
-        int lastIndex = size - 1;
-        T rootNode = heap.get(0);
+        return removeRoot();
+    }
 
-        heap.set(0, heap.get(lastIndex));
-        heap.set(lastIndex, null);
-        size--;
-        sink(0);
-        return rootNode;
+    /**
+     * The {@code pollBatch} method removes up to {@code k} elements from the root of the heap in priority order. An
+     * empty heap gives an empty list rather than an exception.
+     *
+     * <p> This operation takes {@code O(k log(n))} time as the {@code poll} operation is repeated {@code k} times.
+     *
+     * @param k the maximum number of elements to remove.
+     * @return the removed elements, in the order they were removed.
+     */
+    public List<T> pollBatch(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("Illegal batch size: " + k);
+        }
+
+        List<T> polled = new ArrayList<>(Math.min(k, size));
+        drainTo(polled, k);
+        return polled;
+    }
+
+    /**
+     * The {@code drainTo} method removes up to {@code maxElements} elements from the root of the heap in priority order
+     * and adds them to a collection.
+     *
+     * <p> This operation takes {@code O(k log(n))} time where {@code k} is the number of elements removed.
+     *
+     * @param collection the collection which the elements are added to.
+     * @param maxElements the maximum number of elements to remove.
+     * @return the number of elements removed.
+     */
+    public int drainTo(Collection<? super T> collection, int maxElements) {
+        int count = Math.min(maxElements, size);
+
+        for (int i = 0; i < count; i++) {
+            collection.add(removeRoot());
+        }
+
+        return Math.max(count, 0);
     }
 
     /**
      * The {@code peek} method returns the element at the root of the heap.
      *
-     * <p> This operation takes {@code O(1)} time as the root of the heap is the first element in the heap list.
+     * <p> This operation takes {@code O(1)} time as the root of the heap is the first element in the heap array.
      *
      * @return the element at the root of the heap.
      */
     public T peek() {
         if (isEmpty()) return null;
 
-        return heap.get(0);
+        return heap[0];
     }
 
     /**
@@ -95,8 +225,8 @@ public class BinaryHeap<T extends Comparable<T>> {
      * @return {@code true} if the element is in the heap, otherwise {@code false}.
      */
     public boolean contains(T t) {
-        for (T node : heap) {
-            if (node.equals(t)) {
+        for (int i = 0; i < size; i++) {
+            if (heap[i].equals(t)) {
                 return true;
             }
         }
@@ -104,6 +234,44 @@ public class BinaryHeap<T extends Comparable<T>> {
         return false;
     }
 
+    /**
+     * The {@code removeIf} method removes every element of the heap which matches a filter.
+     *
+     * <p> This operation takes {@code O(n)} time as the remaining elements are moved together at the front of the
+     * array in one pass, and the <b>heap invariant</b> is then restored with Floyd's method, rather than polling and
+     * reinserting them in {@code O(n log(n))} time.
+     *
+     * @param filter the filter which matches the elements to remove.
+     * @return the number of elements removed.
+     */
+    public int removeIf(Predicate<? super T> filter) {
+        Objects.requireNonNull(filter);
+
+        int kept = 0;
+
+        for (int i = 0; i < size; i++) {
+            T t = heap[i];
+
+            if (!filter.test(t)) {
+                heap[kept++] = t;
+            }
+        }
+
+        int removed = size - kept;
+
+        if (removed > 0) {
+            // Release the vacated slots so the elements can be garbage collected
+            Arrays.fill(heap, kept, size, null);
+            size = kept;
+
+            for (int index = (size - 2) >> arityShift; index >= 0; index--) {
+                sink(index, heap[index]);
+            }
+        }
+
+        return removed;
+    }
+
     /**
      * The {@code size} method returns the current size of the heap.
      *
@@ -116,6 +284,28 @@ public class BinaryHeap<T extends Comparable<T>> {
         return size;
     }
 
+    /**
+     * The {@code capacity} method returns the number of elements the heap can hold before its array has to grow.
+     *
+     * <p> This operation takes {@code O(1)} time as it is the length of the backing array.
+     *
+     * @return the capacity of the heap.
+     */
+    public int capacity() {
+        return heap.length;
+    }
+
+    /**
+     * The {@code arity} method returns the maximum number of children each node in the heap can have.
+     *
+     * <p> This operation takes {@code O(1)} time as the arity is fixed when the heap is created.
+     *
+     * @return the arity of the heap.
+     */
+    public int arity() {
+        return 1 << arityShift;
+    }
+
     /**
      * The {@code isEmpty} method checks if the heap currently contains any elements or not.
      *
@@ -128,108 +318,179 @@ public class BinaryHeap<T extends Comparable<T>> {
     }
 
     /**
-     * The {@code swim} method pushes an element up the roots of the tree <b>recursively</b> to ensure the
-     * <b>heap invariant</b> is satisfied.
+     * The {@code ensureCapacity} method grows the heap array so that it can hold at least the given number of elements
+     * without having to grow again.
      *
-     * <p> This operation takes {@code O(log(n))} time as the maximum number of times this method is executed is equal
-     * to the height of the tree.
+     * <p> This operation takes {@code O(n)} time if the array has to grow as the elements are copied across, otherwise
+     * it takes {@code O(1)} time.
      *
-     * @param index the index of the node in the tree which needs to swim.
+     * @param minCapacity the minimum number of elements the heap should be able to hold.
      */
-    private void swim(int index) {
-        // If root node return
-        if (index == 0) {
-            return;
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > heap.length) {
+            grow(minCapacity);
         }
+    }
 
-        int parentIndex = (int) Math.ceil((double) index / 2) - 1;
-        T parentNode = heap.get(parentIndex);
-        T childNode = heap.get(index);
+    /**
+     * The {@code trimToSize} method shrinks the heap array down to the current size of the heap.
+     *
+     * <p> This operation takes {@code O(n)} time as the elements are copied into a smaller array.
+     */
+    public void trimToSize() {
+        if (size < heap.length) {
+            heap = Arrays.copyOf(heap, size);
+        }
+    }
 
-        // 1 = Greater Than, 0 = Equal, -1 = Less Than
-        if (parentNode.compareTo(childNode) < 0) {
+    /**
+     * The {@code removeRoot} method takes the root out of the heap, which must not be empty, and sinks the last element
+     * into its place.
+     *
+     * @return the element at the root of the heap.
+     */
+    private T removeRoot() {
+        T rootNode = heap[0];
+        int lastIndex = --size;
+        T lastNode = heap[lastIndex];
 
-            // Swap nodes in tree
-            heap.set(parentIndex, childNode);
-            heap.set(index, parentNode);
+        // Release the vacated slot so the element can be garbage collected
+        heap[lastIndex] = null;
 
-            // Recursively call swim
-            swim(parentIndex);
+        if (lastIndex > 0) {
+            sink(0, lastNode);
         }
+
+        return rootNode;
     }
 
     /**
-     * The {@code sink} method pushes an element down the roots of the tree <b>recursively</b> to ensure the
-     * <b>heap invariant</b> is satisfied.
-     *
-     * <p> This operation takes {@code O(log(n))} time as the maximum number of times this method is executed is equal
-     * to the height of the tree.
+     * The {@code addAll} method appends the elements to the end of the heap and then restores the
+     * <b>heap invariant</b> with Floyd's method, sinking every parent node from the last one back up to the root. Most
+     * nodes are near the bottom of the tree and only sink a short distance, so this takes {@code O(n)} time.
      *
-     * @param index the index of the node in the tree which needs to sink.
+     * @param elements the elements which are being added to the heap.
      */
-    private void sink(int index) {
-        int leftChildIndex = (index * 2) + 1;
-        int rightChildIndex = (index * 2) + 2;
+    @SuppressWarnings("unchecked")
+    private void addAll(Object[] elements) {
+        for (Object element : elements) {
+            if (element == null) {
+                throw new NullPointerException();
+            }
+        }
 
-        T parentNode = heap.get(index);
-        T leftChildNode = null;
-        T rightChildNode = null;
+        ensureCapacity(size + elements.length);
 
-        // Check if children nodes exist
-        if (leftChildIndex < size) {
-            leftChildNode = heap.get(leftChildIndex);
+        for (Object element : elements) {
+            heap[size++] = (T) element;
         }
 
-        if (rightChildIndex < size) {
-            rightChildNode = heap.get(rightChildIndex);
+        for (int index = (size - 2) >> arityShift; index >= 0; index--) {
+            sink(index, heap[index]);
         }
+    }
 
-        // If no children, return
-        if (leftChildNode == null && rightChildNode == null) {
-            return;
+    /**
+     * The {@code swim} method moves an empty slot, known as the <b>hole</b>, up the tree until the element can be
+     * placed into it without breaking the <b>heap invariant</b>. Each parent with less priority than the element is
+     * moved down into the hole rather than swapped, which halves the number of array writes.
+     *
+     * <p> This operation takes {@code O(log(n))} time as the maximum number of iterations is equal to the height of the
+     * tree.
+     *
+     * @param index the index of the hole in the tree where the element starts.
+     * @param t the element which needs to swim.
+     */
+    private void swim(int index, T t) {
+        while (index > 0) {
+            int parentIndex = (index - 1) >>> arityShift;
+            T parentNode = heap[parentIndex];
+
+            // 1 = Greater Than, 0 = Equal, -1 = Less Than
+            if (parentNode.compareTo(t) >= 0) {
+                break;
+            }
+
+            heap[index] = parentNode;
+            index = parentIndex;
         }
 
-        int sinkChildIndex = -1;
-        T childNode = null;
-
-        if (
-            leftChildNode != null &&
-            rightChildNode != null &&
-            parentNode.compareTo(leftChildNode) < 0 &&
-            parentNode.compareTo(rightChildNode) < 0
-        ) {
-            if (leftChildNode.compareTo(rightChildNode) > 0) {
-                childNode = leftChildNode;
-                sinkChildIndex = leftChildIndex;
-            } else {
-                childNode = rightChildNode;
-                sinkChildIndex = rightChildIndex;
+        heap[index] = t;
+    }
+
+    /**
+     * The {@code sink} method moves an empty slot, known as the <b>hole</b>, down the tree until the element can be
+     * placed into it without breaking the <b>heap invariant</b>. The child with the greatest priority is moved up into
+     * the hole at each level rather than swapped.
+     *
+     * <p> This operation takes {@code O(d log_d(n))} time as the maximum number of iterations is equal to the height of
+     * the tree and all {@code d} children are compared at each level.
+     *
+     * @param index the index of the hole in the tree where the element starts.
+     * @param t the element which needs to sink.
+     */
+    private void sink(int index, T t) {
+        // Nodes after this index have no children
+        int lastParentIndex = (size - 2) >> arityShift;
+
+        while (index <= lastParentIndex) {
+            int childIndex = (index << arityShift) + 1;
+            int lastChildIndex = Math.min(childIndex + (1 << arityShift), size);
+            T childNode = heap[childIndex];
+
+            // Siblings are next to each other in the array
+            for (int siblingIndex = childIndex + 1; siblingIndex < lastChildIndex; siblingIndex++) {
+                T siblingNode = heap[siblingIndex];
+
+                if (childNode.compareTo(siblingNode) < 0) {
+                    childIndex = siblingIndex;
+                    childNode = siblingNode;
+                }
+            }
+
+            if (t.compareTo(childNode) >= 0) {
+                break;
             }
-        } else if (leftChildNode != null && parentNode.compareTo(leftChildNode) < 0) {
-            childNode = leftChildNode;
-            sinkChildIndex = leftChildIndex;
-        } else if (rightChildNode != null && parentNode.compareTo(rightChildNode) < 0) {
-            childNode = rightChildNode;
-            sinkChildIndex = rightChildIndex;
+
+            heap[index] = childNode;
+            index = childIndex;
+        }
+
+        heap[index] = t;
+    }
+
+    /**
+     * The {@code grow} method copies the heap into a larger array, scaled by the growth factor but never smaller than
+     * the requested capacity.
+     *
+     * @param minCapacity the minimum number of elements the new array must be able to hold.
+     */
+    private void grow(int minCapacity) {
+        if (minCapacity < 0 || minCapacity > MAX_CAPACITY) {
+            throw new OutOfMemoryError("Required heap capacity is too large: " + Integer.toUnsignedString(minCapacity));
         }
 
-        // Sink node
-        if (sinkChildIndex > -1) {
-            // Swap nodes in tree
-            heap.set(sinkChildIndex, parentNode);
-            heap.set(index, childNode);
+        int newCapacity = (int) Math.min(MAX_CAPACITY, (long) (heap.length * growthFactor));
 
-            // Recursively call sink
-            sink(sinkChildIndex);
+        if (newCapacity < minCapacity) {
+            newCapacity = minCapacity;
         }
+
+        heap = Arrays.copyOf(heap, newCapacity);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T extends Comparable<T>> T[] newArray(int length) {
+        return (T[]) new Comparable[length];
     }
 
     @Override
     public String toString() {
         return "BinaryHeap{" +
-                "heap=" + heap +
+                "heap=" + Arrays.toString(Arrays.copyOf(heap, size)) +
                 ", size=" + size +
-                ", maxSize=" + maxSize +
+                ", capacity=" + heap.length +
+                ", arity=" + arity() +
                 '}';
     }
 }
@@ -2,163 +2,1057 @@ package dev.andrewjfei.tree;
 
 import dev.andrewjfei.exceptions.EmptyTreeException;
 import dev.andrewjfei.exceptions.NodeAlreadyExistsException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
-public class BinarySearchTree<T extends Comparable<T>> {
+/**
+ * A {@code BinarySearchTree} is a tree based data structure where every node has at most two children, and the left
+ * subtree of a node only holds smaller elements while the right subtree only holds greater elements. Repeated elements
+ * are not allowed.
+ *
+ * <p> An unbalanced tree takes the shape of the order its elements were added in, so adding elements which are already
+ * sorted degrades the tree into a linked list with {@code O(n)} operations. The tree can instead be created in
+ * <b>balanced</b> mode, where it is kept as an <b>AVL Tree</b>. Every node tracks the height of its subtree, and after
+ * each {@code add} or {@code remove} the path back up to the root is walked through the parent pointers, rotating any
+ * node whose subtrees differ in height by more than one. This keeps the height of the tree below
+ * {@code 1.44 log(n)}.
+ *
+ * <p> Every node also tracks the number of nodes in its subtree, which is kept up to date along the same path. This
+ * makes it an <b>Order Statistic Tree</b>, where the rank of an element and the element at a given rank are found in
+ * {@code O(h)} time without visiting the rest of the tree.
+ *
+ * <p> The tree can be walked in order, forwards or backwards and over the whole tree or only a range of it. The
+ * iterators move from node to node through the parent pointers rather than keeping a stack, so they use {@code O(1)}
+ * space and {@code O(1)} amortised time per element. They are <b>fail-fast</b>, and throw a
+ * {@link ConcurrentModificationException} if the tree is changed other than through the iterator itself. The tree can
+ * also be streamed, and its spliterator splits by index using the subtree sizes, so a parallel stream is divided into
+ * equal halves however the tree is shaped.
+ *
+ * <p> Two trees can be combined with {@code union}, {@code intersection} and {@code difference}, which are built out of
+ * {@code split} and {@code join} rather than adding elements one at a time. They move nodes between the trees instead
+ * of copying them, and split the work in two at every level, so large inputs are combined in parallel on the common
+ * {@link ForkJoinPool}.
+ *
+ * @see Comparable
+ *
+ * @author andrewjfei
+ *
+ * @param <T> the data type of the tree which must be {@code Comparable}.
+ */
+public class BinarySearchTree<T extends Comparable<T>> implements Iterable<T> {
 
+    private final boolean balanced;
     private int size;
+    private int modCount;
     private Node<T> root;
 
     public BinarySearchTree() {
+        this(false);
+    }
+
+    public BinarySearchTree(boolean balanced) {
+        this.balanced = balanced;
         size = 0;
     }
 
-    public void add(T t) {
-        Node<T> newNode = new Node<>(t);
+    /**
+     * The {@code fromSorted} method builds an unbalanced mode tree out of an array of elements in ascending order.
+     *
+     * @see #fromSorted(Comparable[], boolean)
+     */
+    public static <T extends Comparable<T>> BinarySearchTree<T> fromSorted(T[] sorted) {
+        return fromSorted(sorted, false);
+    }
 
-        if (isEmpty()) {
-            root = newNode;
-        } else {
-            sink(root, newNode);
+    /**
+     * The {@code fromSorted} method builds a tree out of an array of elements in ascending order. The middle element
+     * becomes the root and each half is built the same way, so the tree is perfectly balanced whichever mode it is in.
+     *
+     * <p> This operation takes {@code O(n)} time as every node is created once and linked to its children, instead of
+     * being sunk from the root by {@code add} in {@code O(n log(n))} time.
+     *
+     * @param sorted the elements of the tree in ascending order.
+     * @param balanced whether the tree is kept balanced afterwards.
+     * @return a tree holding the elements.
+     * @throws NodeAlreadyExistsException if the array holds equal elements.
+     * @throws IllegalArgumentException if the array is not in ascending order.
+     */
+    public static <T extends Comparable<T>> BinarySearchTree<T> fromSorted(T[] sorted, boolean balanced) {
+        return fromSorted(Arrays.asList(sorted).iterator(), sorted.length, balanced);
+    }
+
+    /**
+     * The {@code fromSorted} method builds a tree out of the first {@code size} elements of an iterator, which must
+     * return them in ascending order. The elements are linked into the tree as they are read, so they never need to be
+     * copied into an array first.
+     *
+     * <p> This operation takes {@code O(n)} time as every node is created once and linked to its children, and the
+     * tree is perfectly balanced whichever mode it is in.
+     *
+     * @param sorted the iterator over the elements of the tree in ascending order.
+     * @param size the number of elements to read from the iterator.
+     * @param balanced whether the tree is kept balanced afterwards.
+     * @return a tree holding the elements.
+     * @throws NodeAlreadyExistsException if the iterator returns equal elements.
+     * @throws IllegalArgumentException if the size is negative or the elements are not in ascending order.
+     * @throws NoSuchElementException if the iterator has fewer than {@code size} elements.
+     */
+    public static <T extends Comparable<T>> BinarySearchTree<T> fromSorted(Iterator<? extends T> sorted, int size,
+                                                                           boolean balanced) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Illegal size: " + size);
         }
 
-        size++;
+        BinarySearchTree<T> tree = new BinarySearchTree<>(balanced);
+
+        tree.root = new SortedLoader<T>(sorted).build(size);
+        tree.size = size;
+        return tree;
     }
 
-    // TODO: Fix remove method (method is incorrect)
-    public T remove(T t) {
-        if (isEmpty()) throw new EmptyTreeException();
+    /**
+     * The {@code fromUnsorted} method builds an unbalanced mode tree out of an array of elements in any order.
+     *
+     * @see #fromUnsorted(Comparable[], boolean)
+     */
+    public static <T extends Comparable<T>> BinarySearchTree<T> fromUnsorted(T[] elements) {
+        return fromUnsorted(elements, false);
+    }
 
-        Node<T> deletedNode = find(root, t);
-        T deletedElement = deletedNode.getData();
+    /**
+     * The {@code fromUnsorted} method builds a tree out of an array of elements in any order. A copy of the array is
+     * sorted with {@link Arrays#parallelSort}, and equal elements are dropped so that only the first of them is kept,
+     * just as {@code addIfAbsent} would. The given array is not changed.
+     *
+     * <p> This operation takes {@code O(n log(n))} time to sort the copy, spread over the available cores, and then
+     * {@code O(n)} time to build a perfectly balanced tree.
+     *
+     * @param elements the elements of the tree in any order.
+     * @param balanced whether the tree is kept balanced afterwards.
+     * @return a tree holding the distinct elements.
+     */
+    public static <T extends Comparable<T>> BinarySearchTree<T> fromUnsorted(T[] elements, boolean balanced) {
+        T[] sorted = elements.clone();
+        Arrays.parallelSort(sorted);
 
-        if (deletedNode != null) {
-            // Check if deleted node has children
-            if (deletedNode.getLeftChild() == null && deletedNode.getRightChild() == null) {
-                setFromParent(deletedNode.getParent(), deletedNode, null);
-            } else {
-                Node<T> replacementNode;
+        int distinct = 0;
 
-                if (deletedNode.getLeftChild() != null) {
-                    replacementNode = digRight(deletedNode.getLeftChild());
+        for (T t : sorted) {
+            if (distinct == 0 || t.compareTo(sorted[distinct - 1]) != 0) {
+                sorted[distinct++] = t;
+            }
+        }
 
-                    // Check if replacement node is direct child
-                    if (!deletedNode.getLeftChild().equals(replacementNode)) {
-                    }
+        return fromSorted(Arrays.asList(sorted).iterator(), distinct, balanced);
+    }
 
-                    sink(replacementNode, deletedNode.getRightChild());
-                } else {
-                    replacementNode = digLeft(deletedNode.getRightChild());
-
-                    // Check if replacement node is direct child
-                    if (!deletedNode.getRightChild().equals(replacementNode)) {
-                        replacementNode.setLeftChild(replacementNode.getRightChild());
-                        replacementNode.setRightChild(replacementNode.getParent());
-                    }
-                    replacementNode.setLeftChild(deletedNode.getLeftChild());
-                }
+    /**
+     * The {@code add} method adds an element into the tree.
+     *
+     * <p> This operation takes {@code O(h)} time, where {@code h} is the height of the tree, as the element sinks from
+     * the root down to an empty child position. In balanced mode the height is {@code O(log(n))}.
+     *
+     * @param t the element which is being added to the tree.
+     * @throws NodeAlreadyExistsException if the element is already in the tree.
+     */
+    public void add(T t) {
+        if (sink(t) != null) {
+            throw new NodeAlreadyExistsException();
+        }
+    }
 
-                setFromParent(deletedNode.getParent(), deletedNode, replacementNode);
-                setFromParent(replacementNode.getParent(), replacementNode, null);
-            }
+    /**
+     * The {@code addIfAbsent} method adds an element into the tree unless an equal element is already in it.
+     *
+     * <p> This operation takes {@code O(h)} time, where {@code h} is the height of the tree, as the search and the
+     * insert share a single walk down from the root.
+     *
+     * @param t the element which is being added to the tree.
+     * @return {@code true} if the element was added, otherwise {@code false} if an equal element is in the tree.
+     */
+    public boolean addIfAbsent(T t) {
+        return sink(t) == null;
+    }
+
+    /**
+     * The {@code getOrInsert} method returns the element in the tree which is equal to the given element, adding the
+     * given element first if there is none.
+     *
+     * <p> This operation takes {@code O(h)} time, where {@code h} is the height of the tree, as the search and the
+     * insert share a single walk down from the root.
+     *
+     * @param t the element which is being looked up or added.
+     * @return the element already in the tree, otherwise the given element once it has been added.
+     */
+    public T getOrInsert(T t) {
+        Node<T> existingNode = sink(t);
+
+        return existingNode != null ? existingNode.getData() : t;
+    }
+
+    /**
+     * The {@code remove} method removes an element from the tree.
+     *
+     * <p> This operation takes {@code O(h)} time, where {@code h} is the height of the tree. A node with two children
+     * takes the element of its in-order successor, the smallest node of its right subtree, and the successor is
+     * removed instead. The removed node has at most one child, which takes its place.
+     *
+     * @param t the element which is being removed from the tree.
+     * @return the removed element, otherwise {@code null} if the element is not in the tree.
+     */
+    public T remove(T t) {
+        if (isEmpty()) throw new EmptyTreeException();
 
-            size--;
+        Node<T> deletedNode = find(t);
+
+        if (deletedNode == null) {
+            return null;
         }
 
+        T deletedElement = deletedNode.getData();
+
+        delete(deletedNode);
         return deletedElement;
     }
 
+    /**
+     * The {@code peek} method returns the element at the root of the tree.
+     *
+     * <p> This operation takes {@code O(1)} time as there is a pointer to the root of the tree.
+     *
+     * @return the element at the root of the tree.
+     */
     public T peek() {
         if (isEmpty()) return null;
 
         return root.getData();
     }
 
+    /**
+     * The {@code contains} method checks if an element exists in the tree.
+     *
+     * <p> This operation takes {@code O(h)} time, where {@code h} is the height of the tree, as only one path from the
+     * root is followed.
+     *
+     * @return {@code true} if the element is in the tree, otherwise {@code false}.
+     */
     public boolean contains(T t) {
-        return find(root, t) != null ? true : false;
+        return find(t) != null;
     }
 
+    /**
+     * The {@code size} method returns the current size of the tree.
+     *
+     * <p> This operation takes {@code O(1)} time as there is a variable tracking the size of the tree.
+     *
+     * @return the size of the tree.
+     */
     public int size() {
         return size;
     }
 
+    /**
+     * The {@code height} method returns the number of nodes on the longest path from the root down to a leaf.
+     *
+     * <p> This operation takes {@code O(1)} time as every node tracks the height of its subtree.
+     *
+     * @return the height of the tree, or {@code 0} if the tree is empty.
+     */
+    public int height() {
+        return height(root);
+    }
+
+    /**
+     * The {@code floor} method returns the greatest element in the tree which is smaller than or equal to the given
+     * element.
+     *
+     * <p> This operation takes {@code O(h)} time, where {@code h} is the height of the tree, as only one path from the
+     * root is followed.
+     *
+     * @param t the element which is being looked up.
+     * @return the floor of the element, otherwise {@code null} if there is none.
+     */
+    public T floor(T t) {
+        return data(floorNode(t, true));
+    }
+
+    /**
+     * The {@code lower} method returns the greatest element in the tree which is strictly smaller than the given
+     * element.
+     *
+     * <p> This operation takes {@code O(h)} time, where {@code h} is the height of the tree, as only one path from the
+     * root is followed.
+     *
+     * @param t the element which is being looked up.
+     * @return the next smaller element, otherwise {@code null} if there is none.
+     */
+    public T lower(T t) {
+        return data(floorNode(t, false));
+    }
+
+    /**
+     * The {@code ceiling} method returns the smallest element in the tree which is greater than or equal to the given
+     * element.
+     *
+     * <p> This operation takes {@code O(h)} time, where {@code h} is the height of the tree, as only one path from the
+     * root is followed.
+     *
+     * @param t the element which is being looked up.
+     * @return the ceiling of the element, otherwise {@code null} if there is none.
+     */
+    public T ceiling(T t) {
+        return data(ceilingNode(t, true));
+    }
+
+    /**
+     * The {@code higher} method returns the smallest element in the tree which is strictly greater than the given
+     * element.
+     *
+     * <p> This operation takes {@code O(h)} time, where {@code h} is the height of the tree, as only one path from the
+     * root is followed.
+     *
+     * @param t the element which is being looked up.
+     * @return the next greater element, otherwise {@code null} if there is none.
+     */
+    public T higher(T t) {
+        return data(ceilingNode(t, false));
+    }
+
+    /**
+     * The {@code iterator} method returns an iterator over every element of the tree in ascending order.
+     *
+     * <p> Creating the iterator takes {@code O(h)} time to find the smallest element, and each step takes
+     * {@code O(1)} amortised time.
+     *
+     * @return an ascending iterator over the tree.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new AscendingIterator(root != null ? digLeft(root) : null, null);
+    }
+
+    /**
+     * The {@code iterator} method returns an iterator over the elements of the tree between two bounds, both
+     * inclusive, in ascending order. Elements are visited as the iterator moves, so only the part of the tree in the
+     * range is ever walked.
+     *
+     * <p> Creating the iterator takes {@code O(h)} time to find the first element in the range, and each step takes
+     * {@code O(1)} amortised time.
+     *
+     * @param lo the lower bound of the range.
+     * @param hi the upper bound of the range.
+     * @return an ascending iterator over the range, which is empty if the lower bound is greater than the upper bound.
+     */
+    public Iterator<T> iterator(T lo, T hi) {
+        Objects.requireNonNull(hi);
+
+        return new AscendingIterator(ceilingNode(lo, true), hi);
+    }
+
+    /**
+     * The {@code descendingIterator} method returns an iterator over every element of the tree in descending order.
+     *
+     * <p> Creating the iterator takes {@code O(h)} time to find the greatest element, and each step takes
+     * {@code O(1)} amortised time.
+     *
+     * @return a descending iterator over the tree.
+     */
+    public Iterator<T> descendingIterator() {
+        return new DescendingIterator(root != null ? digRight(root) : null);
+    }
+
+    /**
+     * The {@code spliterator} method returns a spliterator over every element of the tree in ascending order. It
+     * covers a range of indices in sorted order, and splits in half by index, so both halves are always the same size
+     * whatever the shape of the tree. The spliterator is fail-fast, like the iterators.
+     *
+     * <p> Splitting takes {@code O(1)} time, and the first element of each half is found with {@code select} in
+     * {@code O(h)} time, after which each step takes {@code O(1)} amortised time.
+     *
+     * @return an ascending spliterator over the tree.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new RankSpliterator(0, size, root != null ? digLeft(root) : null, modCount);
+    }
+
+    /**
+     * The {@code stream} method returns a sequential stream over every element of the tree in ascending order.
+     *
+     * @return a sequential stream over the tree.
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * The {@code parallelStream} method returns a parallel stream over every element of the tree in ascending order,
+     * which is split evenly across the common {@link ForkJoinPool}.
+     *
+     * @return a parallel stream over the tree.
+     */
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * The {@code rank} method returns the number of elements in the tree which are smaller than the given element. The
+     * element itself does not need to be in the tree.
+     *
+     * <p> This operation takes {@code O(h)} time, where {@code h} is the height of the tree, as the sizes of the left
+     * subtrees passed on the way down are added up.
+     *
+     * @param t the element which is being ranked.
+     * @return the number of smaller elements, which is the index the element has or would have in sorted order.
+     */
+    public int rank(T t) {
+        return countBelow(t, false);
+    }
+
+    /**
+     * The {@code select} method returns the element at the given index in sorted order, so {@code select(0)} is the
+     * smallest element and {@code select(size() - 1)} is the greatest.
+     *
+     * <p> This operation takes {@code O(h)} time, where {@code h} is the height of the tree, as the size of each left
+     * subtree tells which side the index is on.
+     *
+     * @param k the index of the element in sorted order.
+     * @return the element at the index.
+     * @throws IndexOutOfBoundsException if the index is negative or not smaller than the size of the tree.
+     */
+    public T select(int k) {
+        Objects.checkIndex(k, size);
+
+        return selectNode(k).getData();
+    }
+
+    /**
+     * The {@code countInRange} method returns the number of elements in the tree between two bounds, both inclusive.
+     *
+     * <p> This operation takes {@code O(h)} time, where {@code h} is the height of the tree, as it is the difference of
+     * the ranks of the two bounds.
+     *
+     * @param lo the lower bound of the range.
+     * @param hi the upper bound of the range.
+     * @return the number of elements in the range, or {@code 0} if the lower bound is greater than the upper bound.
+     */
+    public int countInRange(T lo, T hi) {
+        if (lo.compareTo(hi) > 0) {
+            return 0;
+        }
+
+        return countBelow(hi, true) - countBelow(lo, false);
+    }
+
+    /**
+     * The {@code percentile} method returns the element at the given percentile with the <b>nearest rank</b> method,
+     * which is the smallest element that is greater than or equal to {@code p} percent of the elements. For example,
+     * {@code percentile(50)} is the median and {@code percentile(99)} is the p99.
+     *
+     * <p> This operation takes {@code O(h)} time, where {@code h} is the height of the tree, as the rank is computed
+     * from the size of the tree and then selected.
+     *
+     * @param p the percentile, from {@code 0} to {@code 100}.
+     * @return the element at the percentile.
+     * @throws IllegalArgumentException if the percentile is not between {@code 0} and {@code 100}.
+     */
+    public T percentile(double p) {
+        if (!(p >= 0 && p <= 100)) {
+            throw new IllegalArgumentException("Illegal percentile: " + p);
+        }
+
+        if (isEmpty()) throw new EmptyTreeException();
+
+        int nearestRank = (int) Math.ceil(p / 100 * size);
+
+        return select(Math.max(nearestRank, 1) - 1);
+    }
+
+    /**
+     * The {@code split} method moves every element which is greater than or equal to the given element out of this
+     * tree and into a new tree, which is in the same mode as this one.
+     *
+     * <p> This operation takes {@code O(h)} time, where {@code h} is the height of the tree, as only the path down to
+     * the given element is cut, and the subtrees hanging off it are joined back together on the way up.
+     *
+     * @param t the element to split the tree at.
+     * @return the tree holding every element which is greater than or equal to {@code t}.
+     */
+    public BinarySearchTree<T> split(T t) {
+        Objects.requireNonNull(t);
+
+        Split<T> split = Joiner.split(root, t);
+        Node<T> upperRoot = split.middle != null ? Joiner.join(null, split.middle, split.right) : split.right;
+        BinarySearchTree<T> upper = new BinarySearchTree<>(balanced);
+
+        replaceRoot(split.left);
+        upper.replaceRoot(upperRoot);
+        return upper;
+    }
+
+    /**
+     * The {@code join} method combines two trees and an element between them into a new tree. Every element of the
+     * left tree must be smaller than the element, and every element of the right tree greater than it. Both trees are
+     * emptied, as their nodes are moved into the new tree, which is balanced if either of them is.
+     *
+     * <p> This operation takes {@code O(|h1 - h2|)} time, where {@code h1} and {@code h2} are the heights of the two
+     * trees, as the shorter tree is hung off the spine of the taller one at the level where their heights match. An
+     * unbalanced mode tree joined with a balanced one is first rebuilt balanced in {@code O(n)} time, as the new tree
+     * could not otherwise be kept balanced.
+     *
+     * @param left the tree of smaller elements.
+     * @param t the element between the two trees.
+     * @param right the tree of greater elements.
+     * @return the tree holding every element of both trees and {@code t}.
+     * @throws IllegalArgumentException if the trees and the element are not in order.
+     */
+    public static <T extends Comparable<T>> BinarySearchTree<T> join(BinarySearchTree<T> left, T t,
+            BinarySearchTree<T> right) {
+        Objects.requireNonNull(t);
+
+        if (!left.isEmpty() && left.digRight(left.root).getData().compareTo(t) >= 0) {
+            throw new IllegalArgumentException("Left tree is not smaller than " + t);
+        }
+
+        if (!right.isEmpty() && right.digLeft(right.root).getData().compareTo(t) <= 0) {
+            throw new IllegalArgumentException("Right tree is not greater than " + t);
+        }
+
+        BinarySearchTree<T> joined = new BinarySearchTree<>(left.balanced || right.balanced);
+
+        if (joined.balanced && !left.balanced) {
+            left.rebuild();
+        }
+
+        if (joined.balanced && !right.balanced) {
+            right.rebuild();
+        }
+
+        joined.replaceRoot(Joiner.join(left.root, new Node<>(t), right.root));
+        left.replaceRoot(null);
+        right.replaceRoot(null);
+        return joined;
+    }
+
+    /**
+     * The {@code union} method adds every element of the other tree into this tree. Where both trees hold an equal
+     * element, the element of this tree is kept. The other tree is emptied, as its nodes are moved into this tree.
+     *
+     * <p> This operation takes {@code O(m log(n / m + 1))} work, where {@code m} is the size of the smaller tree and
+     * {@code n} of the larger, as the other tree is split at the root of this tree and each half is united with the
+     * matching subtree, before the results are joined back together. Once both halves hold enough elements they are
+     * united in parallel on the common {@link ForkJoinPool}.
+     *
+     * @param other the tree whose elements are being added.
+     */
+    public void union(BinarySearchTree<T> other) {
+        combine(Operation.UNION, other);
+    }
+
+    /**
+     * The {@code intersection} method removes every element of this tree which is not in the other tree. The other
+     * tree is emptied.
+     *
+     * <p> This operation takes {@code O(m log(n / m + 1))} work, where {@code m} is the size of the smaller tree and
+     * {@code n} of the larger, and runs the two halves in parallel once they are large enough, like {@code union}.
+     *
+     * @param other the tree whose elements are being kept.
+     */
+    public void intersection(BinarySearchTree<T> other) {
+        combine(Operation.INTERSECTION, other);
+    }
+
+    /**
+     * The {@code difference} method removes every element of the other tree from this tree. The other tree is
+     * emptied.
+     *
+     * <p> This operation takes {@code O(m log(n / m + 1))} work, where {@code m} is the size of the smaller tree and
+     * {@code n} of the larger, and runs the two halves in parallel once they are large enough, like {@code union}.
+     *
+     * @param other the tree whose elements are being removed.
+     */
+    public void difference(BinarySearchTree<T> other) {
+        combine(Operation.DIFFERENCE, other);
+    }
+
+    /**
+     * The {@code isBalanced} method checks if the tree was created in balanced mode.
+     *
+     * @return {@code true} if the tree is kept balanced, otherwise {@code false}.
+     */
+    public boolean isBalanced() {
+        return balanced;
+    }
+
+    /**
+     * The {@code isEmpty} method checks if the tree currently contains any elements or not.
+     *
+     * <p> This operation takes {@code O(1)} time as there is a variable tracking the size of the tree.
+     *
+     * @return {@code true} if the tree is empty, otherwise {@code false}.
+     */
     public boolean isEmpty() {
         return size == 0 ? true : false;
     }
 
-    private void sink(Node<T> parentNode, Node<T> newNode) {
-        if (newNode == null) {
+    /**
+     * The {@code combine} method replaces this tree with the result of a set operation between it and the other tree,
+     * and empties the other tree. Large enough inputs are combined on the common {@link ForkJoinPool}.
+     */
+    private void combine(Operation operation, BinarySearchTree<T> other) {
+        Objects.requireNonNull(other);
+
+        if (other == this) {
+            if (operation == Operation.DIFFERENCE) {
+                replaceRoot(null);
+            }
+
             return;
         }
 
-        if (parentNode.getData().compareTo(newNode.getData()) > 0) {
-            // If parent left child is null add node, otherwise keep sinking
-            if (parentNode.getLeftChild() == null) {
-                newNode.setParent(parentNode);
-                parentNode.setLeftChild(newNode);
+        // Combining recurses once per level, so an unbalanced mode tree as tall as a list is rebuilt balanced first
+        if (Joiner.isDegenerate(root)) {
+            rebuild();
+        }
+
+        // A balanced tree is joined back together from pieces of both trees, so those must all be balanced as well
+        if (Joiner.isDegenerate(other.root) || balanced && !other.balanced) {
+            other.rebuild();
+        }
+
+        Node<T> combinedRoot = size + other.size >= Joiner.PARALLEL_THRESHOLD
+                ? ForkJoinPool.commonPool().invoke(new SetOperationTask<>(operation, root, other.root))
+                : Joiner.combine(operation, root, other.root);
+
+        replaceRoot(combinedRoot);
+        other.replaceRoot(null);
+    }
+
+    /**
+     * The {@code rebuild} method replaces the tree with a perfectly balanced tree of the same elements in {@code O(n)}
+     * time.
+     */
+    private void rebuild() {
+        replaceRoot(new SortedLoader<T>(iterator()).build(size));
+    }
+
+    private void replaceRoot(Node<T> newRoot) {
+        if (newRoot != null) {
+            newRoot.setParent(null);
+        }
+
+        root = newRoot;
+        size = size(newRoot);
+        modCount++;
+    }
+
+    /**
+     * The {@code sink} method walks down from the root to where the element belongs, comparing against each node only
+     * once. If no equal element is found, a new node is added as a child of the last node visited.
+     *
+     * @param t the element which is being added to the tree.
+     * @return the node holding an equal element, otherwise {@code null} if a new node was added.
+     */
+    private Node<T> sink(T t) {
+        if (t == null) {
+            throw new NullPointerException();
+        }
+
+        if (root == null) {
+            root = new Node<>(t);
+            size++;
+            modCount++;
+            return null;
+        }
+
+        Node<T> parentNode = root;
+        int comparison;
+
+        while (true) {
+            // 1 = Greater Than, 0 = Equal, -1 = Less Than
+            comparison = t.compareTo(parentNode.getData());
+
+            Node<T> childNode;
+
+            if (comparison < 0) {
+                childNode = parentNode.getLeftChild();
+            } else if (comparison > 0) {
+                childNode = parentNode.getRightChild();
             } else {
-                sink(parentNode.getLeftChild(), newNode);
+                return parentNode;
             }
-        } else if (parentNode.getData().compareTo(newNode.getData()) < 0) {
-            // If parent right child is null add node, otherwise keep sinking
-            if (parentNode.getRightChild() == null) {
-                newNode.setParent(parentNode);
-                parentNode.setRightChild(newNode);
-            } else {
-                sink(parentNode.getRightChild(), newNode);
+
+            if (childNode == null) {
+                break;
             }
+
+            parentNode = childNode;
+        }
+
+        Node<T> newNode = new Node<>(t);
+        newNode.setParent(parentNode);
+
+        if (comparison < 0) {
+            parentNode.setLeftChild(newNode);
         } else {
-            throw new NodeAlreadyExistsException();
+            parentNode.setRightChild(newNode);
         }
+
+        size++;
+        modCount++;
+        retrace(parentNode);
+        return null;
     }
 
-    private Node<T> find(Node<T> node, T target) {
-        if (node.getData().compareTo(target) > 0) {
-            // If parent left child is null return null otherwise keep finding
-            if (node.getLeftChild() == null) {
-                return null;
+    /**
+     * The {@code find} method walks down from the root looking for the node which holds the target, comparing against
+     * each node only once.
+     *
+     * @param target the element which is being looked for.
+     * @return the node holding the target, otherwise {@code null} if it is not in the tree.
+     */
+    private Node<T> find(T target) {
+        Node<T> node = root;
+
+        while (node != null) {
+            int comparison = target.compareTo(node.getData());
+
+            if (comparison < 0) {
+                node = node.getLeftChild();
+            } else if (comparison > 0) {
+                node = node.getRightChild();
             } else {
-                return find(node.getLeftChild(), target);
+                return node;
             }
-        } else if (node.getData().compareTo(target) < 0) {
-            // If parent right child is null return null otherwise keep finding
-            if (node.getRightChild() == null) {
-                return null;
+        }
+
+        return null;
+    }
+
+    /**
+     * The {@code delete} method removes a node from the tree. A node with two children takes the element of its
+     * in-order successor, the smallest node of its right subtree, and the successor is removed instead. The removed
+     * node has at most one child, which takes its place.
+     */
+    private void delete(Node<T> deletedNode) {
+        if (deletedNode.getLeftChild() != null && deletedNode.getRightChild() != null) {
+            Node<T> successorNode = digLeft(deletedNode.getRightChild());
+
+            deletedNode.setData(successorNode.getData());
+            deletedNode = successorNode;
+        }
+
+        Node<T> parentNode = deletedNode.getParent();
+        Node<T> replacementNode = deletedNode.getLeftChild() != null
+                ? deletedNode.getLeftChild()
+                : deletedNode.getRightChild();
+
+        setFromParent(parentNode, deletedNode, replacementNode);
+        retrace(parentNode);
+        size--;
+        modCount++;
+    }
+
+    /**
+     * The {@code selectNode} method walks down from the root to the node at the given index in sorted order, using
+     * the size of each left subtree to tell which side the index is on.
+     */
+    private Node<T> selectNode(int k) {
+        Node<T> node = root;
+
+        while (true) {
+            int leftSize = size(node.getLeftChild());
+
+            if (k < leftSize) {
+                node = node.getLeftChild();
+            } else if (k > leftSize) {
+                k -= leftSize + 1;
+                node = node.getRightChild();
             } else {
-                return find(node.getRightChild(), target);
+                return node;
+            }
+        }
+    }
+
+    /**
+     * The {@code floorNode} method finds the node with the greatest element which is smaller than the given element,
+     * or equal to it if inclusive.
+     */
+    private Node<T> floorNode(T t, boolean inclusive) {
+        Node<T> node = root;
+        Node<T> floorNode = null;
+
+        while (node != null) {
+            int comparison = t.compareTo(node.getData());
+
+            if (comparison > 0 || (inclusive && comparison == 0)) {
+                floorNode = node;
+
+                if (comparison == 0) {
+                    break;
+                }
+
+                node = node.getRightChild();
+            } else {
+                node = node.getLeftChild();
+            }
+        }
+
+        return floorNode;
+    }
+
+    /**
+     * The {@code ceilingNode} method finds the node with the smallest element which is greater than the given element,
+     * or equal to it if inclusive.
+     */
+    private Node<T> ceilingNode(T t, boolean inclusive) {
+        Node<T> node = root;
+        Node<T> ceilingNode = null;
+
+        while (node != null) {
+            int comparison = t.compareTo(node.getData());
+
+            if (comparison < 0 || (inclusive && comparison == 0)) {
+                ceilingNode = node;
+
+                if (comparison == 0) {
+                    break;
+                }
+
+                node = node.getLeftChild();
+            } else {
+                node = node.getRightChild();
+            }
+        }
+
+        return ceilingNode;
+    }
+
+    /**
+     * The {@code successor} method finds the node with the next greater element, which is the smallest node of the
+     * right subtree, otherwise the first ancestor reached from a left child.
+     */
+    private Node<T> successor(Node<T> node) {
+        if (node.getRightChild() != null) {
+            return digLeft(node.getRightChild());
+        }
+
+        Node<T> parentNode = node.getParent();
+
+        while (parentNode != null && node == parentNode.getRightChild()) {
+            node = parentNode;
+            parentNode = parentNode.getParent();
+        }
+
+        return parentNode;
+    }
+
+    /**
+     * The {@code predecessor} method finds the node with the next smaller element, which is the greatest node of the
+     * left subtree, otherwise the first ancestor reached from a right child.
+     */
+    private Node<T> predecessor(Node<T> node) {
+        if (node.getLeftChild() != null) {
+            return digRight(node.getLeftChild());
+        }
+
+        Node<T> parentNode = node.getParent();
+
+        while (parentNode != null && node == parentNode.getLeftChild()) {
+            node = parentNode;
+            parentNode = parentNode.getParent();
+        }
+
+        return parentNode;
+    }
+
+    private T data(Node<T> node) {
+        return node != null ? node.getData() : null;
+    }
+
+    /**
+     * The {@code countBelow} method counts the elements which are smaller than the given element, or smaller than or
+     * equal to it if inclusive.
+     */
+    private int countBelow(T t, boolean inclusive) {
+        Node<T> node = root;
+        int count = 0;
+
+        while (node != null) {
+            int comparison = t.compareTo(node.getData());
+
+            if (comparison < 0) {
+                node = node.getLeftChild();
+            } else if (comparison > 0) {
+                count += size(node.getLeftChild()) + 1;
+                node = node.getRightChild();
+            } else {
+                return count + size(node.getLeftChild()) + (inclusive ? 1 : 0);
             }
-        } else {
-            return node;
         }
+
+        return count;
     }
 
     private Node<T> digLeft(Node<T> node) {
-        if (node.getLeftChild() == null) {
-            return node;
+        while (node.getLeftChild() != null) {
+            node = node.getLeftChild();
         }
 
-        return digLeft(node.getLeftChild());
+        return node;
     }
 
     private Node<T> digRight(Node<T> node) {
-        if (node.getRightChild() == null) {
-            return node;
+        while (node.getRightChild() != null) {
+            node = node.getRightChild();
         }
 
-        return digRight(node.getRightChild());
+        return node;
     }
 
+    /**
+     * The {@code setFromParent} method replaces a child of the parent node, or the root if there is no parent, with a
+     * replacement node.
+     */
     private void setFromParent(Node<T> parentNode, Node<T> deletedNode, Node<T> replacementNode) {
         if (replacementNode != null) {
             replacementNode.setParent(parentNode);
         }
 
-        if (parentNode.getLeftChild().equals(deletedNode)) {
+        if (parentNode == null) {
+            root = replacementNode;
+        } else if (parentNode.getLeftChild() == deletedNode) {
             parentNode.setLeftChild(replacementNode);
         } else {
             parentNode.setRightChild(replacementNode);
         }
     }
 
+    /**
+     * The {@code retrace} method walks from a node back up to the root, updating the height and size of every node
+     * along the way. In balanced mode, any node whose subtrees differ in height by more than one is rotated back into balance.
+     *
+     * <p> This operation takes {@code O(h)} time as it follows the parent pointers up to the root.
+     *
+     * @param node the lowest node whose subtree has changed.
+     */
+    private void retrace(Node<T> node) {
+        while (node != null) {
+            update(node);
+
+            if (balanced) {
+                node = rebalance(node);
+            }
+
+            node = node.getParent();
+        }
+    }
+
+    /**
+     * The {@code rebalance} method rotates a node whose subtrees differ in height by more than one. If the taller
+     * child leans the other way, the child is rotated first, which is known as a double rotation.
+     *
+     * @return the node which has taken the place of the given node.
+     */
+    private Node<T> rebalance(Node<T> node) {
+        int balance = height(node.getLeftChild()) - height(node.getRightChild());
+
+        if (balance > 1) {
+            Node<T> leftChild = node.getLeftChild();
+
+            if (height(leftChild.getLeftChild()) < height(leftChild.getRightChild())) {
+                rotateLeft(leftChild);
+            }
+
+            return rotateRight(node);
+        }
+
+        if (balance < -1) {
+            Node<T> rightChild = node.getRightChild();
+
+            if (height(rightChild.getRightChild()) < height(rightChild.getLeftChild())) {
+                rotateRight(rightChild);
+            }
+
+            return rotateLeft(node);
+        }
+
+        return node;
+    }
+
+    /**
+     * The {@code rotateLeft} method moves the right child of a node into its place, with the node becoming the left
+     * child of its old right child.
+     *
+     * @return the old right child, which has taken the place of the node.
+     */
+    private Node<T> rotateLeft(Node<T> node) {
+        Node<T> pivotNode = node.getRightChild();
+
+        node.setRightChild(pivotNode.getLeftChild());
+
+        if (pivotNode.getLeftChild() != null) {
+            pivotNode.getLeftChild().setParent(node);
+        }
+
+        setFromParent(node.getParent(), node, pivotNode);
+        pivotNode.setLeftChild(node);
+        node.setParent(pivotNode);
+
+        update(node);
+        update(pivotNode);
+        return pivotNode;
+    }
+
+    /**
+     * The {@code rotateRight} method moves the left child of a node into its place, with the node becoming the right
+     * child of its old left child.
+     *
+     * @return the old left child, which has taken the place of the node.
+     */
+    private Node<T> rotateRight(Node<T> node) {
+        Node<T> pivotNode = node.getLeftChild();
+
+        node.setLeftChild(pivotNode.getRightChild());
+
+        if (pivotNode.getRightChild() != null) {
+            pivotNode.getRightChild().setParent(node);
+        }
+
+        setFromParent(node.getParent(), node, pivotNode);
+        pivotNode.setRightChild(node);
+        node.setParent(pivotNode);
+
+        update(node);
+        update(pivotNode);
+        return pivotNode;
+    }
+
+    private static <T> void update(Node<T> node) {
+        node.setHeight(1 + Math.max(height(node.getLeftChild()), height(node.getRightChild())));
+        node.setSize(1 + size(node.getLeftChild()) + size(node.getRightChild()));
+    }
+
+    private static int height(Node<?> node) {
+        return node != null ? node.getHeight() : 0;
+    }
+
+    private static int size(Node<?> node) {
+        return node != null ? node.getSize() : 0;
+    }
+
     @Override
     public String toString() {
         return "BinarySearchTree{" +
@@ -167,14 +1061,578 @@ public class BinarySearchTree<T extends Comparable<T>> {
                 '}';
     }
 
-    private class Node<T> {
+    /**
+     * A {@code NodeIterator} walks the tree one node at a time by following the parent pointers. Removing through the
+     * iterator is allowed, and keeps the iterator valid.
+     */
+    private abstract class NodeIterator implements Iterator<T> {
+        Node<T> nextNode;
+        Node<T> lastReturned;
+        int expectedModCount;
+
+        NodeIterator(Node<T> first) {
+            nextNode = first;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextNode != null;
+        }
+
+        @Override
+        public T next() {
+            Node<T> node = nextNode;
+
+            if (node == null) {
+                throw new NoSuchElementException();
+            }
+
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            nextNode = advance(node);
+            lastReturned = node;
+            return node.getData();
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            // A node with two children takes the element of its successor, so in ascending order it is visited again
+            if (nextNode != null && nextNode == successorIfCopied(lastReturned)) {
+                nextNode = lastReturned;
+            }
+
+            delete(lastReturned);
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        private Node<T> successorIfCopied(Node<T> node) {
+            return node.getLeftChild() != null && node.getRightChild() != null ? successor(node) : null;
+        }
+
+        abstract Node<T> advance(Node<T> node);
+    }
+
+    private final class AscendingIterator extends NodeIterator {
+        private final T hi;
+
+        AscendingIterator(Node<T> first, T hi) {
+            super(first != null && hi != null && hi.compareTo(first.getData()) < 0 ? null : first);
+            this.hi = hi;
+        }
+
+        @Override
+        Node<T> advance(Node<T> node) {
+            Node<T> successorNode = successor(node);
+
+            if (successorNode != null && hi != null && hi.compareTo(successorNode.getData()) < 0) {
+                return null;
+            }
+
+            return successorNode;
+        }
+    }
+
+    private final class DescendingIterator extends NodeIterator {
+
+        DescendingIterator(Node<T> first) {
+            super(first);
+        }
+
+        @Override
+        Node<T> advance(Node<T> node) {
+            return predecessor(node);
+        }
+    }
+
+    /**
+     * A {@code RankSpliterator} covers the elements from index {@code index}, inclusive, up to index {@code fence},
+     * exclusive, in sorted order. The node at {@code index} is only found once the spliterator starts traversing, so
+     * splitting never walks the tree.
+     */
+    private final class RankSpliterator implements Spliterator<T> {
+        private int index;
+        private final int fence;
+        private Node<T> nextNode;
+        private final int expectedModCount;
+
+        RankSpliterator(int index, int fence, Node<T> nextNode, int expectedModCount) {
+            this.index = index;
+            this.fence = fence;
+            this.nextNode = nextNode;
+            this.expectedModCount = expectedModCount;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+
+            if (index >= fence) {
+                return false;
+            }
+
+            Node<T> node = locate();
+
+            nextNode = successor(node);
+            index++;
+            action.accept(node.getData());
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+
+            if (index >= fence) {
+                return;
+            }
+
+            Node<T> node = locate();
+
+            for (int remaining = fence - index; remaining > 0; remaining--) {
+                action.accept(node.getData());
+                node = successor(node);
+            }
+
+            nextNode = node;
+            index = fence;
+
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int middle = (index + fence) >>> 1;
+
+            if (middle <= index) {
+                return null;
+            }
+
+            // The lower half keeps the node already found, and this spliterator finds its new first node when needed
+            Spliterator<T> lowerHalf = new RankSpliterator(index, middle, nextNode, expectedModCount);
+
+            index = middle;
+            nextNode = null;
+            return lowerHalf;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SORTED | DISTINCT | SIZED | SUBSIZED | NONNULL;
+        }
+
+        @Override
+        public Comparator<? super T> getComparator() {
+            return null;
+        }
+
+        private Node<T> locate() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            if (nextNode == null) {
+                nextNode = selectNode(index);
+            }
+
+            return nextNode;
+        }
+    }
+
+    /**
+     * A {@code SortedLoader} builds a perfectly balanced subtree in order, so the left subtree is built out of the
+     * first half of the elements before the root is read, and the right subtree out of the rest. Each element is
+     * checked against the one before it.
+     *
+     * @param <T> the data type of the elements.
+     */
+    private static final class SortedLoader<T extends Comparable<T>> {
+        private final Iterator<? extends T> iterator;
+        private T previous;
+
+        private SortedLoader(Iterator<? extends T> iterator) {
+            this.iterator = iterator;
+        }
+
+        private Node<T> build(int count) {
+            if (count == 0) {
+                return null;
+            }
+
+            int leftCount = (count - 1) >>> 1;
+            Node<T> leftChild = build(leftCount);
+            Node<T> node = new Node<>(read());
+            Node<T> rightChild = build(count - 1 - leftCount);
+
+            node.setLeftChild(leftChild);
+            node.setRightChild(rightChild);
+
+            if (leftChild != null) {
+                leftChild.setParent(node);
+            }
+
+            if (rightChild != null) {
+                rightChild.setParent(node);
+            }
+
+            node.setHeight(1 + Math.max(leftChild != null ? leftChild.getHeight() : 0,
+                    rightChild != null ? rightChild.getHeight() : 0));
+            node.setSize(count);
+            return node;
+        }
+
+        private T read() {
+            T t = Objects.requireNonNull(iterator.next());
+
+            if (previous != null) {
+                int comparison = t.compareTo(previous);
+
+                if (comparison == 0) {
+                    throw new NodeAlreadyExistsException();
+                }
+
+                if (comparison < 0) {
+                    throw new IllegalArgumentException("Elements are not in ascending order: " + previous + ", " + t);
+                }
+            }
+
+            previous = t;
+            return t;
+        }
+    }
+
+    private enum Operation {
+        UNION,
+        INTERSECTION,
+        DIFFERENCE
+    }
+
+    /**
+     * A {@code Split} holds the result of splitting a subtree at an element, which is the subtree of smaller elements,
+     * the node holding an equal element if there is one, and the subtree of greater elements.
+     *
+     * @param <T> the data type of the elements.
+     */
+    private static final class Split<T> {
+        private Node<T> left;
+        private final Node<T> middle;
+        private Node<T> right;
+
+        private Split(Node<T> left, Node<T> middle, Node<T> right) {
+            this.left = left;
+            this.middle = middle;
+            this.right = right;
+        }
+    }
+
+    /**
+     * A {@code Joiner} holds the <b>join based</b> algorithms, where every operation on two trees is built out of
+     * {@code join}, which combines two AVL trees and an element between them into one AVL tree, and {@code split}.
+     * The algorithms work on detached subtrees and move their nodes rather than copying them. Only the parent pointers
+     * of the children being linked are set, so the caller must detach the root of the result.
+     */
+    private static final class Joiner {
+        private static final int PARALLEL_THRESHOLD = 1 << 13;
+
+        private Joiner() {
+        }
+
+        /**
+         * The {@code combine} method splits the other subtree at the root of this subtree, combines the halves with
+         * the matching children, and joins the two results back together, with or without the root depending on the
+         * operation. If the subtrees are large enough, the left halves are combined in a forked task.
+         */
+        private static <T extends Comparable<T>> Node<T> combine(Operation operation, Node<T> node, Node<T> other) {
+            if (node == null) {
+                return operation == Operation.UNION ? other : null;
+            }
+
+            if (other == null) {
+                return operation == Operation.INTERSECTION ? null : node;
+            }
+
+            boolean parallel = size(node) + size(other) >= PARALLEL_THRESHOLD;
+            Node<T> leftChild = node.getLeftChild();
+            Node<T> rightChild = node.getRightChild();
+            Split<T> split = split(other, node.getData());
+            Node<T> left;
+            Node<T> right;
+
+            if (parallel) {
+                SetOperationTask<T> task = new SetOperationTask<>(operation, leftChild, split.left);
+
+                task.fork();
+                right = combine(operation, rightChild, split.right);
+                left = task.join();
+            } else {
+                left = combine(operation, leftChild, split.left);
+                right = combine(operation, rightChild, split.right);
+            }
+
+            boolean isKept = operation == Operation.UNION
+                    || (operation == Operation.INTERSECTION) == (split.middle != null);
+
+            return isKept ? join(left, node, right) : join(left, right);
+        }
+
+        /**
+         * The {@code split} method cuts the path down to the given element, and joins the subtrees hanging off the left
+         * of the path into the smaller half, and those hanging off the right into the greater half. The path is
+         * recorded on the way down and joined from the bottom up, so a tall unbalanced tree does not overflow the
+         * stack.
+         */
+        private static <T extends Comparable<T>> Split<T> split(Node<T> node, T t) {
+            List<Node<T>> path = new ArrayList<>();
+            Node<T> middle = null;
+
+            while (node != null) {
+                int comparison = t.compareTo(node.getData());
+
+                if (comparison == 0) {
+                    middle = node;
+                    break;
+                }
+
+                path.add(node);
+                node = comparison < 0 ? node.getLeftChild() : node.getRightChild();
+            }
+
+            Split<T> split = middle != null
+                    ? new Split<>(middle.getLeftChild(), middle, middle.getRightChild())
+                    : new Split<>(null, null, null);
+
+            for (int i = path.size() - 1; i >= 0; i--) {
+                Node<T> pathNode = path.get(i);
+
+                // The path went left of a node greater than the element, so the node joins the greater half
+                if (t.compareTo(pathNode.getData()) < 0) {
+                    split.right = join(split.right, pathNode, pathNode.getRightChild());
+                } else {
+                    split.left = join(pathNode.getLeftChild(), pathNode, split.left);
+                }
+            }
+
+            return split;
+        }
+
+        /**
+         * The {@code join} method joins two subtrees without an element between them, by taking the greatest node of
+         * the left subtree out to put between them.
+         */
+        private static <T> Node<T> join(Node<T> left, Node<T> right) {
+            if (left == null) {
+                return right;
+            }
+
+            if (right == null) {
+                return left;
+            }
+
+            Split<T> split = splitLast(left);
+
+            return join(split.left, split.middle, right);
+        }
+
+        /**
+         * The {@code join} method makes a node the parent of two subtrees. If their heights differ by more than one,
+         * the node and the shorter subtree are hung off the spine of the taller subtree where the heights match, and
+         * the spine is rebalanced on the way back up.
+         */
+        private static <T> Node<T> join(Node<T> left, Node<T> node, Node<T> right) {
+            if (height(left) > height(right) + 1) {
+                return joinRight(left, node, right);
+            }
+
+            if (height(right) > height(left) + 1) {
+                return joinLeft(left, node, right);
+            }
+
+            return link(left, node, right);
+        }
+
+        /**
+         * The {@code joinRight} method walks down the right spine of the taller left subtree to the first node which is
+         * at most one taller than the right subtree, links it under the joining node, and rebalances the spine from
+         * the bottom up.
+         */
+        private static <T> Node<T> joinRight(Node<T> left, Node<T> node, Node<T> right) {
+            List<Node<T>> spine = new ArrayList<>();
+            Node<T> spineNode = left;
+
+            while (height(spineNode) > height(right) + 1) {
+                spine.add(spineNode);
+                spineNode = spineNode.getRightChild();
+            }
+
+            Node<T> joined = link(spineNode, node, right);
+
+            for (int i = spine.size() - 1; i >= 0; i--) {
+                Node<T> parentNode = spine.get(i);
+
+                joined = balance(link(parentNode.getLeftChild(), parentNode, joined));
+            }
+
+            return joined;
+        }
+
+        private static <T> Node<T> joinLeft(Node<T> left, Node<T> node, Node<T> right) {
+            List<Node<T>> spine = new ArrayList<>();
+            Node<T> spineNode = right;
+
+            while (height(spineNode) > height(left) + 1) {
+                spine.add(spineNode);
+                spineNode = spineNode.getLeftChild();
+            }
+
+            Node<T> joined = link(left, node, spineNode);
+
+            for (int i = spine.size() - 1; i >= 0; i--) {
+                Node<T> parentNode = spine.get(i);
+
+                joined = balance(link(joined, parentNode, parentNode.getRightChild()));
+            }
+
+            return joined;
+        }
+
+        /**
+         * The {@code splitLast} method takes the greatest node out of a subtree, by walking down its right spine and
+         * joining the left subtrees of the spine back together from the bottom up.
+         */
+        private static <T> Split<T> splitLast(Node<T> node) {
+            List<Node<T>> spine = new ArrayList<>();
+
+            while (node.getRightChild() != null) {
+                spine.add(node);
+                node = node.getRightChild();
+            }
+
+            Split<T> split = new Split<>(node.getLeftChild(), node, null);
+
+            for (int i = spine.size() - 1; i >= 0; i--) {
+                Node<T> spineNode = spine.get(i);
+
+                split.left = join(spineNode.getLeftChild(), spineNode, split.left);
+            }
+
+            return split;
+        }
+
+        /**
+         * The {@code isDegenerate} method checks if a subtree is much taller than a balanced tree of the same size,
+         * which only happens in unbalanced mode. {@code combine} recurses once per level of a subtree, so a degenerate
+         * subtree is rebuilt before it is combined.
+         */
+        private static boolean isDegenerate(Node<?> node) {
+            return height(node) > 4 * (32 - Integer.numberOfLeadingZeros(size(node)));
+        }
+
+        private static <T> Node<T> balance(Node<T> node) {
+            int balance = height(node.getLeftChild()) - height(node.getRightChild());
+
+            if (balance > 1) {
+                Node<T> leftChild = node.getLeftChild();
+
+                if (height(leftChild.getLeftChild()) < height(leftChild.getRightChild())) {
+                    link(rotateLeft(leftChild), node, node.getRightChild());
+                }
+
+                return rotateRight(node);
+            }
+
+            if (balance < -1) {
+                Node<T> rightChild = node.getRightChild();
+
+                if (height(rightChild.getRightChild()) < height(rightChild.getLeftChild())) {
+                    link(node.getLeftChild(), node, rotateRight(rightChild));
+                }
+
+                return rotateLeft(node);
+            }
+
+            return node;
+        }
+
+        private static <T> Node<T> rotateLeft(Node<T> node) {
+            Node<T> pivotNode = node.getRightChild();
+
+            link(node.getLeftChild(), node, pivotNode.getLeftChild());
+            return link(node, pivotNode, pivotNode.getRightChild());
+        }
+
+        private static <T> Node<T> rotateRight(Node<T> node) {
+            Node<T> pivotNode = node.getLeftChild();
+
+            link(pivotNode.getRightChild(), node, node.getRightChild());
+            return link(pivotNode.getLeftChild(), pivotNode, node);
+        }
+
+        private static <T> Node<T> link(Node<T> left, Node<T> node, Node<T> right) {
+            node.setLeftChild(left);
+            node.setRightChild(right);
+
+            if (left != null) {
+                left.setParent(node);
+            }
+
+            if (right != null) {
+                right.setParent(node);
+            }
+
+            update(node);
+            return node;
+        }
+    }
+
+    // A task is never serialized, it is only Serializable because ForkJoinTask is
+    @SuppressWarnings("serial")
+    private static final class SetOperationTask<T extends Comparable<T>> extends RecursiveTask<Node<T>> {
+        private final Operation operation;
+        private final Node<T> node;
+        private final Node<T> other;
+
+        private SetOperationTask(Operation operation, Node<T> node, Node<T> other) {
+            this.operation = operation;
+            this.node = node;
+            this.other = other;
+        }
+
+        @Override
+        protected Node<T> compute() {
+            return Joiner.combine(operation, node, other);
+        }
+    }
+
+    private static class Node<T> {
         private T data;
-        private Node parent;
-        private Node leftChild;
-        private Node rightChild;
+        private Node<T> parent;
+        private Node<T> leftChild;
+        private Node<T> rightChild;
+        private int height;
+        private int size;
 
         public Node(T data) {
             this.data = data;
+            this.height = 1;
+            this.size = 1;
         }
 
         public T getData() {
@@ -185,30 +1643,46 @@ public class BinarySearchTree<T extends Comparable<T>> {
             this.data = data;
         }
 
-        public Node getParent() {
+        public Node<T> getParent() {
             return parent;
         }
 
-        public void setParent(Node parent) {
+        public void setParent(Node<T> parent) {
             this.parent = parent;
         }
 
-        public Node getLeftChild() {
+        public Node<T> getLeftChild() {
             return leftChild;
         }
 
-        public void setLeftChild(Node leftChild) {
+        public void setLeftChild(Node<T> leftChild) {
             this.leftChild = leftChild;
         }
 
-        public Node getRightChild() {
+        public Node<T> getRightChild() {
             return rightChild;
         }
 
-        public void setRightChild(Node rightChild) {
+        public void setRightChild(Node<T> rightChild) {
             this.rightChild = rightChild;
         }
 
+        public int getHeight() {
+            return height;
+        }
+
+        public void setHeight(int height) {
+            this.height = height;
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        public void setSize(int size) {
+            this.size = size;
+        }
+
         @Override
         public String toString() {
             return "Node{" +
@@ -0,0 +1,261 @@
+package dev.andrewjfei.tree;
+
+import dev.andrewjfei.exceptions.EmptyTreeException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A {@code ConcurrentBinaryHeap} is a thread safe priority queue which is built out of {@link BinaryHeap} shards, each
+ * guarded by its own lock.
+ *
+ * <p> With a single shard the heap is in <b>strict</b> mode, where every operation locks the one heap and
+ * {@code poll} always returns the element with the greatest priority.
+ *
+ * <p> With more shards the heap is in <b>relaxed</b> mode, known as a <b>MultiQueue</b>. An element is inserted into a
+ * random shard whose lock is free. {@code poll} looks at the roots of two random shards and removes the greater one, so
+ * threads rarely contend for the same lock. The polled element is not always the greatest in the whole heap, but it is
+ * expected to rank close to the top. Using a few shards per thread keeps contention low.
+ *
+ * @see BinaryHeap
+ *
+ * @author andrewjfei
+ *
+ * @param <T> the data type of the list which must be {@code Comparable}.
+ */
+public class ConcurrentBinaryHeap<T extends Comparable<T>> {
+
+    private final Shard<T>[] shards;
+    private final AtomicInteger size;
+
+    public ConcurrentBinaryHeap() {
+        this(1);
+    }
+
+    public ConcurrentBinaryHeap(int shardCount) {
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException("Illegal shard count: " + shardCount);
+        }
+
+        shards = Shard.newArray(shardCount);
+
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard<>();
+        }
+
+        size = new AtomicInteger();
+    }
+
+    /**
+     * The {@code insert} method adds an element into the heap.
+     *
+     * <p> This operation takes {@code O(log(n))} time as the element swims up the shard it is inserted into. In relaxed
+     * mode a random shard is picked, and another one is tried if its lock is taken.
+     *
+     * @param t the element which is being added to the heap.
+     */
+    public void insert(T t) {
+        if (t == null) {
+            throw new NullPointerException();
+        }
+
+        Shard<T> shard;
+
+        if (isStrict()) {
+            shard = shards[0];
+            shard.lock.lock();
+        } else {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+
+            do {
+                shard = shards[random.nextInt(shards.length)];
+            } while (!shard.lock.tryLock());
+        }
+
+        try {
+            shard.heap.insert(t);
+            shard.top = shard.heap.peek();
+            size.incrementAndGet();
+        } finally {
+            shard.lock.unlock();
+        }
+    }
+
+    /**
+     * The {@code poll} method removes an element from the root of one of the shards. In strict mode this is always the
+     * element with the greatest priority.
+     *
+     * <p> This operation takes {@code O(log(n))} time as the last element of the shard is sunk from its root. In
+     * relaxed mode the better root of two random shards is taken. If both are empty, every shard is checked, and the
+     * heap is only considered empty once its size is zero.
+     *
+     * @return the element at the root of the chosen shard.
+     */
+    public T poll() {
+        if (isStrict()) {
+            T polled = tryPoll(shards[0], true);
+
+            if (polled == null) throw new EmptyTreeException();
+
+            return polled;
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        while (size.get() > 0) {
+            Shard<T> first = shards[random.nextInt(shards.length)];
+            Shard<T> second = shards[random.nextInt(shards.length)];
+            T firstTop = first.top;
+            T secondTop = second.top;
+
+            if (firstTop == null && secondTop == null) {
+                T polled = pollAny(random.nextInt(shards.length));
+
+                if (polled != null) {
+                    return polled;
+                }
+
+                // Every shard looked empty, but an element may have been added behind the walk, so check the size again
+                continue;
+            }
+
+            Shard<T> best = secondTop == null || (firstTop != null && firstTop.compareTo(secondTop) >= 0)
+                    ? first
+                    : second;
+
+            T polled = tryPoll(best, false);
+
+            if (polled != null) {
+                return polled;
+            }
+        }
+
+        throw new EmptyTreeException();
+    }
+
+    /**
+     * The {@code peek} method returns the element with the greatest priority out of the roots of all the shards.
+     *
+     * <p> This operation takes {@code O(s)} time, where {@code s} is the number of shards, as the cached root of every
+     * shard is read without locking. The result may already be out of date when other threads are modifying the heap.
+     *
+     * @return the element with the greatest priority, otherwise {@code null} if the heap is empty.
+     */
+    public T peek() {
+        T best = null;
+
+        for (Shard<T> shard : shards) {
+            T top = shard.top;
+
+            if (top != null && (best == null || top.compareTo(best) > 0)) {
+                best = top;
+            }
+        }
+
+        return best;
+    }
+
+    /**
+     * The {@code size} method returns the current size of the heap.
+     *
+     * <p> This operation takes {@code O(1)} time as there is an atomic counter tracking the size of the heap.
+     *
+     * @return the size of the heap.
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * The {@code isEmpty} method checks if the heap currently contains any elements or not.
+     *
+     * <p> This operation takes {@code O(1)} time as there is an atomic counter tracking the size of the heap.
+     *
+     * @return {@code true} if the heap is empty, otherwise {@code false}.
+     */
+    public boolean isEmpty() {
+        return size.get() == 0;
+    }
+
+    /**
+     * The {@code isStrict} method checks if the heap is in strict mode, where {@code poll} always returns the element
+     * with the greatest priority.
+     *
+     * @return {@code true} if the heap has a single shard, otherwise {@code false}.
+     */
+    public boolean isStrict() {
+        return shards.length == 1;
+    }
+
+    /**
+     * The {@code pollAny} method walks through every shard from a starting shard and polls the first one which is not
+     * empty.
+     *
+     * @return the polled element, otherwise {@code null} if every shard was empty when it was checked.
+     */
+    private T pollAny(int start) {
+        for (int i = 0; i < shards.length; i++) {
+            Shard<T> shard = shards[(start + i) % shards.length];
+
+            if (shard.top != null) {
+                T polled = tryPoll(shard, true);
+
+                if (polled != null) {
+                    return polled;
+                }
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * The {@code tryPoll} method polls the root of a shard, giving up if the shard is empty or, when not blocking, if
+     * its lock is taken.
+     */
+    private T tryPoll(Shard<T> shard, boolean block) {
+        if (block) {
+            shard.lock.lock();
+        } else if (!shard.lock.tryLock()) {
+            return null;
+        }
+
+        try {
+            if (shard.heap.isEmpty()) {
+                return null;
+            }
+
+            T polled = shard.heap.poll();
+            shard.top = shard.heap.peek();
+            size.decrementAndGet();
+            return polled;
+        } finally {
+            shard.lock.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ConcurrentBinaryHeap{" +
+                "shards=" + shards.length +
+                ", size=" + size.get() +
+                '}';
+    }
+
+    /**
+     * A {@code Shard} is one of the heaps the elements are spread across. Its root is cached in a volatile field so
+     * that other threads can compare shards without taking their locks.
+     *
+     * @param <T> the data type of the heap.
+     */
+    private static final class Shard<T extends Comparable<T>> {
+        private final BinaryHeap<T> heap = new BinaryHeap<>();
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile T top;
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private static <T extends Comparable<T>> Shard<T>[] newArray(int length) {
+            return (Shard<T>[]) new Shard[length];
+        }
+    }
+}
@@ -0,0 +1,450 @@
+package dev.andrewjfei.tree;
+
+import dev.andrewjfei.exceptions.NodeAlreadyExistsException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A {@code ConcurrentSkipList} is a thread safe ordered set which can be shared between many threads. Repeated elements
+ * are not allowed.
+ *
+ * <p> A <b>Skip List</b> is a sorted linked list with extra levels of links on top. Every node is on the bottom level,
+ * and each level above holds about half of the nodes of the level below, picked at random, so a search drops down the
+ * levels and skips over most nodes in {@code O(log(n))} expected time. Unlike a balanced tree, a skip list never needs
+ * to be rotated, so a change only touches the links right next to the element.
+ *
+ * <p> This is a <b>Lazy Skip List</b>. {@code contains} takes no locks and never retries, so it is <b>wait-free</b>. A
+ * node is only seen as present once it has been fully linked, and as absent as soon as it has been marked for removal,
+ * so a search can follow links while they are being changed. {@code add} and {@code remove} lock only the nodes right
+ * before the element on each level, check that nothing changed in between, and retry if it did, so writes to
+ * different parts of the list do not block each other.
+ *
+ * <p> Iterators are <b>weakly consistent</b>. They never throw a {@code ConcurrentModificationException}, and return
+ * every element which is present for the whole iteration, but may or may not return elements which are added or
+ * removed while iterating.
+ *
+ * @see BinarySearchTree
+ *
+ * @author andrewjfei
+ *
+ * @param <T> the data type of the list which must be {@code Comparable}.
+ */
+public class ConcurrentSkipList<T extends Comparable<T>> implements Iterable<T> {
+
+    private static final int MAX_LEVEL = 32;
+
+    // Links are read and written through a handle so that a new node is fully set up before other threads can see it
+    private static final VarHandle NEXT = MethodHandles.arrayElementVarHandle(Node[].class);
+
+    private final Node<T> head;
+    private final Node<T> tail;
+    private final LongAdder size;
+
+    public ConcurrentSkipList() {
+        head = new Node<>(null, MAX_LEVEL - 1);
+        tail = new Node<>(null, MAX_LEVEL - 1);
+
+        for (int level = 0; level < MAX_LEVEL; level++) {
+            setNext(head, level, tail);
+        }
+
+        head.fullyLinked = true;
+        tail.fullyLinked = true;
+        size = new LongAdder();
+    }
+
+    /**
+     * The {@code add} method adds an element into the list.
+     *
+     * @param t the element which is being added to the list.
+     * @throws NodeAlreadyExistsException if the element is already in the list.
+     * @see #addIfAbsent(Comparable)
+     */
+    public void add(T t) {
+        if (!addIfAbsent(t)) {
+            throw new NodeAlreadyExistsException();
+        }
+    }
+
+    /**
+     * The {@code addIfAbsent} method adds an element into the list unless an equal element is already in it. Between
+     * threads, this is the safe way to add an element which may already be there.
+     *
+     * <p> This operation takes {@code O(log(n))} expected time. The node is given a random number of levels, and the
+     * node before it on each of those levels is locked while it is linked in.
+     *
+     * @param t the element which is being added to the list.
+     * @return {@code true} if the element was added, otherwise {@code false} if an equal element is in the list.
+     */
+    public boolean addIfAbsent(T t) {
+        Objects.requireNonNull(t);
+
+        int topLevel = randomLevel();
+        Node<T>[] preds = Node.newArray(MAX_LEVEL);
+        Node<T>[] succs = Node.newArray(MAX_LEVEL);
+
+        while (true) {
+            int levelFound = find(t, preds, succs);
+
+            if (levelFound != -1) {
+                Node<T> found = succs[levelFound];
+
+                if (!found.marked) {
+                    // Wait for the other add to finish so that the element is present once this returns
+                    while (!found.fullyLinked) {
+                        Thread.onSpinWait();
+                    }
+
+                    return false;
+                }
+
+                // The equal element is being removed, so try again once it is gone
+                continue;
+            }
+
+            int highestLocked = -1;
+
+            try {
+                boolean valid = true;
+
+                for (int level = 0; valid && level <= topLevel; level++) {
+                    Node<T> pred = preds[level];
+                    Node<T> succ = succs[level];
+
+                    pred.lock.lock();
+                    highestLocked = level;
+                    valid = !pred.marked && !succ.marked && next(pred, level) == succ;
+                }
+
+                if (!valid) {
+                    continue;
+                }
+
+                Node<T> newNode = new Node<>(t, topLevel);
+
+                for (int level = 0; level <= topLevel; level++) {
+                    setNext(newNode, level, succs[level]);
+                }
+
+                for (int level = 0; level <= topLevel; level++) {
+                    setNext(preds[level], level, newNode);
+                }
+
+                newNode.fullyLinked = true;
+                size.increment();
+                return true;
+            } finally {
+                unlock(preds, highestLocked);
+            }
+        }
+    }
+
+    /**
+     * The {@code remove} method removes an element from the list.
+     *
+     * <p> This operation takes {@code O(log(n))} expected time. The node is first marked, which removes it logically,
+     * and then unlinked from each of its levels while the nodes before it are locked.
+     *
+     * @param t the element which is being removed from the list.
+     * @return the removed element, otherwise {@code null} if the element is not in the list.
+     */
+    public T remove(T t) {
+        Objects.requireNonNull(t);
+
+        Node<T>[] preds = Node.newArray(MAX_LEVEL);
+        Node<T>[] succs = Node.newArray(MAX_LEVEL);
+        Node<T> victim = null;
+        boolean isMarked = false;
+        int topLevel = -1;
+
+        while (true) {
+            int levelFound = find(t, preds, succs);
+
+            if (levelFound != -1) {
+                victim = succs[levelFound];
+            }
+
+            // A node can only be removed once it is fully linked, and is found at its top level
+            if (!isMarked && (levelFound == -1 || !victim.fullyLinked || victim.topLevel != levelFound
+                    || victim.marked)) {
+                return null;
+            }
+
+            if (!isMarked) {
+                topLevel = victim.topLevel;
+                victim.lock.lock();
+
+                if (victim.marked) {
+                    victim.lock.unlock();
+                    return null;
+                }
+
+                victim.marked = true;
+                isMarked = true;
+            }
+
+            int highestLocked = -1;
+
+            try {
+                boolean valid = true;
+
+                for (int level = 0; valid && level <= topLevel; level++) {
+                    Node<T> pred = preds[level];
+
+                    pred.lock.lock();
+                    highestLocked = level;
+                    valid = !pred.marked && next(pred, level) == victim;
+                }
+
+                if (!valid) {
+                    continue;
+                }
+
+                for (int level = topLevel; level >= 0; level--) {
+                    setNext(preds[level], level, next(victim, level));
+                }
+
+                victim.lock.unlock();
+                size.decrement();
+                return victim.item;
+            } finally {
+                unlock(preds, highestLocked);
+            }
+        }
+    }
+
+    /**
+     * The {@code contains} method checks if an element exists in the list.
+     *
+     * <p> This operation takes {@code O(log(n))} expected time. It takes no locks and never retries, so it always
+     * finishes no matter what other threads are doing.
+     *
+     * @return {@code true} if the element is in the list, otherwise {@code false}.
+     */
+    public boolean contains(T t) {
+        Node<T> pred = head;
+
+        for (int level = MAX_LEVEL - 1; level >= 0; level--) {
+            Node<T> curr = next(pred, level);
+
+            while (curr != tail) {
+                int comparison = curr.item.compareTo(t);
+
+                if (comparison == 0) {
+                    return curr.fullyLinked && !curr.marked;
+                }
+
+                if (comparison > 0) {
+                    break;
+                }
+
+                pred = curr;
+                curr = next(pred, level);
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * The {@code peek} method returns the smallest element in the list.
+     *
+     * <p> This operation takes {@code O(1)} time, unless it has to skip over nodes which are being added or removed.
+     *
+     * @return the smallest element in the list, otherwise {@code null} if the list is empty.
+     */
+    public T peek() {
+        Node<T> node = firstPresent(next(head, 0));
+
+        return node != tail ? node.item : null;
+    }
+
+    /**
+     * The {@code size} method returns the current size of the list. While other threads are changing the list, the
+     * size is only an estimate.
+     *
+     * <p> This operation takes {@code O(p)} time, where {@code p} is the number of processors, as the size is kept in
+     * striped counters so that writes do not contend on a single counter.
+     *
+     * @return the size of the list.
+     */
+    public int size() {
+        return (int) Math.max(0, size.sum());
+    }
+
+    /**
+     * The {@code isEmpty} method checks if the list currently contains any elements or not.
+     *
+     * @return {@code true} if the list is empty, otherwise {@code false}.
+     */
+    public boolean isEmpty() {
+        return firstPresent(next(head, 0)) == tail;
+    }
+
+    /**
+     * The {@code iterator} method returns a weakly consistent iterator over every element of the list in ascending
+     * order.
+     *
+     * @return an ascending iterator over the list.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new RangeIterator(next(head, 0), null);
+    }
+
+    /**
+     * The {@code range} method returns a weakly consistent iterator over the elements of the list between two bounds,
+     * both inclusive, in ascending order.
+     *
+     * <p> Creating the iterator takes {@code O(log(n))} expected time to find the first element in the range, and
+     * each step takes {@code O(1)} time as the iterator walks along the bottom level.
+     *
+     * @param lo the lower bound of the range.
+     * @param hi the upper bound of the range.
+     * @return an ascending iterator over the range, which is empty if the lower bound is greater than the upper bound.
+     */
+    public Iterator<T> range(T lo, T hi) {
+        Objects.requireNonNull(lo);
+        Objects.requireNonNull(hi);
+
+        Node<T> pred = head;
+
+        for (int level = MAX_LEVEL - 1; level >= 0; level--) {
+            Node<T> curr = next(pred, level);
+
+            while (curr != tail && curr.item.compareTo(lo) < 0) {
+                pred = curr;
+                curr = next(pred, level);
+            }
+        }
+
+        return new RangeIterator(next(pred, 0), hi);
+    }
+
+    /**
+     * The {@code find} method records the last node before the element and the first node from the element onwards on
+     * every level.
+     *
+     * @return the highest level the element was found on, otherwise {@code -1}.
+     */
+    private int find(T t, Node<T>[] preds, Node<T>[] succs) {
+        int levelFound = -1;
+        Node<T> pred = head;
+
+        for (int level = MAX_LEVEL - 1; level >= 0; level--) {
+            Node<T> curr = next(pred, level);
+            int comparison = 1;
+
+            while (curr != tail && (comparison = t.compareTo(curr.item)) > 0) {
+                pred = curr;
+                curr = next(pred, level);
+            }
+
+            if (levelFound == -1 && curr != tail && comparison == 0) {
+                levelFound = level;
+            }
+
+            preds[level] = pred;
+            succs[level] = curr;
+        }
+
+        return levelFound;
+    }
+
+    private Node<T> firstPresent(Node<T> node) {
+        while (node != tail && (node.marked || !node.fullyLinked)) {
+            node = next(node, 0);
+        }
+
+        return node;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Node<T> next(Node<T> node, int level) {
+        return (Node<T>) NEXT.getAcquire(node.next, level);
+    }
+
+    private static <T> void setNext(Node<T> node, int level, Node<T> next) {
+        NEXT.setRelease(node.next, level, next);
+    }
+
+    private void unlock(Node<T>[] preds, int highestLocked) {
+        for (int level = 0; level <= highestLocked; level++) {
+            preds[level].lock.unlock();
+        }
+    }
+
+    /**
+     * The {@code randomLevel} method picks the top level of a new node, where each level is half as likely as the one
+     * below it.
+     */
+    private static int randomLevel() {
+        return Integer.numberOfTrailingZeros(ThreadLocalRandom.current().nextInt() | (1 << (MAX_LEVEL - 1)));
+    }
+
+    @Override
+    public String toString() {
+        return "ConcurrentSkipList{" +
+                "size=" + size() +
+                '}';
+    }
+
+    private static final class Node<T> {
+        private final T item;
+        private final int topLevel;
+        private final Node<T>[] next;
+        private final ReentrantLock lock;
+        private volatile boolean marked;
+        private volatile boolean fullyLinked;
+
+        private Node(T item, int topLevel) {
+            this.item = item;
+            this.topLevel = topLevel;
+            this.next = newArray(topLevel + 1);
+            this.lock = new ReentrantLock();
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private static <T> Node<T>[] newArray(int length) {
+            return (Node<T>[]) new Node[length];
+        }
+    }
+
+    private final class RangeIterator implements Iterator<T> {
+        private final T hi;
+        private Node<T> nextNode;
+
+        private RangeIterator(Node<T> first, T hi) {
+            this.hi = hi;
+            this.nextNode = skip(first);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextNode != tail;
+        }
+
+        @Override
+        public T next() {
+            if (nextNode == tail) {
+                throw new NoSuchElementException();
+            }
+
+            T t = nextNode.item;
+            nextNode = skip(ConcurrentSkipList.next(nextNode, 0));
+            return t;
+        }
+
+        private Node<T> skip(Node<T> node) {
+            node = firstPresent(node);
+
+            return node != tail && hi != null && node.item.compareTo(hi) > 0 ? tail : node;
+        }
+    }
+}
@@ -0,0 +1,332 @@
+package dev.andrewjfei.tree;
+
+import dev.andrewjfei.exceptions.EmptyTreeException;
+import java.util.Arrays;
+
+/**
+ * A {@code DoubleBinaryHeap} is a <b>Max Heap</b> which stores {@code double} keys directly in a {@code double[]}, so no
+ * key is ever boxed and comparisons are plain primitive comparisons instead of calls to {@code compareTo}.
+ *
+ * <p> Each key can optionally carry an {@code int} value, such as a record id, which is stored in a parallel
+ * {@code int[]} and moved together with its key. Neither {@code insert} nor {@code poll} allocate unless the arrays
+ * have to grow.
+ *
+ * <p> {@code NaN} keys are rejected as they cannot be ordered against any other key.
+ *
+ * @see BinaryHeap
+ *
+ * @author andrewjfei
+ */
+public class DoubleBinaryHeap {
+
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private double[] keys;
+    private int[] values;
+    private int size;
+
+    public DoubleBinaryHeap() {
+        this(DEFAULT_INITIAL_CAPACITY, false);
+    }
+
+    public DoubleBinaryHeap(int initialCapacity) {
+        this(initialCapacity, false);
+    }
+
+    public DoubleBinaryHeap(int initialCapacity, boolean withValues) {
+        if (initialCapacity < 0 || initialCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Illegal initial capacity: " + initialCapacity);
+        }
+
+        keys = new double[initialCapacity];
+        values = withValues ? new int[initialCapacity] : null;
+        size = 0;
+    }
+
+    /**
+     * The {@code insert} method adds a key into the heap. If the heap carries values the key is given a value of
+     * {@code 0}.
+     *
+     * <p> This operation takes {@code O(log(n))} time as the key swims up from the next available position in the heap
+     * until the <b>heap invariant</b> is met.
+     *
+     * @param key the key which is being added to the heap.
+     * @throws IllegalArgumentException if the key is {@code NaN}.
+     */
+    public void insert(double key) {
+        checkKey(key);
+
+        if (size == keys.length) {
+            grow(size + 1);
+        }
+
+        swim(size, key, 0);
+        size++;
+    }
+
+    /**
+     * The {@code insert} method adds a key together with its value into the heap.
+     *
+     * <p> This operation takes {@code O(log(n))} time as the key swims up from the next available position in the heap
+     * until the <b>heap invariant</b> is met.
+     *
+     * @param key the key which is being added to the heap.
+     * @param value the value carried by the key.
+     * @throws IllegalArgumentException if the key is {@code NaN}.
+     * @throws IllegalStateException if the heap was not created with values.
+     */
+    public void insert(double key, int value) {
+        checkKey(key);
+
+        if (values == null) {
+            throw new IllegalStateException("Heap was not created with values");
+        }
+
+        if (size == keys.length) {
+            grow(size + 1);
+        }
+
+        swim(size, key, value);
+        size++;
+    }
+
+    /**
+     * The {@code poll} method removes the key at the root of the heap.
+     *
+     * <p> This operation takes {@code O(log(n))} time as the last key is sunk from the root until the
+     * <b>heap invariant</b> is met.
+     *
+     * @return the key at the root of the heap.
+     */
+    public double poll() {
+        if (isEmpty()) throw new EmptyTreeException();
+
+        double rootKey = keys[0];
+        removeRoot();
+        return rootKey;
+    }
+
+    /**
+     * The {@code pollValue} method removes the key at the root of the heap and returns its value instead.
+     *
+     * <p> This operation takes {@code O(log(n))} time as the last key is sunk from the root until the
+     * <b>heap invariant</b> is met.
+     *
+     * @return the value of the key at the root of the heap.
+     * @throws IllegalStateException if the heap was not created with values.
+     */
+    public int pollValue() {
+        int rootValue = peekValue();
+        removeRoot();
+        return rootValue;
+    }
+
+    /**
+     * The {@code peek} method returns the key at the root of the heap.
+     *
+     * <p> This operation takes {@code O(1)} time as the root of the heap is the first key in the array.
+     *
+     * @return the key at the root of the heap.
+     */
+    public double peek() {
+        if (isEmpty()) throw new EmptyTreeException();
+
+        return keys[0];
+    }
+
+    /**
+     * The {@code peekValue} method returns the value of the key at the root of the heap.
+     *
+     * <p> This operation takes {@code O(1)} time as the root of the heap is the first entry in the arrays.
+     *
+     * @return the value of the key at the root of the heap.
+     * @throws IllegalStateException if the heap was not created with values.
+     */
+    public int peekValue() {
+        if (values == null) {
+            throw new IllegalStateException("Heap was not created with values");
+        }
+
+        if (isEmpty()) throw new EmptyTreeException();
+
+        return values[0];
+    }
+
+    /**
+     * The {@code contains} method checks if a key exists in the heap.
+     *
+     * <p> This operation takes {@code O(n)} time as every key in the heap may need to be checked.
+     *
+     * @return {@code true} if the key is in the heap, otherwise {@code false}.
+     */
+    public boolean contains(double key) {
+        for (int i = 0; i < size; i++) {
+            if (keys[i] == key) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * The {@code size} method returns the current size of the heap.
+     *
+     * <p> This operation takes {@code O(1)} time as there is a variable tracking the size of the heap.
+     *
+     * @return the size of the heap.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * The {@code capacity} method returns the number of keys the heap can hold before its arrays have to grow.
+     *
+     * <p> This operation takes {@code O(1)} time as it is the length of the key array.
+     *
+     * @return the capacity of the heap.
+     */
+    public int capacity() {
+        return keys.length;
+    }
+
+    /**
+     * The {@code isEmpty} method checks if the heap currently contains any keys or not.
+     *
+     * <p> This operation takes {@code O(1)} time as there is a variable tracking the size of the heap.
+     *
+     * @return {@code true} if the heap is empty, otherwise {@code false}.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * The {@code clear} method removes every key from the heap while keeping its capacity.
+     *
+     * <p> This operation takes {@code O(1)} time as primitive slots do not need to be released.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * The {@code trimToSize} method shrinks the arrays down to the current size of the heap.
+     *
+     * <p> This operation takes {@code O(n)} time as the keys and values are copied into smaller arrays.
+     */
+    public void trimToSize() {
+        if (size < keys.length) {
+            resize(size);
+        }
+    }
+
+    private void checkKey(double key) {
+        if (Double.isNaN(key)) {
+            throw new IllegalArgumentException("Key must not be NaN");
+        }
+    }
+
+    private void removeRoot() {
+        int lastIndex = --size;
+
+        if (lastIndex > 0) {
+            sink(0, keys[lastIndex], values != null ? values[lastIndex] : 0);
+        }
+    }
+
+    /**
+     * The {@code swim} method moves the hole at the given index up the tree until the key can be placed into it
+     * without breaking the <b>heap invariant</b>.
+     */
+    private void swim(int index, double key, int value) {
+        while (index > 0) {
+            int parentIndex = (index - 1) >>> 1;
+            double parentKey = keys[parentIndex];
+
+            if (parentKey >= key) {
+                break;
+            }
+
+            move(parentIndex, index, parentKey);
+            index = parentIndex;
+        }
+
+        set(index, key, value);
+    }
+
+    /**
+     * The {@code sink} method moves the hole at the given index down the tree until the key can be placed into it
+     * without breaking the <b>heap invariant</b>.
+     */
+    private void sink(int index, double key, int value) {
+        int half = size >>> 1;
+
+        while (index < half) {
+            int childIndex = (index << 1) + 1;
+            double childKey = keys[childIndex];
+            int rightChildIndex = childIndex + 1;
+
+            if (rightChildIndex < size && keys[rightChildIndex] > childKey) {
+                childIndex = rightChildIndex;
+                childKey = keys[rightChildIndex];
+            }
+
+            if (key >= childKey) {
+                break;
+            }
+
+            move(childIndex, index, childKey);
+            index = childIndex;
+        }
+
+        set(index, key, value);
+    }
+
+    private void move(int fromIndex, int toIndex, double key) {
+        keys[toIndex] = key;
+
+        if (values != null) {
+            values[toIndex] = values[fromIndex];
+        }
+    }
+
+    private void set(int index, double key, int value) {
+        keys[index] = key;
+
+        if (values != null) {
+            values[index] = value;
+        }
+    }
+
+    private void grow(int minCapacity) {
+        if (minCapacity < 0 || minCapacity > MAX_CAPACITY) {
+            throw new OutOfMemoryError("Required heap capacity is too large: " + Integer.toUnsignedString(minCapacity));
+        }
+
+        int oldCapacity = keys.length;
+        int newCapacity = (int) Math.min(MAX_CAPACITY, oldCapacity + (long) (oldCapacity >> 1));
+
+        resize(Math.max(newCapacity, minCapacity));
+    }
+
+    private void resize(int capacity) {
+        keys = Arrays.copyOf(keys, capacity);
+
+        if (values != null) {
+            values = Arrays.copyOf(values, capacity);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "DoubleBinaryHeap{" +
+                "keys=" + Arrays.toString(Arrays.copyOf(keys, size)) +
+                (values != null ? ", values=" + Arrays.toString(Arrays.copyOf(values, size)) : "") +
+                ", size=" + size +
+                ", capacity=" + keys.length +
+                '}';
+    }
+}
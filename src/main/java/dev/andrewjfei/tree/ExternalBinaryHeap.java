@@ -0,0 +1,442 @@
+package dev.andrewjfei.tree;
+
+import dev.andrewjfei.exceptions.EmptyTreeException;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An {@code ExternalBinaryHeap} is a <b>Max Heap</b> which can hold more elements than fit in memory by spilling them
+ * to disk.
+ *
+ * <p> New elements are inserted into an in-memory {@link BinaryHeap}. Once it reaches the spill threshold, it is
+ * drained in priority order into a <b>run</b> file, so every run on disk is sorted. {@code poll} then performs a
+ * <b>k-way merge</b>, where a second, small {@code BinaryHeap} holds the head element of each run and the greatest of
+ * those is compared against the root of the in-memory heap.
+ *
+ * <p> Runs are written sequentially through a {@link FileChannel} and read back through read-only
+ * {@link MappedByteBuffer} windows, so reading a run does not copy it onto the Java heap. Elements are converted to and
+ * from bytes by a {@link Serializer}. Each run file is deleted once it has been fully merged, and the heap must be
+ * closed to delete the rest, along with the spill directory if the heap created it.
+ *
+ * @see BinaryHeap
+ *
+ * @author andrewjfei
+ *
+ * @param <T> the data type of the list which must be {@code Comparable}.
+ */
+public class ExternalBinaryHeap<T extends Comparable<T>> implements Closeable {
+
+    private static final int WRITE_BUFFER_SIZE = 1 << 20;
+    private static final int MAPPED_WINDOW_SIZE = 1 << 26;
+
+    private final Serializer<T> serializer;
+    private final int spillThreshold;
+    private final Path directory;
+    private final boolean ownsDirectory;
+    private final BinaryHeap<T> memory;
+    private final BinaryHeap<Run<T>> runs;
+    private final List<Run<T>> openRuns;
+    private ByteBuffer writeBuffer;
+    private long size;
+
+    public ExternalBinaryHeap(Serializer<T> serializer, int spillThreshold) {
+        this(serializer, spillThreshold, createTempDirectory(), true);
+    }
+
+    public ExternalBinaryHeap(Serializer<T> serializer, int spillThreshold, Path directory) {
+        this(serializer, spillThreshold, directory, false);
+    }
+
+    private ExternalBinaryHeap(Serializer<T> serializer, int spillThreshold, Path directory, boolean ownsDirectory) {
+        if (spillThreshold <= 0) {
+            throw new IllegalArgumentException("Illegal spill threshold: " + spillThreshold);
+        }
+
+        this.serializer = serializer;
+        this.spillThreshold = spillThreshold;
+        this.directory = directory;
+        this.ownsDirectory = ownsDirectory;
+        this.memory = new BinaryHeap<>(Math.min(spillThreshold, 1 << 16));
+        this.runs = new BinaryHeap<>();
+        this.openRuns = new ArrayList<>();
+        this.size = 0;
+    }
+
+    /**
+     * The {@code insert} method adds an element into the heap.
+     *
+     * <p> This operation takes {@code O(log(m))} time, where {@code m} is the spill threshold, as the element is
+     * inserted into the in-memory heap. Every {@code m} inserts, the in-memory heap is drained into a new run, which
+     * takes {@code O(m log(m))} time plus the time to write it out.
+     *
+     * @param t the element which is being added to the heap.
+     */
+    public void insert(T t) {
+        memory.insert(t);
+        size++;
+
+        if (memory.size() >= spillThreshold) {
+            spill();
+        }
+    }
+
+    /**
+     * The {@code poll} method removes the element with the greatest priority out of the in-memory heap and all the
+     * runs.
+     *
+     * <p> This operation takes {@code O(log(m) + log(r))} time, where {@code m} is the size of the in-memory heap and
+     * {@code r} is the number of runs, as the chosen root is polled and, for a run, its next element is read and the
+     * run is sunk back into the run heap.
+     *
+     * @return the element with the greatest priority.
+     */
+    public T poll() {
+        if (isEmpty()) throw new EmptyTreeException();
+
+        Run<T> run = runs.peek();
+        T memoryRoot = memory.peek();
+
+        size--;
+
+        if (run == null || (memoryRoot != null && memoryRoot.compareTo(run.head) >= 0)) {
+            return memory.poll();
+        }
+
+        runs.poll();
+
+        T head = run.head;
+
+        if (run.advance()) {
+            runs.insert(run);
+        } else {
+            closeRun(run);
+        }
+
+        return head;
+    }
+
+    /**
+     * The {@code peek} method returns the element with the greatest priority out of the in-memory heap and all the
+     * runs.
+     *
+     * <p> This operation takes {@code O(1)} time as the head elements of the runs are kept in memory.
+     *
+     * @return the element with the greatest priority, otherwise {@code null} if the heap is empty.
+     */
+    public T peek() {
+        Run<T> run = runs.peek();
+        T memoryRoot = memory.peek();
+
+        if (run == null) {
+            return memoryRoot;
+        }
+
+        return memoryRoot != null && memoryRoot.compareTo(run.head) >= 0 ? memoryRoot : run.head;
+    }
+
+    /**
+     * The {@code size} method returns the current size of the heap, both in memory and on disk.
+     *
+     * <p> This operation takes {@code O(1)} time as there is a variable tracking the size of the heap.
+     *
+     * @return the size of the heap.
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * The {@code isEmpty} method checks if the heap currently contains any elements or not.
+     *
+     * <p> This operation takes {@code O(1)} time as there is a variable tracking the size of the heap.
+     *
+     * @return {@code true} if the heap is empty, otherwise {@code false}.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * The {@code runCount} method returns the number of runs on disk which still have elements to merge.
+     *
+     * @return the number of runs.
+     */
+    public int runCount() {
+        return openRuns.size();
+    }
+
+    /**
+     * The {@code spill} method drains the in-memory heap into a new run file, in priority order.
+     *
+     * <p> This operation takes {@code O(m log(m))} time, where {@code m} is the size of the in-memory heap.
+     */
+    public void spill() {
+        if (memory.isEmpty()) {
+            return;
+        }
+
+        if (writeBuffer == null) {
+            writeBuffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE);
+        }
+
+        try {
+            Path file = Files.createTempFile(directory, "run-", ".bin");
+            Run<T> run;
+
+            // A run which could not be written completely is deleted straight away, as nothing would ever read it
+            try {
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                    while (!memory.isEmpty()) {
+                        writeRecord(channel, memory.poll());
+                    }
+
+                    flush(channel);
+                }
+
+                run = new Run<>(file, serializer);
+            } catch (IOException | RuntimeException e) {
+                writeBuffer.clear();
+                deleteAfterFailure(e, file);
+                throw e;
+            }
+
+            openRuns.add(run);
+
+            if (run.advance()) {
+                runs.insert(run);
+            } else {
+                closeRun(run);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * The {@code close} method deletes every run file which has not been fully merged yet, and then the spill directory
+     * if the heap created it. The heap should not be used afterwards.
+     */
+    @Override
+    public void close() {
+        IOException failure = null;
+
+        for (Run<T> run : openRuns) {
+            try {
+                run.close();
+            } catch (IOException e) {
+                failure = e;
+            }
+        }
+
+        openRuns.clear();
+
+        while (!runs.isEmpty()) {
+            runs.poll();
+        }
+
+        size = memory.size();
+
+        if (ownsDirectory && failure == null) {
+            try {
+                Files.deleteIfExists(directory);
+            } catch (IOException e) {
+                failure = e;
+            }
+        }
+
+        if (failure != null) {
+            throw new UncheckedIOException(failure);
+        }
+    }
+
+    private void writeRecord(FileChannel channel, T t) throws IOException {
+        int length = serializer.sizeOf(t);
+        int recordLength = Integer.BYTES + length;
+
+        if (writeBuffer.remaining() < recordLength) {
+            flush(channel);
+
+            if (writeBuffer.capacity() < recordLength) {
+                writeBuffer = ByteBuffer.allocateDirect(recordLength);
+            }
+        }
+
+        writeBuffer.putInt(length);
+
+        int start = writeBuffer.position();
+        serializer.write(t, writeBuffer);
+
+        if (writeBuffer.position() - start != length) {
+            throw new IllegalStateException("Serializer wrote " + (writeBuffer.position() - start)
+                    + " bytes but reported a size of " + length);
+        }
+    }
+
+    private void flush(FileChannel channel) throws IOException {
+        writeBuffer.flip();
+
+        while (writeBuffer.hasRemaining()) {
+            channel.write(writeBuffer);
+        }
+
+        writeBuffer.clear();
+    }
+
+    private void closeRun(Run<T> run) {
+        openRuns.remove(run);
+
+        try {
+            run.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void deleteAfterFailure(Exception failure, Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            failure.addSuppressed(e);
+        }
+    }
+
+    private static Path createTempDirectory() {
+        try {
+            return Files.createTempDirectory("external-heap-");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ExternalBinaryHeap{" +
+                "size=" + size +
+                ", inMemory=" + memory.size() +
+                ", runs=" + openRuns.size() +
+                '}';
+    }
+
+    /**
+     * A {@code Serializer} converts elements to and from the bytes stored in run files.
+     *
+     * @param <T> the data type of the elements.
+     */
+    public interface Serializer<T> {
+
+        /**
+         * Returns the number of bytes {@code write} produces for the element.
+         *
+         * @param t the element which is being written.
+         * @return the size of the element in bytes.
+         */
+        int sizeOf(T t);
+
+        /**
+         * Writes the element at the current position of the buffer, which has room for at least {@code sizeOf(t)}
+         * bytes.
+         *
+         * @param t the element which is being written.
+         * @param buffer the buffer which the element is written to.
+         */
+        void write(T t, ByteBuffer buffer);
+
+        /**
+         * Reads an element from a buffer holding exactly the bytes written for it.
+         *
+         * @param buffer the buffer which the element is read from.
+         * @return the element.
+         */
+        T read(ByteBuffer buffer);
+    }
+
+    /**
+     * A {@code Run} is a sorted file of elements which is read through a sliding memory-mapped window. Runs are ordered
+     * by their head element, so the run heap always has the run with the greatest head at its root.
+     *
+     * @param <T> the data type of the elements.
+     */
+    private static final class Run<T extends Comparable<T>> implements Comparable<Run<T>>, Closeable {
+        private final Path file;
+        private final FileChannel channel;
+        private final Serializer<T> serializer;
+        private final long fileSize;
+        private MappedByteBuffer window;
+        private long windowStart;
+        private long position;
+        private T head;
+
+        private Run(Path file, Serializer<T> serializer) throws IOException {
+            this.file = file;
+            this.channel = FileChannel.open(file, StandardOpenOption.READ);
+            this.serializer = serializer;
+            this.fileSize = channel.size();
+            this.position = 0;
+        }
+
+        /**
+         * Reads the next element of the run into the head.
+         *
+         * @return {@code true} if there was another element, otherwise {@code false} if the run is exhausted.
+         */
+        private boolean advance() {
+            if (position >= fileSize) {
+                head = null;
+                return false;
+            }
+
+            try {
+                map(Integer.BYTES);
+                int length = window.getInt((int) (position - windowStart));
+
+                map(Integer.BYTES + length);
+                int offset = (int) (position - windowStart) + Integer.BYTES;
+
+                head = serializer.read(window.slice(offset, length));
+                position += Integer.BYTES + length;
+                return true;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * Makes sure the mapped window covers the given number of bytes from the current position.
+         */
+        private void map(int length) throws IOException {
+            if (window != null && position + length <= windowStart + window.capacity()) {
+                return;
+            }
+
+            long mappedSize = Math.min(Math.max(MAPPED_WINDOW_SIZE, length), fileSize - position);
+
+            window = channel.map(FileChannel.MapMode.READ_ONLY, position, mappedSize);
+            windowStart = position;
+        }
+
+        @Override
+        public int compareTo(Run<T> other) {
+            return head.compareTo(other.head);
+        }
+
+        @Override
+        public void close() throws IOException {
+            window = null;
+
+            try {
+                channel.close();
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+}
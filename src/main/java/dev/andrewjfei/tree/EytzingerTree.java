@@ -0,0 +1,176 @@
+package dev.andrewjfei.tree;
+
+import java.util.Iterator;
+
+/**
+ * An {@code EytzingerTree} is an immutable copy of a {@link BinarySearchTree} which is packed into an array for fast
+ * lookups.
+ *
+ * <p> The elements are stored in <b>Eytzinger</b> order, which is the order a complete binary search tree is visited in
+ * breadth first. The root is at index {@code 1}, and the children of the node at index {@code k} are at indices
+ * {@code 2k} and {@code 2k + 1}. A search therefore needs no pointers, and the first few levels, which every search
+ * passes through, are packed together at the front of the array where they stay in the cache.
+ *
+ * <p> Each step of a search only decides whether to move to the left or right child, with no early exit on a match, and
+ * the first levels are walked without branches. Once the search has fallen off the bottom of the tree, the path it took
+ * is encoded in the bits of the index, and the answer is found by undoing the last left or right turn.
+ *
+ * <p> A parallel array keeps the position of each element in sorted order, so {@code rank} does not need a second
+ * search.
+ *
+ * @see BinarySearchTree
+ * @see LongEytzingerTree
+ *
+ * @author andrewjfei
+ *
+ * @param <T> the data type of the tree which must be {@code Comparable}.
+ */
+public class EytzingerTree<T extends Comparable<T>> {
+
+    // The first levels of the tree are searched without branches
+    private static final int BRANCHLESS_LIMIT = 1 << 12;
+
+    private final Object[] elements;
+    private final int[] ranks;
+    private final int size;
+
+    public EytzingerTree(BinarySearchTree<T> tree) {
+        this.size = tree.size();
+        this.elements = new Object[size + 1];
+        this.ranks = new int[size + 1];
+
+        Iterator<T> iterator = tree.iterator();
+        int rank = 0;
+
+        // An in-order walk of the implicit tree visits the indices in sorted order
+        int k = 1;
+
+        while (rank < size) {
+            while (k <= size) {
+                k <<= 1;
+            }
+
+            k >>>= Integer.numberOfTrailingZeros(~k) + 1;
+            elements[k] = iterator.next();
+            ranks[k] = rank++;
+            k = 2 * k + 1;
+        }
+    }
+
+    /**
+     * The {@code contains} method checks if an element exists in the tree.
+     *
+     * <p> This operation takes {@code O(log(n))} time as the search always walks down to the bottom of the tree.
+     *
+     * @param t the element which is being looked for.
+     * @return {@code true} if the element is in the tree, otherwise {@code false}.
+     */
+    public boolean contains(T t) {
+        int k = lowerBound(t);
+
+        return k != 0 && t.compareTo(element(k)) == 0;
+    }
+
+    /**
+     * The {@code floor} method returns the greatest element in the tree which is smaller than or equal to the given
+     * element.
+     *
+     * <p> This operation takes {@code O(log(n))} time as the search always walks down to the bottom of the tree.
+     *
+     * @param t the element which is being looked up.
+     * @return the floor of the element, otherwise {@code null} if there is none.
+     */
+    public T floor(T t) {
+        int k = descend(t, true);
+
+        // Undo the left turns taken since the last right turn, whose node is the floor
+        k >>>= Integer.numberOfTrailingZeros(k) + 1;
+
+        return k != 0 ? element(k) : null;
+    }
+
+    /**
+     * The {@code rank} method returns the number of elements in the tree which are smaller than the given element. The
+     * element itself does not need to be in the tree.
+     *
+     * <p> This operation takes {@code O(log(n))} time as the search always walks down to the bottom of the tree.
+     *
+     * @param t the element which is being ranked.
+     * @return the number of smaller elements.
+     */
+    public int rank(T t) {
+        int k = lowerBound(t);
+
+        return k != 0 ? ranks[k] : size;
+    }
+
+    /**
+     * The {@code size} method returns the size of the tree.
+     *
+     * @return the size of the tree.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * The {@code isEmpty} method checks if the tree contains any elements or not.
+     *
+     * @return {@code true} if the tree is empty, otherwise {@code false}.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * The {@code lowerBound} method finds the index of the smallest element which is greater than or equal to the
+     * given element.
+     *
+     * @return the index of the element, otherwise {@code 0} if every element is smaller.
+     */
+    private int lowerBound(T t) {
+        int k = descend(t, false);
+
+        // Undo the right turns taken since the last left turn, whose node is the lower bound
+        return k >>> (Integer.numberOfTrailingZeros(~k) + 1);
+    }
+
+    /**
+     * The {@code descend} method walks from the root down past the bottom of the tree, turning right at every element
+     * which is smaller than the given element, or equal to it if inclusive. As in {@link LongEytzingerTree}, only the
+     * top of the tree, which stays in the cache, is walked without branches.
+     *
+     * @return the index past the bottom of the tree, whose bits record the turns taken.
+     */
+    private int descend(T t, boolean inclusive) {
+        int k = 1;
+        int limit = Math.min(size, BRANCHLESS_LIMIT);
+        int bound = inclusive ? 1 : 0;
+
+        while (k <= limit) {
+            k = 2 * k + (element(k).compareTo(t) < bound ? 1 : 0);
+        }
+
+        while (k <= size) {
+            if (element(k).compareTo(t) < bound) {
+                k = 2 * k + 1;
+            } else {
+                k = 2 * k;
+            }
+        }
+
+        return k;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T element(int k) {
+        return (T) elements[k];
+    }
+
+    @Override
+    public String toString() {
+        return "EytzingerTree{" +
+                "size=" + size +
+                '}';
+    }
+}
@@ -0,0 +1,555 @@
+package dev.andrewjfei.tree;
+
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * {@code HeapSort} holds in-place sorting and selection algorithms built on the same hole based sift down as
+ * {@link BinaryHeap}. They work directly on the given array, so nothing is copied into a heap and primitive arrays are
+ * never boxed. Every array type is seen through a {@link Slots} view, so there is only one sift down for all of them.
+ *
+ * <p> Each algorithm treats a prefix of the array as a <b>Max Heap</b>:
+ *
+ * <ul>
+ *     <li>{@code sort} heapifies the whole array and then repeatedly moves the root behind the shrinking heap, taking
+ *     {@code O(n log(n))} time.</li>
+ *     <li>{@code partialSort} keeps the {@code k} smallest elements seen so far in a heap over the first {@code k}
+ *     slots, replacing the root whenever a smaller element is found, and then sorts that prefix. This takes
+ *     {@code O(n log(k))} time.</li>
+ *     <li>{@code nthElement} does the same with {@code n + 1} slots, after which the root is the element that would be
+ *     at index {@code n} if the array were sorted. This is a heap selection, taking {@code O(m log(n))} time for an
+ *     array of length {@code m}, rather than a linear time selection like quickselect.</li>
+ *     <li>{@code selectTopK} is {@code partialSort} in reverse, leaving the {@code k} greatest elements at the front
+ *     from greatest to least.</li>
+ * </ul>
+ *
+ * <p> Like {@link java.util.Arrays#sort(double[])}, {@code double} values are ordered by {@link Double#compare}, so
+ * {@code -0.0} comes before {@code 0.0} and {@code NaN} comes last. None of the algorithms are stable.
+ *
+ * @see BinaryHeap
+ *
+ * @author andrewjfei
+ */
+public final class HeapSort {
+
+    private HeapSort() {
+
+    }
+
+    /**
+     * Sorts an array of {@code Comparable} elements into ascending order.
+     *
+     * @param array the array which is sorted in place.
+     */
+    public static <T extends Comparable<? super T>> void sort(T[] array) {
+        sort(array, Comparator.naturalOrder());
+    }
+
+    /**
+     * Sorts an array into ascending order according to a comparator.
+     *
+     * @param array the array which is sorted in place.
+     * @param comparator the comparator which orders the elements.
+     */
+    public static <T> void sort(T[] array, Comparator<? super T> comparator) {
+        sort(new ObjectSlots<>(array, comparator), array.length);
+    }
+
+    /**
+     * Moves the {@code k} smallest elements of an array to its front in ascending order. The order of the remaining
+     * elements is unspecified.
+     *
+     * @param array the array which is rearranged in place.
+     * @param k the number of smallest elements to sort.
+     */
+    public static <T extends Comparable<? super T>> void partialSort(T[] array, int k) {
+        partialSort(array, k, Comparator.naturalOrder());
+    }
+
+    /**
+     * Moves the {@code k} smallest elements of an array, according to a comparator, to its front in ascending order.
+     * The order of the remaining elements is unspecified.
+     *
+     * @param array the array which is rearranged in place.
+     * @param k the number of smallest elements to sort.
+     * @param comparator the comparator which orders the elements.
+     */
+    public static <T> void partialSort(T[] array, int k, Comparator<? super T> comparator) {
+        partialSort(new ObjectSlots<>(array, comparator), array.length, k);
+    }
+
+    /**
+     * Rearranges an array so that the element at index {@code n} is the element which would be there if the array
+     * were sorted. No element before it is greater and no element after it is smaller.
+     *
+     * <p> This operation takes {@code O(m log(n))} time, where {@code m} is the length of the array, as it is a heap
+     * selection over the first {@code n + 1} slots.
+     *
+     * @param array the array which is rearranged in place.
+     * @param n the index of the element to place.
+     */
+    public static <T extends Comparable<? super T>> void nthElement(T[] array, int n) {
+        nthElement(array, n, Comparator.naturalOrder());
+    }
+
+    /**
+     * Rearranges an array so that the element at index {@code n} is the element which would be there if the array
+     * were sorted according to a comparator. No element before it is greater and no element after it is smaller.
+     *
+     * <p> This operation takes {@code O(m log(n))} time, where {@code m} is the length of the array, as it is a heap
+     * selection over the first {@code n + 1} slots.
+     *
+     * @param array the array which is rearranged in place.
+     * @param n the index of the element to place.
+     * @param comparator the comparator which orders the elements.
+     */
+    public static <T> void nthElement(T[] array, int n, Comparator<? super T> comparator) {
+        nthElement(new ObjectSlots<>(array, comparator), array.length, n);
+    }
+
+    /**
+     * Moves the {@code k} greatest elements of an array, according to a comparator, to its front from greatest to
+     * least. The order of the remaining elements is unspecified.
+     *
+     * @param array the array which is rearranged in place.
+     * @param k the number of greatest elements to select.
+     * @param comparator the comparator which orders the elements.
+     */
+    public static <T> void selectTopK(T[] array, int k, Comparator<? super T> comparator) {
+        partialSort(array, k, comparator.reversed());
+    }
+
+    /**
+     * Sorts an array of {@code int} values into ascending order.
+     *
+     * @param array the array which is sorted in place.
+     */
+    public static void sort(int[] array) {
+        sort(new IntSlots(array, false), array.length);
+    }
+
+    /**
+     * Moves the {@code k} smallest values of an array to its front in ascending order. The order of the remaining
+     * values is unspecified.
+     *
+     * @param array the array which is rearranged in place.
+     * @param k the number of smallest values to sort.
+     */
+    public static void partialSort(int[] array, int k) {
+        partialSort(new IntSlots(array, false), array.length, k);
+    }
+
+    /**
+     * Rearranges an array so that the value at index {@code n} is the value which would be there if the array were
+     * sorted. No value before it is greater and no value after it is smaller.
+     *
+     * <p> This operation takes {@code O(m log(n))} time, where {@code m} is the length of the array, as it is a heap
+     * selection over the first {@code n + 1} slots.
+     *
+     * @param array the array which is rearranged in place.
+     * @param n the index of the value to place.
+     */
+    public static void nthElement(int[] array, int n) {
+        nthElement(new IntSlots(array, false), array.length, n);
+    }
+
+    /**
+     * Moves the {@code k} greatest values of an array to its front from greatest to least. The order of the remaining
+     * values is unspecified.
+     *
+     * @param array the array which is rearranged in place.
+     * @param k the number of greatest values to select.
+     */
+    public static void selectTopK(int[] array, int k) {
+        partialSort(new IntSlots(array, true), array.length, k);
+    }
+
+    /**
+     * Sorts an array of {@code long} values into ascending order.
+     *
+     * @param array the array which is sorted in place.
+     */
+    public static void sort(long[] array) {
+        sort(new LongSlots(array, false), array.length);
+    }
+
+    /**
+     * Moves the {@code k} smallest values of an array to its front in ascending order. The order of the remaining
+     * values is unspecified.
+     *
+     * @param array the array which is rearranged in place.
+     * @param k the number of smallest values to sort.
+     */
+    public static void partialSort(long[] array, int k) {
+        partialSort(new LongSlots(array, false), array.length, k);
+    }
+
+    /**
+     * Rearranges an array so that the value at index {@code n} is the value which would be there if the array were
+     * sorted. No value before it is greater and no value after it is smaller.
+     *
+     * <p> This operation takes {@code O(m log(n))} time, where {@code m} is the length of the array, as it is a heap
+     * selection over the first {@code n + 1} slots.
+     *
+     * @param array the array which is rearranged in place.
+     * @param n the index of the value to place.
+     */
+    public static void nthElement(long[] array, int n) {
+        nthElement(new LongSlots(array, false), array.length, n);
+    }
+
+    /**
+     * Moves the {@code k} greatest values of an array to its front from greatest to least. The order of the remaining
+     * values is unspecified.
+     *
+     * @param array the array which is rearranged in place.
+     * @param k the number of greatest values to select.
+     */
+    public static void selectTopK(long[] array, int k) {
+        partialSort(new LongSlots(array, true), array.length, k);
+    }
+
+    /**
+     * Sorts an array of {@code double} values into ascending order.
+     *
+     * @param array the array which is sorted in place.
+     */
+    public static void sort(double[] array) {
+        sort(new DoubleSlots(array, false), array.length);
+    }
+
+    /**
+     * Moves the {@code k} smallest values of an array to its front in ascending order. The order of the remaining
+     * values is unspecified.
+     *
+     * @param array the array which is rearranged in place.
+     * @param k the number of smallest values to sort.
+     */
+    public static void partialSort(double[] array, int k) {
+        partialSort(new DoubleSlots(array, false), array.length, k);
+    }
+
+    /**
+     * Rearranges an array so that the value at index {@code n} is the value which would be there if the array were
+     * sorted. No value before it is greater and no value after it is smaller.
+     *
+     * <p> This operation takes {@code O(m log(n))} time, where {@code m} is the length of the array, as it is a heap
+     * selection over the first {@code n + 1} slots.
+     *
+     * @param array the array which is rearranged in place.
+     * @param n the index of the value to place.
+     */
+    public static void nthElement(double[] array, int n) {
+        nthElement(new DoubleSlots(array, false), array.length, n);
+    }
+
+    /**
+     * Moves the {@code k} greatest values of an array to its front from greatest to least. The order of the remaining
+     * values is unspecified.
+     *
+     * @param array the array which is rearranged in place.
+     * @param k the number of greatest values to select.
+     */
+    public static void selectTopK(double[] array, int k) {
+        partialSort(new DoubleSlots(array, true), array.length, k);
+    }
+
+    /**
+     * The {@code sink} method moves the element at the given index down a heap over the first {@code size} slots of an
+     * array, which is a <b>Max Heap</b> according to the comparator. It is shared with {@link TopKHeap}.
+     */
+    static <T> void sink(T[] array, int from, int size, Comparator<? super T> comparator) {
+        sink(new ObjectSlots<>(array, comparator), from, size);
+    }
+
+    /**
+     * The {@code sortHeap} method sorts a heap over the first {@code size} slots of an array into ascending order
+     * according to the comparator. It is shared with {@link TopKHeap}.
+     */
+    static <T> void sortHeap(T[] array, int size, Comparator<? super T> comparator) {
+        sortHeap(new ObjectSlots<>(array, comparator), size);
+    }
+
+    private static void sort(Slots slots, int length) {
+        heapify(slots, length);
+        sortHeap(slots, length);
+    }
+
+    private static void partialSort(Slots slots, int length, int k) {
+        checkCount(length, k);
+        select(slots, length, k);
+        sortHeap(slots, k);
+    }
+
+    private static void nthElement(Slots slots, int length, int n) {
+        Objects.checkIndex(n, length);
+        select(slots, length, n + 1);
+        slots.swap(0, n);
+    }
+
+    /**
+     * The {@code select} method builds a heap over the first {@code k} slots and then swaps its root with every later
+     * element which is smaller, leaving the {@code k} smallest elements in the heap.
+     */
+    private static void select(Slots slots, int length, int k) {
+        heapify(slots, k);
+
+        if (k == 0) {
+            return;
+        }
+
+        for (int i = k; i < length; i++) {
+            if (slots.compare(i, 0) < 0) {
+                slots.swap(0, i);
+                sink(slots, 0, k);
+            }
+        }
+    }
+
+    private static void heapify(Slots slots, int size) {
+        for (int index = (size >>> 1) - 1; index >= 0; index--) {
+            sink(slots, index, size);
+        }
+    }
+
+    /**
+     * The {@code sortHeap} method repeatedly moves the root of a heap over the first {@code size} slots behind the
+     * shrinking heap, which leaves those slots in ascending order.
+     */
+    private static void sortHeap(Slots slots, int size) {
+        for (int end = size - 1; end > 0; end--) {
+            slots.swap(0, end);
+            sink(slots, 0, end);
+        }
+    }
+
+    /**
+     * The {@code sink} method lifts the element out of the given slot, and moves the resulting <b>hole</b> down a heap
+     * over the first {@code size} slots until the element can be dropped into it without breaking the
+     * <b>heap invariant</b>. The greater child is moved up into the hole at each level rather than swapped.
+     */
+    private static void sink(Slots slots, int from, int size) {
+        int index = from;
+        int half = size >>> 1;
+
+        slots.lift(from);
+
+        while (index < half) {
+            int childIndex = (index << 1) + 1;
+            int rightChildIndex = childIndex + 1;
+
+            if (rightChildIndex < size && slots.compare(childIndex, rightChildIndex) < 0) {
+                childIndex = rightChildIndex;
+            }
+
+            if (slots.compareLifted(childIndex) >= 0) {
+                break;
+            }
+
+            slots.move(childIndex, index);
+            index = childIndex;
+        }
+
+        slots.drop(index);
+    }
+
+    private static void checkCount(int length, int k) {
+        if (k < 0 || k > length) {
+            throw new IllegalArgumentException("Illegal count " + k + " for an array of length " + length);
+        }
+    }
+
+    /**
+     * A {@code Slots} is a view of an array which compares and moves its elements by index, and holds one lifted
+     * element out of the array while a hole is moved through it. Primitive views hold the lifted value in a primitive
+     * field, so it is never boxed.
+     */
+    private abstract static class Slots {
+
+        /**
+         * Compares the elements in two slots.
+         */
+        abstract int compare(int i, int j);
+
+        /**
+         * Compares the lifted element with the element in a slot.
+         */
+        abstract int compareLifted(int i);
+
+        /**
+         * Lifts the element out of a slot, leaving a hole behind.
+         */
+        abstract void lift(int i);
+
+        /**
+         * Drops the lifted element into a slot.
+         */
+        abstract void drop(int i);
+
+        /**
+         * Moves the element in one slot into another.
+         */
+        abstract void move(int from, int to);
+
+        void swap(int i, int j) {
+            lift(i);
+            move(j, i);
+            drop(j);
+        }
+    }
+
+    private static final class ObjectSlots<T> extends Slots {
+        private final T[] array;
+        private final Comparator<? super T> comparator;
+        private T lifted;
+
+        private ObjectSlots(T[] array, Comparator<? super T> comparator) {
+            this.array = array;
+            this.comparator = comparator;
+        }
+
+        @Override
+        int compare(int i, int j) {
+            return comparator.compare(array[i], array[j]);
+        }
+
+        @Override
+        int compareLifted(int i) {
+            return comparator.compare(lifted, array[i]);
+        }
+
+        @Override
+        void lift(int i) {
+            lifted = array[i];
+        }
+
+        @Override
+        void drop(int i) {
+            array[i] = lifted;
+            lifted = null;
+        }
+
+        @Override
+        void move(int from, int to) {
+            array[to] = array[from];
+        }
+    }
+
+    /**
+     * An {@code IntSlots} orders {@code int} values ascending, or descending if it is reversed.
+     */
+    private static final class IntSlots extends Slots {
+        private final int[] array;
+        private final int sign;
+        private int lifted;
+
+        private IntSlots(int[] array, boolean reversed) {
+            this.array = array;
+            this.sign = reversed ? -1 : 1;
+        }
+
+        @Override
+        int compare(int i, int j) {
+            return sign * Integer.compare(array[i], array[j]);
+        }
+
+        @Override
+        int compareLifted(int i) {
+            return sign * Integer.compare(lifted, array[i]);
+        }
+
+        @Override
+        void lift(int i) {
+            lifted = array[i];
+        }
+
+        @Override
+        void drop(int i) {
+            array[i] = lifted;
+        }
+
+        @Override
+        void move(int from, int to) {
+            array[to] = array[from];
+        }
+    }
+
+    /**
+     * A {@code LongSlots} orders {@code long} values ascending, or descending if it is reversed.
+     */
+    private static final class LongSlots extends Slots {
+        private final long[] array;
+        private final int sign;
+        private long lifted;
+
+        private LongSlots(long[] array, boolean reversed) {
+            this.array = array;
+            this.sign = reversed ? -1 : 1;
+        }
+
+        @Override
+        int compare(int i, int j) {
+            return sign * Long.compare(array[i], array[j]);
+        }
+
+        @Override
+        int compareLifted(int i) {
+            return sign * Long.compare(lifted, array[i]);
+        }
+
+        @Override
+        void lift(int i) {
+            lifted = array[i];
+        }
+
+        @Override
+        void drop(int i) {
+            array[i] = lifted;
+        }
+
+        @Override
+        void move(int from, int to) {
+            array[to] = array[from];
+        }
+    }
+
+    /**
+     * A {@code DoubleSlots} orders {@code double} values by {@link Double#compare}, ascending, or descending if it is
+     * reversed.
+     */
+    private static final class DoubleSlots extends Slots {
+        private final double[] array;
+        private final int sign;
+        private double lifted;
+
+        private DoubleSlots(double[] array, boolean reversed) {
+            this.array = array;
+            this.sign = reversed ? -1 : 1;
+        }
+
+        @Override
+        int compare(int i, int j) {
+            return sign * Double.compare(array[i], array[j]);
+        }
+
+        @Override
+        int compareLifted(int i) {
+            return sign * Double.compare(lifted, array[i]);
+        }
+
+        @Override
+        void lift(int i) {
+            lifted = array[i];
+        }
+
+        @Override
+        void drop(int i) {
+            array[i] = lifted;
+        }
+
+        @Override
+        void move(int from, int to) {
+            array[to] = array[from];
+        }
+    }
+}
@@ -0,0 +1,450 @@
+package dev.andrewjfei.tree;
+
+import dev.andrewjfei.exceptions.EmptyTreeException;
+import dev.andrewjfei.exceptions.NodeAlreadyExistsException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * An {@code IndexedBinaryHeap} is a {@link BinaryHeap} which also keeps track of where each element is positioned
+ * within the heap. This allows elements to be looked up, re-prioritised and removed from anywhere in the heap rather
+ * than only from the root.
+ *
+ * <p> Every element is wrapped in a {@link Handle} which always knows its current index in the heap array, and a map
+ * from element to handle provides {@code O(1)} lookups. Callers can hold on to the handle returned by {@code insert}
+ * to re-prioritise or remove an element without hashing it again. As elements are used as map keys, the heap does not
+ * allow repeated elements.
+ *
+ * <p> An element may be mutated in place and then re-positioned with {@code update}, as long as its {@code equals} and
+ * {@code hashCode} do not depend on the mutated state.
+ *
+ * @see BinaryHeap
+ *
+ * @author andrewjfei
+ *
+ * @param <T> the data type of the list which must be {@code Comparable}.
+ */
+public class IndexedBinaryHeap<T extends Comparable<T>> {
+
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private Handle<T>[] heap;
+    private final Map<T, Handle<T>> handles;
+    private int size;
+
+    public IndexedBinaryHeap() {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    public IndexedBinaryHeap(int initialCapacity) {
+        if (initialCapacity < 0 || initialCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Illegal initial capacity: " + initialCapacity);
+        }
+
+        heap = Handle.newArray(initialCapacity);
+        handles = new HashMap<>(Math.max((int) (initialCapacity / 0.75f) + 1, 16));
+        size = 0;
+    }
+
+    /**
+     * The {@code insert} method adds an element into the heap.
+     *
+     * <p> This operation takes {@code O(log(n))} time as the element swims up from the next available position in the
+     * heap until the <b>heap invariant</b> is met.
+     *
+     * @param t the element which is being added to the heap.
+     * @return the handle which tracks the position of the element.
+     * @throws NodeAlreadyExistsException if the element is already in the heap.
+     */
+    public Handle<T> insert(T t) {
+        Objects.requireNonNull(t);
+
+        if (handles.containsKey(t)) {
+            throw new NodeAlreadyExistsException();
+        }
+
+        if (size == heap.length) {
+            grow(size + 1);
+        }
+
+        // The element is only tracked once it has a slot in the heap, so a failed insert leaves no stale handle behind
+        Handle<T> handle = new Handle<>(t);
+
+        swim(size, handle);
+        size++;
+        handles.put(t, handle);
+        return handle;
+    }
+
+    /**
+     * The {@code poll} method removes the element at the root of the heap.
+     *
+     * <p> This operation takes {@code O(log(n))} time as the last element is sunk from the root until the
+     * <b>heap invariant</b> is met.
+     *
+     * @return the element at the root of the heap.
+     */
+    public T poll() {
+        if (isEmpty()) throw new EmptyTreeException();
+
+        Handle<T> root = heap[0];
+        handles.remove(root.element);
+        removeAt(0);
+        return root.element;
+    }
+
+    /**
+     * The {@code peek} method returns the element at the root of the heap.
+     *
+     * <p> This operation takes {@code O(1)} time as the root of the heap is the first element in the heap array.
+     *
+     * @return the element at the root of the heap.
+     */
+    public T peek() {
+        if (isEmpty()) return null;
+
+        return heap[0].element;
+    }
+
+    /**
+     * The {@code contains} method checks if an element exists in the heap.
+     *
+     * <p> This operation takes {@code O(1)} time as the element is looked up in the handle map.
+     *
+     * @return {@code true} if the element is in the heap, otherwise {@code false}.
+     */
+    public boolean contains(T t) {
+        return handles.containsKey(t);
+    }
+
+    /**
+     * The {@code handle} method returns the handle of an element in the heap.
+     *
+     * <p> This operation takes {@code O(1)} time as the element is looked up in the handle map.
+     *
+     * @param t the element to look up.
+     * @return the handle of the element, otherwise {@code null} if the element is not in the heap.
+     */
+    public Handle<T> handle(T t) {
+        return handles.get(t);
+    }
+
+    /**
+     * The {@code changePriority} method replaces an element in the heap with a new element of a different priority.
+     *
+     * <p> This operation takes {@code O(log(n))} time as the new element either swims or sinks from the position of
+     * the old element until the <b>heap invariant</b> is met.
+     *
+     * @param t the element which is being replaced.
+     * @param newT the element which replaces it.
+     * @return {@code true} if the element was in the heap and has been replaced, otherwise {@code false}.
+     */
+    public boolean changePriority(T t, T newT) {
+        Handle<T> handle = handles.get(t);
+
+        if (handle == null) {
+            return false;
+        }
+
+        changePriority(handle, newT);
+        return true;
+    }
+
+    /**
+     * The {@code changePriority} method replaces the element tracked by a handle with a new element of a different
+     * priority. The handle stays valid and tracks the new element afterwards.
+     *
+     * <p> This operation takes {@code O(log(n))} time as the new element either swims or sinks from the position of
+     * the old element until the <b>heap invariant</b> is met. No hashing is needed if the new element is equal to the
+     * old element.
+     *
+     * @param handle the handle of the element which is being replaced.
+     * @param newT the element which replaces it.
+     * @throws NodeAlreadyExistsException if the new element is a different element which is already in the heap.
+     */
+    public void changePriority(Handle<T> handle, T newT) {
+        checkHandle(handle);
+
+        T oldT = handle.element;
+
+        if (!oldT.equals(newT)) {
+            if (handles.putIfAbsent(newT, handle) != null) {
+                throw new NodeAlreadyExistsException();
+            }
+
+            handles.remove(oldT);
+        }
+
+        handle.element = newT;
+        resift(handle.index, handle, newT.compareTo(oldT));
+    }
+
+    /**
+     * The {@code decreaseKey} method replaces the element tracked by a handle with a new element which has less or
+     * equal priority, so it can only move down the heap.
+     *
+     * <p> This operation takes {@code O(log(n))} time as the new element sinks from the position of the old element
+     * until the <b>heap invariant</b> is met.
+     *
+     * @param handle the handle of the element which is being replaced.
+     * @param newT the element which replaces it.
+     * @throws IllegalArgumentException if the new element has greater priority than the old element.
+     */
+    public void decreaseKey(Handle<T> handle, T newT) {
+        checkHandle(handle);
+
+        if (newT.compareTo(handle.element) > 0) {
+            throw new IllegalArgumentException("New element has greater priority than the current element");
+        }
+
+        changePriority(handle, newT);
+    }
+
+    /**
+     * The {@code increaseKey} method replaces the element tracked by a handle with a new element which has greater or
+     * equal priority, so it can only move up the heap.
+     *
+     * <p> This operation takes {@code O(log(n))} time as the new element swims from the position of the old element
+     * until the <b>heap invariant</b> is met.
+     *
+     * @param handle the handle of the element which is being replaced.
+     * @param newT the element which replaces it.
+     * @throws IllegalArgumentException if the new element has less priority than the old element.
+     */
+    public void increaseKey(Handle<T> handle, T newT) {
+        checkHandle(handle);
+
+        if (newT.compareTo(handle.element) < 0) {
+            throw new IllegalArgumentException("New element has less priority than the current element");
+        }
+
+        changePriority(handle, newT);
+    }
+
+    /**
+     * The {@code update} method re-positions an element whose priority has been changed in place.
+     *
+     * <p> This operation takes {@code O(log(n))} time as the element either swims or sinks until the
+     * <b>heap invariant</b> is met. No hashing is needed.
+     *
+     * @param handle the handle of the element which has been changed.
+     */
+    public void update(Handle<T> handle) {
+        checkHandle(handle);
+
+        int index = handle.index;
+
+        if (index > 0 && heap[(index - 1) >>> 1].element.compareTo(handle.element) < 0) {
+            swim(index, handle);
+        } else {
+            sink(index, handle);
+        }
+    }
+
+    /**
+     * The {@code remove} method removes an element from anywhere in the heap.
+     *
+     * <p> This operation takes {@code O(log(n))} time as the last element is moved into the position of the removed
+     * element and then either swims or sinks until the <b>heap invariant</b> is met.
+     *
+     * @param t the element which is being removed.
+     * @return {@code true} if the element was in the heap and has been removed, otherwise {@code false}.
+     */
+    public boolean remove(T t) {
+        Handle<T> handle = handles.remove(t);
+
+        if (handle == null) {
+            return false;
+        }
+
+        removeAt(handle.index);
+        return true;
+    }
+
+    /**
+     * The {@code remove} method removes the element tracked by a handle from anywhere in the heap. The handle is no
+     * longer valid afterwards.
+     *
+     * <p> This operation takes {@code O(log(n))} time as the last element is moved into the position of the removed
+     * element and then either swims or sinks until the <b>heap invariant</b> is met.
+     *
+     * @param handle the handle of the element which is being removed.
+     * @return the removed element.
+     */
+    public T remove(Handle<T> handle) {
+        checkHandle(handle);
+
+        handles.remove(handle.element);
+        removeAt(handle.index);
+        return handle.element;
+    }
+
+    /**
+     * The {@code size} method returns the current size of the heap.
+     *
+     * <p> This operation takes {@code O(1)} time as there is a variable tracking the size of the heap.
+     *
+     * @return the size of the heap.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * The {@code isEmpty} method checks if the heap currently contains any elements or not.
+     *
+     * <p> This operation takes {@code O(1)} time as there is a variable tracking the size of the heap.
+     *
+     * @return {@code true} if the heap is empty, otherwise {@code false}.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private void checkHandle(Handle<T> handle) {
+        int index = handle.index;
+
+        if (index < 0 || index >= size || heap[index] != handle) {
+            throw new IllegalArgumentException("Handle does not belong to an element in this heap");
+        }
+    }
+
+    /**
+     * The {@code removeAt} method takes the element at an index out of the heap by filling its position with the last
+     * element of the heap and then restoring the <b>heap invariant</b>.
+     */
+    private void removeAt(int index) {
+        Handle<T> removed = heap[index];
+        int lastIndex = --size;
+        Handle<T> last = heap[lastIndex];
+
+        heap[lastIndex] = null;
+        removed.index = -1;
+
+        if (index != lastIndex) {
+            resift(index, last, last.element.compareTo(removed.element));
+        }
+    }
+
+    private void resift(int index, Handle<T> handle, int direction) {
+        if (direction > 0) {
+            swim(index, handle);
+        } else {
+            sink(index, handle);
+        }
+    }
+
+    private void swim(int index, Handle<T> handle) {
+        T t = handle.element;
+
+        while (index > 0) {
+            int parentIndex = (index - 1) >>> 1;
+            Handle<T> parent = heap[parentIndex];
+
+            if (parent.element.compareTo(t) >= 0) {
+                break;
+            }
+
+            place(index, parent);
+            index = parentIndex;
+        }
+
+        place(index, handle);
+    }
+
+    private void sink(int index, Handle<T> handle) {
+        T t = handle.element;
+        int half = size >>> 1;
+
+        while (index < half) {
+            int childIndex = (index << 1) + 1;
+            int rightChildIndex = childIndex + 1;
+            Handle<T> child = heap[childIndex];
+
+            if (rightChildIndex < size && child.element.compareTo(heap[rightChildIndex].element) < 0) {
+                childIndex = rightChildIndex;
+                child = heap[rightChildIndex];
+            }
+
+            if (t.compareTo(child.element) >= 0) {
+                break;
+            }
+
+            place(index, child);
+            index = childIndex;
+        }
+
+        place(index, handle);
+    }
+
+    private void place(int index, Handle<T> handle) {
+        heap[index] = handle;
+        handle.index = index;
+    }
+
+    private void grow(int minCapacity) {
+        if (minCapacity < 0 || minCapacity > MAX_CAPACITY) {
+            throw new OutOfMemoryError("Required heap capacity is too large: " + Integer.toUnsignedString(minCapacity));
+        }
+
+        int oldCapacity = heap.length;
+        int newCapacity = (int) Math.min(MAX_CAPACITY, oldCapacity + (long) (oldCapacity >> 1));
+
+        heap = Arrays.copyOf(heap, Math.max(newCapacity, minCapacity));
+    }
+
+    @Override
+    public String toString() {
+        return "IndexedBinaryHeap{" +
+                "heap=" + Arrays.toString(Arrays.copyOf(heap, size)) +
+                ", size=" + size +
+                '}';
+    }
+
+    /**
+     * A {@code Handle} tracks the position of an element within an {@code IndexedBinaryHeap}. It stays valid until the
+     * element is polled or removed from the heap.
+     *
+     * @param <T> the data type of the element.
+     */
+    public static final class Handle<T> {
+        private T element;
+        private int index;
+
+        private Handle(T element) {
+            this.element = element;
+            this.index = -1;
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private static <T> Handle<T>[] newArray(int length) {
+            return (Handle<T>[]) new Handle[length];
+        }
+
+        /**
+         * Retrieves the element tracked by the handle.
+         *
+         * @return the element tracked by the handle.
+         */
+        public T getElement() {
+            return element;
+        }
+
+        /**
+         * Checks whether the element tracked by the handle is still in the heap.
+         *
+         * @return {@code true} if the element is still in the heap, otherwise {@code false}.
+         */
+        public boolean isValid() {
+            return index >= 0;
+        }
+
+        @Override
+        public String toString() {
+            return String.valueOf(element);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package dev.andrewjfei.tree;
+
+import dev.andrewjfei.exceptions.NodeAlreadyExistsException;
+import java.util.NoSuchElementException;
+
+/**
+ * A {@code LongEytzingerTree} is an immutable search tree of {@code long} keys packed into an array in
+ * <b>Eytzinger</b> order, which is the order a complete binary search tree is visited in breadth first.
+ *
+ * <p> It works the same way as {@link EytzingerTree}, but keeps the keys in a {@code long[]} so that every comparison
+ * is a single instruction on data already in the array, with no pointer to follow and no {@code compareTo} call.
+ *
+ * @see EytzingerTree
+ *
+ * @author andrewjfei
+ */
+public class LongEytzingerTree {
+
+    // The first levels of the tree, 32 KB of keys, are searched without branches
+    private static final int BRANCHLESS_LIMIT = 1 << 12;
+
+    private final long[] keys;
+    private final int[] ranks;
+    private final int size;
+
+    /**
+     * Creates a tree out of keys in strictly ascending order. The array is copied, so it can be reused afterwards.
+     *
+     * @param sorted the keys of the tree in ascending order.
+     * @throws NodeAlreadyExistsException if the array holds equal keys.
+     * @throws IllegalArgumentException if the array is not in ascending order.
+     */
+    public LongEytzingerTree(long[] sorted) {
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i] == sorted[i - 1]) {
+                throw new NodeAlreadyExistsException();
+            }
+
+            if (sorted[i] < sorted[i - 1]) {
+                throw new IllegalArgumentException("Keys are not in ascending order: " + sorted[i - 1] + ", "
+                        + sorted[i]);
+            }
+        }
+
+        this.size = sorted.length;
+        this.keys = new long[size + 1];
+        this.ranks = new int[size + 1];
+
+        // An in-order walk of the implicit tree visits the indices in sorted order
+        int k = 1;
+
+        for (int rank = 0; rank < size; rank++) {
+            while (k <= size) {
+                k <<= 1;
+            }
+
+            k >>>= Integer.numberOfTrailingZeros(~k) + 1;
+            keys[k] = sorted[rank];
+            ranks[k] = rank;
+            k = 2 * k + 1;
+        }
+    }
+
+    /**
+     * The {@code contains} method checks if a key exists in the tree.
+     *
+     * <p> This operation takes {@code O(log(n))} time as the search always walks down to the bottom of the tree.
+     *
+     * @param key the key which is being looked for.
+     * @return {@code true} if the key is in the tree, otherwise {@code false}.
+     */
+    public boolean contains(long key) {
+        int k = lowerBound(key);
+
+        return k != 0 && keys[k] == key;
+    }
+
+    /**
+     * The {@code floor} method returns the greatest key in the tree which is smaller than or equal to the given key.
+     *
+     * <p> This operation takes {@code O(log(n))} time as the search always walks down to the bottom of the tree.
+     *
+     * @param key the key which is being looked up.
+     * @return the floor of the key.
+     * @throws NoSuchElementException if every key in the tree is greater than the given key.
+     */
+    public long floor(long key) {
+        int k = descend(key, true);
+
+        // Undo the left turns taken since the last right turn, whose node is the floor
+        k >>>= Integer.numberOfTrailingZeros(k) + 1;
+
+        if (k == 0) {
+            throw new NoSuchElementException("No key is smaller than or equal to " + key);
+        }
+
+        return keys[k];
+    }
+
+    /**
+     * The {@code rank} method returns the number of keys in the tree which are smaller than the given key. The key
+     * itself does not need to be in the tree.
+     *
+     * <p> This operation takes {@code O(log(n))} time as the search always walks down to the bottom of the tree.
+     *
+     * @param key the key which is being ranked.
+     * @return the number of smaller keys.
+     */
+    public int rank(long key) {
+        int k = lowerBound(key);
+
+        return k != 0 ? ranks[k] : size;
+    }
+
+    /**
+     * The {@code size} method returns the size of the tree.
+     *
+     * @return the size of the tree.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * The {@code isEmpty} method checks if the tree contains any keys or not.
+     *
+     * @return {@code true} if the tree is empty, otherwise {@code false}.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * The {@code lowerBound} method finds the index of the smallest key which is greater than or equal to the given
+     * key.
+     *
+     * @return the index of the key, otherwise {@code 0} if every key is smaller.
+     */
+    private int lowerBound(long key) {
+        int k = descend(key, false);
+
+        // Undo the right turns taken since the last left turn, whose node is the lower bound
+        return k >>> (Integer.numberOfTrailingZeros(~k) + 1);
+    }
+
+    /**
+     * The {@code descend} method walks from the root down past the bottom of the tree, turning right at every key which
+     * is smaller than the given key, or equal to it if inclusive.
+     *
+     * <p> The top of the tree is walked without branches, as it stays in the cache and the loads are cheap. Below that
+     * each load is likely to miss the cache, and Java has no prefetch instruction to start it early. A branch lets the
+     * processor guess the turn and start loading the next level before the current key arrives, which hides more of
+     * the miss than avoiding the branch does.
+     *
+     * @return the index past the bottom of the tree, whose bits record the turns taken.
+     */
+    private int descend(long key, boolean inclusive) {
+        int k = 1;
+        int limit = Math.min(size, BRANCHLESS_LIMIT);
+
+        while (k <= limit) {
+            k = 2 * k + (keys[k] < key || (inclusive && keys[k] == key) ? 1 : 0);
+        }
+
+        while (k <= size) {
+            if (keys[k] < key || (inclusive && keys[k] == key)) {
+                k = 2 * k + 1;
+            } else {
+                k = 2 * k;
+            }
+        }
+
+        return k;
+    }
+
+    @Override
+    public String toString() {
+        return "LongEytzingerTree{" +
+                "size=" + size +
+                '}';
+    }
+}
@@ -0,0 +1,641 @@
+package dev.andrewjfei.tree;
+
+import dev.andrewjfei.exceptions.EmptyTreeException;
+import dev.andrewjfei.exceptions.NodeAlreadyExistsException;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * A {@code LongSearchTree} is a {@link BinarySearchTree} of {@code long} keys where the nodes are not objects. Each
+ * node is an {@code int} index into parallel arrays, which hold its key and the indices of its left child, right child
+ * and parent, with {@code -1} standing for no node. Repeated keys are not allowed.
+ *
+ * <p> A node takes 20 bytes spread over four arrays, plus one byte of height in balanced mode, instead of a
+ * {@code Node} object, a boxed {@code Long} and their headers. As the tree is made of a handful of arrays, the garbage
+ * collector has no per node objects to trace, however many keys are stored. The indices of removed nodes are kept in
+ * a <b>free list</b>, linked through their left child slots, and are reused by later additions before the arrays are
+ * grown.
+ *
+ * <p> Like {@code BinarySearchTree}, the tree can be created in <b>balanced</b> mode, where it is kept as an
+ * <b>AVL Tree</b>. Only in balanced mode are heights stored, so an unbalanced tree skips the walk back up to the root
+ * after each change.
+ *
+ * @see BinarySearchTree
+ *
+ * @author andrewjfei
+ */
+public class LongSearchTree {
+
+    private static final int NIL = -1;
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private final boolean balanced;
+    private long[] keys;
+    private int[] leftChildren;
+    private int[] rightChildren;
+    private int[] parents;
+    private byte[] heights;
+    private int root;
+    private int size;
+    private int used;
+    private int free;
+    private int modCount;
+
+    public LongSearchTree() {
+        this(DEFAULT_INITIAL_CAPACITY, false);
+    }
+
+    public LongSearchTree(boolean balanced) {
+        this(DEFAULT_INITIAL_CAPACITY, balanced);
+    }
+
+    public LongSearchTree(int initialCapacity, boolean balanced) {
+        if (initialCapacity < 0 || initialCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Illegal initial capacity: " + initialCapacity);
+        }
+
+        this.balanced = balanced;
+        keys = new long[initialCapacity];
+        leftChildren = new int[initialCapacity];
+        rightChildren = new int[initialCapacity];
+        parents = new int[initialCapacity];
+        heights = balanced ? new byte[initialCapacity] : null;
+        root = NIL;
+        free = NIL;
+    }
+
+    /**
+     * The {@code add} method adds a key into the tree.
+     *
+     * <p> This operation takes {@code O(h)} time, where {@code h} is the height of the tree, as the key is compared
+     * against one node per level on its way down. No objects are allocated unless the arrays have to grow.
+     *
+     * @param key the key which is being added to the tree.
+     * @throws NodeAlreadyExistsException if the key is already in the tree.
+     */
+    public void add(long key) {
+        if (!sink(key)) {
+            throw new NodeAlreadyExistsException();
+        }
+    }
+
+    /**
+     * The {@code addIfAbsent} method adds a key into the tree unless it is already there.
+     *
+     * <p> This operation takes {@code O(h)} time, where {@code h} is the height of the tree, as the key is compared
+     * against one node per level on its way down.
+     *
+     * @param key the key which is being added to the tree.
+     * @return {@code true} if the key was added, otherwise {@code false} if it was already in the tree.
+     */
+    public boolean addIfAbsent(long key) {
+        return sink(key);
+    }
+
+    /**
+     * The {@code remove} method removes a key from the tree. The index of the removed node is put on the free list.
+     *
+     * <p> This operation takes {@code O(h)} time, where {@code h} is the height of the tree, as the node is found by
+     * walking down from the root and, in balanced mode, the path back up is retraced.
+     *
+     * @param key the key which is being removed from the tree.
+     * @return {@code true} if the key was removed, otherwise {@code false} if it was not in the tree.
+     */
+    public boolean remove(long key) {
+        if (isEmpty()) throw new EmptyTreeException();
+
+        int node = find(key);
+
+        if (node == NIL) {
+            return false;
+        }
+
+        delete(node);
+        return true;
+    }
+
+    /**
+     * The {@code contains} method checks if a key exists in the tree.
+     *
+     * <p> This operation takes {@code O(h)} time, where {@code h} is the height of the tree, as only one path from the
+     * root is followed.
+     *
+     * @return {@code true} if the key is in the tree, otherwise {@code false}.
+     */
+    public boolean contains(long key) {
+        return find(key) != NIL;
+    }
+
+    /**
+     * The {@code floor} method returns the greatest key in the tree which is smaller than or equal to the given key.
+     *
+     * <p> This operation takes {@code O(h)} time, where {@code h} is the height of the tree, as only one path from the
+     * root is followed.
+     *
+     * @param key the key which is being looked up.
+     * @return the floor of the key.
+     * @throws NoSuchElementException if every key in the tree is greater than the given key.
+     */
+    public long floor(long key) {
+        int node = root;
+        int floorNode = NIL;
+
+        while (node != NIL) {
+            long nodeKey = keys[node];
+
+            if (key < nodeKey) {
+                node = leftChildren[node];
+            } else if (key > nodeKey) {
+                floorNode = node;
+                node = rightChildren[node];
+            } else {
+                return key;
+            }
+        }
+
+        if (floorNode == NIL) {
+            throw new NoSuchElementException();
+        }
+
+        return keys[floorNode];
+    }
+
+    /**
+     * The {@code ceiling} method returns the smallest key in the tree which is greater than or equal to the given key.
+     *
+     * <p> This operation takes {@code O(h)} time, where {@code h} is the height of the tree, as only one path from the
+     * root is followed.
+     *
+     * @param key the key which is being looked up.
+     * @return the ceiling of the key.
+     * @throws NoSuchElementException if every key in the tree is smaller than the given key.
+     */
+    public long ceiling(long key) {
+        int node = root;
+        int ceilingNode = NIL;
+
+        while (node != NIL) {
+            long nodeKey = keys[node];
+
+            if (key < nodeKey) {
+                ceilingNode = node;
+                node = leftChildren[node];
+            } else if (key > nodeKey) {
+                node = rightChildren[node];
+            } else {
+                return key;
+            }
+        }
+
+        if (ceilingNode == NIL) {
+            throw new NoSuchElementException();
+        }
+
+        return keys[ceilingNode];
+    }
+
+    /**
+     * The {@code size} method returns the size of the tree.
+     *
+     * <p> This operation takes {@code O(1)} time as there is a variable tracking the size of the tree.
+     *
+     * @return the size of the tree.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * The {@code capacity} method returns the number of nodes the tree can hold before its arrays have to grow.
+     *
+     * @return the capacity of the tree.
+     */
+    public int capacity() {
+        return keys.length;
+    }
+
+    /**
+     * The {@code height} method returns the number of nodes on the longest path from the root down to a leaf.
+     *
+     * <p> This operation takes {@code O(1)} time in balanced mode as the root stores its height. In unbalanced mode no
+     * heights are stored, so it takes {@code O(n)} time as every node is visited through the parent pointers.
+     *
+     * @return the height of the tree, or {@code 0} if the tree is empty.
+     */
+    public int height() {
+        if (balanced) {
+            return height(root);
+        }
+
+        int maxDepth = 0;
+        int depth = 0;
+        int previousNode = NIL;
+        int node = root;
+
+        while (node != NIL) {
+            int nextNode;
+
+            if (previousNode == parents[node]) {
+                maxDepth = Math.max(maxDepth, ++depth);
+                nextNode = leftChildren[node] != NIL ? leftChildren[node] : rightChildren[node];
+            } else if (previousNode == leftChildren[node]) {
+                nextNode = rightChildren[node];
+            } else {
+                nextNode = NIL;
+            }
+
+            if (nextNode == NIL) {
+                nextNode = parents[node];
+                depth--;
+            }
+
+            previousNode = node;
+            node = nextNode;
+        }
+
+        return maxDepth;
+    }
+
+    /**
+     * The {@code isBalanced} method checks if the tree is kept balanced as an AVL tree or not.
+     *
+     * @return {@code true} if the tree is in balanced mode, otherwise {@code false}.
+     */
+    public boolean isBalanced() {
+        return balanced;
+    }
+
+    /**
+     * The {@code isEmpty} method checks if the tree contains any keys or not.
+     *
+     * @return {@code true} if the tree is empty, otherwise {@code false}.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * The {@code clear} method removes every key from the tree while keeping its capacity.
+     *
+     * <p> This operation takes {@code O(1)} time as primitive slots do not need to be released.
+     */
+    public void clear() {
+        root = NIL;
+        size = 0;
+        used = 0;
+        free = NIL;
+        modCount++;
+    }
+
+    /**
+     * The {@code iterator} method returns an iterator over every key of the tree in ascending order. The iterator is
+     * fail-fast, and throws a {@link ConcurrentModificationException} if the tree is changed while iterating.
+     *
+     * <p> Each step takes {@code O(1)} amortised time as the iterator moves through the parent pointers rather than
+     * keeping a stack, and no key is boxed.
+     *
+     * @return an ascending iterator over the tree.
+     */
+    public PrimitiveIterator.OfLong iterator() {
+        return new AscendingIterator();
+    }
+
+    /**
+     * The {@code sink} method walks down from the root to where the key belongs, comparing against each node only
+     * once. If no equal key is found, a new node is added as a child of the last node visited.
+     *
+     * @return {@code true} if a new node was added, otherwise {@code false} if the key was already in the tree.
+     */
+    private boolean sink(long key) {
+        if (root == NIL) {
+            root = allocate(key, NIL);
+            size++;
+            modCount++;
+            return true;
+        }
+
+        int parentNode = root;
+        boolean isLeft;
+
+        while (true) {
+            long parentKey = keys[parentNode];
+            int childNode;
+
+            if (key < parentKey) {
+                childNode = leftChildren[parentNode];
+                isLeft = true;
+            } else if (key > parentKey) {
+                childNode = rightChildren[parentNode];
+                isLeft = false;
+            } else {
+                return false;
+            }
+
+            if (childNode == NIL) {
+                break;
+            }
+
+            parentNode = childNode;
+        }
+
+        // The arrays may be replaced by a grow, so they are only read again after allocating
+        int newNode = allocate(key, parentNode);
+
+        if (isLeft) {
+            leftChildren[parentNode] = newNode;
+        } else {
+            rightChildren[parentNode] = newNode;
+        }
+
+        size++;
+        modCount++;
+
+        if (balanced) {
+            retrace(parentNode);
+        }
+
+        return true;
+    }
+
+    private int find(long key) {
+        int node = root;
+
+        while (node != NIL) {
+            long nodeKey = keys[node];
+
+            if (key < nodeKey) {
+                node = leftChildren[node];
+            } else if (key > nodeKey) {
+                node = rightChildren[node];
+            } else {
+                return node;
+            }
+        }
+
+        return NIL;
+    }
+
+    /**
+     * The {@code delete} method removes a node from the tree. A node with two children takes the key of its in-order
+     * successor, and the successor is removed instead. The removed node has at most one child, which takes its place.
+     */
+    private void delete(int deletedNode) {
+        if (leftChildren[deletedNode] != NIL && rightChildren[deletedNode] != NIL) {
+            int successorNode = digLeft(rightChildren[deletedNode]);
+
+            keys[deletedNode] = keys[successorNode];
+            deletedNode = successorNode;
+        }
+
+        int parentNode = parents[deletedNode];
+        int replacementNode = leftChildren[deletedNode] != NIL
+                ? leftChildren[deletedNode]
+                : rightChildren[deletedNode];
+
+        setFromParent(parentNode, deletedNode, replacementNode);
+        release(deletedNode);
+
+        if (balanced) {
+            retrace(parentNode);
+        }
+
+        size--;
+        modCount++;
+    }
+
+    /**
+     * The {@code allocate} method takes a node index from the free list, otherwise the next index which has never been
+     * used, growing the arrays if they are full.
+     */
+    private int allocate(long key, int parentNode) {
+        int node;
+
+        if (free != NIL) {
+            node = free;
+            free = leftChildren[node];
+        } else {
+            if (used == keys.length) {
+                grow(used + 1);
+            }
+
+            node = used++;
+        }
+
+        keys[node] = key;
+        leftChildren[node] = NIL;
+        rightChildren[node] = NIL;
+        parents[node] = parentNode;
+
+        if (heights != null) {
+            heights[node] = 1;
+        }
+
+        return node;
+    }
+
+    private void release(int node) {
+        leftChildren[node] = free;
+        free = node;
+    }
+
+    private int successor(int node) {
+        if (rightChildren[node] != NIL) {
+            return digLeft(rightChildren[node]);
+        }
+
+        int parentNode = parents[node];
+
+        while (parentNode != NIL && node == rightChildren[parentNode]) {
+            node = parentNode;
+            parentNode = parents[parentNode];
+        }
+
+        return parentNode;
+    }
+
+    private int digLeft(int node) {
+        while (leftChildren[node] != NIL) {
+            node = leftChildren[node];
+        }
+
+        return node;
+    }
+
+    /**
+     * The {@code setFromParent} method replaces a child of the parent node, or the root if there is no parent, with a
+     * replacement node.
+     */
+    private void setFromParent(int parentNode, int deletedNode, int replacementNode) {
+        if (replacementNode != NIL) {
+            parents[replacementNode] = parentNode;
+        }
+
+        if (parentNode == NIL) {
+            root = replacementNode;
+        } else if (leftChildren[parentNode] == deletedNode) {
+            leftChildren[parentNode] = replacementNode;
+        } else {
+            rightChildren[parentNode] = replacementNode;
+        }
+    }
+
+    /**
+     * The {@code retrace} method walks from a node back up to the root, updating the height of every node along the
+     * way and rotating any node whose subtrees differ in height by more than one back into balance.
+     */
+    private void retrace(int node) {
+        while (node != NIL) {
+            update(node);
+            node = parents[rebalance(node)];
+        }
+    }
+
+    /**
+     * The {@code rebalance} method rotates a node whose subtrees differ in height by more than one. If the taller
+     * child leans the other way, the child is rotated first, which is known as a double rotation.
+     *
+     * @return the node which has taken the place of the given node.
+     */
+    private int rebalance(int node) {
+        int balance = height(leftChildren[node]) - height(rightChildren[node]);
+
+        if (balance > 1) {
+            int leftChild = leftChildren[node];
+
+            if (height(leftChildren[leftChild]) < height(rightChildren[leftChild])) {
+                rotateLeft(leftChild);
+            }
+
+            return rotateRight(node);
+        }
+
+        if (balance < -1) {
+            int rightChild = rightChildren[node];
+
+            if (height(rightChildren[rightChild]) < height(leftChildren[rightChild])) {
+                rotateRight(rightChild);
+            }
+
+            return rotateLeft(node);
+        }
+
+        return node;
+    }
+
+    private int rotateLeft(int node) {
+        int pivotNode = rightChildren[node];
+        int innerNode = leftChildren[pivotNode];
+
+        rightChildren[node] = innerNode;
+
+        if (innerNode != NIL) {
+            parents[innerNode] = node;
+        }
+
+        setFromParent(parents[node], node, pivotNode);
+        leftChildren[pivotNode] = node;
+        parents[node] = pivotNode;
+
+        update(node);
+        update(pivotNode);
+        return pivotNode;
+    }
+
+    private int rotateRight(int node) {
+        int pivotNode = leftChildren[node];
+        int innerNode = rightChildren[pivotNode];
+
+        leftChildren[node] = innerNode;
+
+        if (innerNode != NIL) {
+            parents[innerNode] = node;
+        }
+
+        setFromParent(parents[node], node, pivotNode);
+        rightChildren[pivotNode] = node;
+        parents[node] = pivotNode;
+
+        update(node);
+        update(pivotNode);
+        return pivotNode;
+    }
+
+    private void update(int node) {
+        heights[node] = (byte) (1 + Math.max(height(leftChildren[node]), height(rightChildren[node])));
+    }
+
+    private int height(int node) {
+        return node != NIL ? heights[node] : 0;
+    }
+
+    private void grow(int minCapacity) {
+        if (minCapacity < 0 || minCapacity > MAX_CAPACITY) {
+            throw new OutOfMemoryError("Required tree capacity is too large: " + Integer.toUnsignedString(minCapacity));
+        }
+
+        int oldCapacity = keys.length;
+        int newCapacity = (int) Math.min(MAX_CAPACITY, oldCapacity + (long) (oldCapacity >> 1));
+        int capacity = Math.max(newCapacity, minCapacity);
+
+        keys = Arrays.copyOf(keys, capacity);
+        leftChildren = Arrays.copyOf(leftChildren, capacity);
+        rightChildren = Arrays.copyOf(rightChildren, capacity);
+        parents = Arrays.copyOf(parents, capacity);
+
+        if (heights != null) {
+            heights = Arrays.copyOf(heights, capacity);
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("LongSearchTree{keys=[");
+        PrimitiveIterator.OfLong iterator = iterator();
+
+        while (iterator.hasNext()) {
+            builder.append(iterator.nextLong());
+
+            if (iterator.hasNext()) {
+                builder.append(", ");
+            }
+        }
+
+        return builder.append("], size=").append(size)
+                .append(", capacity=").append(keys.length)
+                .append(", balanced=").append(balanced)
+                .append('}').toString();
+    }
+
+    private class AscendingIterator implements PrimitiveIterator.OfLong {
+        private int nextNode;
+        private final int expectedModCount;
+
+        private AscendingIterator() {
+            nextNode = root != NIL ? digLeft(root) : NIL;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextNode != NIL;
+        }
+
+        @Override
+        public long nextLong() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            if (nextNode == NIL) {
+                throw new NoSuchElementException();
+            }
+
+            long key = keys[nextNode];
+            nextNode = successor(nextNode);
+            return key;
+        }
+    }
+}
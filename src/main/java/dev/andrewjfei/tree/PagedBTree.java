@@ -0,0 +1,925 @@
+package dev.andrewjfei.tree;
+
+import dev.andrewjfei.exceptions.NodeAlreadyExistsException;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.ConcurrentModificationException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.zip.CRC32;
+
+/**
+ * A {@code PagedBTree} is an ordered set of {@code long} keys which is stored in a file, so it persists across restarts
+ * and does not need to fit on the Java heap. Repeated keys are not allowed.
+ *
+ * <p> The tree is a <b>B+ Tree</b> laid out in fixed size pages, where the keys are kept in the leaf pages and the inner
+ * pages hold separators and the page numbers of their children. Pages are either <b>memory-mapped</b>, where the
+ * operating system decides which pages stay in memory, or read through a small <b>LRU page cache</b> which holds a
+ * fixed number of pages on the heap.
+ *
+ * <p> Updates are <b>copy-on-write</b>. A page which is part of the last committed tree is never changed. Instead it
+ * is copied to a new page at the end of the file, and so is every page on the path up to the root. {@code commit}
+ * flushes the new pages and then appends a record with the new root page to a separate <b>root log</b>, with a
+ * checksum. When the tree is opened, the last record with a valid checksum is used, so a crash at any point leaves
+ * the tree as it was at the last completed commit.
+ *
+ * <p> A page which has been replaced is still part of the committed tree until the next commit, after which it is free
+ * to be reused. The list of free pages is only kept in memory, so pages which were free when the tree was closed are
+ * not reused after it is opened again.
+ *
+ * <p> Reading or writing the file can fail at any point, in which case an {@link UncheckedIOException} is thrown.
+ *
+ * @see BPlusTree
+ *
+ * @author andrewjfei
+ */
+public class PagedBTree implements Closeable {
+
+    private static final int DEFAULT_PAGE_SIZE = 4096;
+    private static final int MIN_PAGE_SIZE = 64;
+    private static final int MAX_PAGE_SIZE = 1 << 20;
+    private static final int SEGMENT_SIZE = 1 << 26;
+    private static final int HEADER_SIZE = 8;
+    private static final int RECORD_SIZE = 40;
+    private static final byte LEAF = 0;
+    private static final byte INNER = 1;
+    private static final long NO_PAGE = -1;
+
+    private final int pageSize;
+    private final int maxLeafKeys;
+    private final int maxInnerKeys;
+    private final PageStore store;
+    private final FileChannel log;
+    private long root;
+    private int height;
+    private long size;
+    private long pageCount;
+    private long committedPageCount;
+    private final BitSet reusedPages;
+    private long[] freePages;
+    private int freeCount;
+    private long[] replacedPages;
+    private int replacedCount;
+    private boolean changed;
+    private int modCount;
+
+    // Set by insert when the node it was called on has been split
+    private long splitKey;
+    private long splitPage;
+
+    private PagedBTree(Path file, int pageSize, int cachePages) {
+        if (pageSize < MIN_PAGE_SIZE || pageSize > MAX_PAGE_SIZE || Integer.bitCount(pageSize) != 1) {
+            throw new IllegalArgumentException("Page size must be a power of two from " + MIN_PAGE_SIZE + " to "
+                    + MAX_PAGE_SIZE + ": " + pageSize);
+        }
+
+        this.pageSize = pageSize;
+        this.maxLeafKeys = (pageSize - HEADER_SIZE) / Long.BYTES;
+        this.maxInnerKeys = (pageSize - HEADER_SIZE - Long.BYTES) / (2 * Long.BYTES);
+        this.root = NO_PAGE;
+        this.reusedPages = new BitSet();
+        this.freePages = new long[16];
+        this.replacedPages = new long[16];
+
+        try {
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+
+            this.store = cachePages > 0 ? new CachedStore(channel, cachePages) : new MappedStore(channel);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        // Whatever has been opened is closed again if opening the tree fails, so no file handle or mapping leaks
+        try {
+            this.log = FileChannel.open(file.resolveSibling(file.getFileName() + ".roots"),
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        } catch (IOException e) {
+            closeAfterFailure(e, store);
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            closeAfterFailure(e, store);
+            throw e;
+        }
+
+        try {
+            recover();
+        } catch (IOException e) {
+            closeAfterFailure(e, store, log);
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            closeAfterFailure(e, store, log);
+            throw e;
+        }
+    }
+
+    /**
+     * The {@code openMapped} method opens the tree stored in a file with a page size of 4096 bytes, creating it if
+     * the file does not exist.
+     *
+     * @see #openMapped(Path, int)
+     */
+    public static PagedBTree openMapped(Path file) {
+        return openMapped(file, DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * The {@code openMapped} method opens the tree stored in a file, creating it if the file does not exist. The file
+     * is memory-mapped in large segments, which are extended as the tree grows. The root log is kept next to the file
+     * with a {@code .roots} suffix.
+     *
+     * @param file the file holding the pages of the tree.
+     * @param pageSize the size of a page in bytes, which must be a power of two.
+     * @return the tree as it was at the last commit.
+     */
+    public static PagedBTree openMapped(Path file, int pageSize) {
+        return new PagedBTree(file, pageSize, 0);
+    }
+
+    /**
+     * The {@code openCached} method opens the tree stored in a file, creating it if the file does not exist. Pages
+     * are read into an LRU cache of the given number of pages, and changed pages are written back when they are
+     * evicted or the tree is committed. The root log is kept next to the file with a {@code .roots} suffix.
+     *
+     * @param file the file holding the pages of the tree.
+     * @param pageSize the size of a page in bytes, which must be a power of two.
+     * @param cachePages the number of pages kept in memory.
+     * @return the tree as it was at the last commit.
+     */
+    public static PagedBTree openCached(Path file, int pageSize, int cachePages) {
+        if (cachePages <= 0) {
+            throw new IllegalArgumentException("Illegal cache size: " + cachePages);
+        }
+
+        return new PagedBTree(file, pageSize, cachePages);
+    }
+
+    /**
+     * The {@code add} method adds a key into the tree. The key is not persisted until the next {@code commit}.
+     *
+     * <p> This operation takes {@code O(log(n))} time, and copies at most one page per level of the tree.
+     *
+     * @param key the key which is being added to the tree.
+     * @throws NodeAlreadyExistsException if the key is already in the tree.
+     */
+    public void add(long key) {
+        if (root == NO_PAGE) {
+            Node leaf = new Node(LEAF, maxLeafKeys);
+
+            leaf.keys[0] = key;
+            leaf.count = 1;
+            root = allocate();
+            encode(root, leaf);
+            height = 1;
+        } else {
+            splitPage = NO_PAGE;
+            root = insert(root, key);
+
+            if (splitPage != NO_PAGE) {
+                Node newRoot = new Node(INNER, maxInnerKeys);
+
+                newRoot.keys[0] = splitKey;
+                newRoot.children[0] = root;
+                newRoot.children[1] = splitPage;
+                newRoot.count = 1;
+                root = allocate();
+                encode(root, newRoot);
+                height++;
+            }
+        }
+
+        size++;
+        changed = true;
+        modCount++;
+    }
+
+    /**
+     * The {@code contains} method checks if a key exists in the tree.
+     *
+     * <p> This operation takes {@code O(log(n))} time as a binary search is done directly on each page on the way
+     * down, without copying the page.
+     *
+     * @param key the key which is being looked for.
+     * @return {@code true} if the key is in the tree, otherwise {@code false}.
+     */
+    public boolean contains(long key) {
+        if (root == NO_PAGE) {
+            return false;
+        }
+
+        long page = root;
+
+        for (int level = 1; level < height; level++) {
+            ByteBuffer buffer = store.read(page);
+
+            page = buffer.getLong(childOffset(childIndex(buffer, key)));
+        }
+
+        return searchLeaf(store.read(page), key) >= 0;
+    }
+
+    /**
+     * The {@code range} method returns an iterator over the keys of the tree between two bounds, both inclusive, in
+     * ascending order. Pages are read as the iterator moves, so only the part of the tree in the range is visited.
+     *
+     * <p> Creating the iterator takes {@code O(log(n))} time to find the first key in the range, and each step takes
+     * {@code O(1)} amortised time.
+     *
+     * @param lo the lower bound of the range.
+     * @param hi the upper bound of the range.
+     * @return an ascending iterator over the range, which is empty if the lower bound is greater than the upper bound.
+     */
+    public PrimitiveIterator.OfLong range(long lo, long hi) {
+        return new RangeIterator(lo, hi);
+    }
+
+    /**
+     * The {@code commit} method makes every change since the last commit durable. The changed pages are flushed to
+     * disk first, and only then is the new root appended to the root log and flushed, so the log never points at a
+     * page which is not on disk.
+     */
+    public void commit() {
+        if (!changed) {
+            return;
+        }
+
+        try {
+            store.flush();
+
+            ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+            record.putLong(root).putLong(pageCount).putLong(size).putInt(height).putInt(pageSize);
+
+            CRC32 checksum = new CRC32();
+            checksum.update(record.array(), 0, RECORD_SIZE - Long.BYTES);
+            record.putLong(checksum.getValue()).flip();
+
+            long position = log.size() - log.size() % RECORD_SIZE;
+
+            while (record.hasRemaining()) {
+                position += log.write(record, position);
+            }
+
+            log.force(true);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        // The committed tree no longer holds the replaced pages, so they can be written over
+        for (int i = 0; i < replacedCount; i++) {
+            freePages = push(freePages, freeCount++, replacedPages[i]);
+        }
+
+        replacedCount = 0;
+        reusedPages.clear();
+        committedPageCount = pageCount;
+        changed = false;
+    }
+
+    /**
+     * The {@code size} method returns the current size of the tree, including keys which have not been committed.
+     *
+     * @return the size of the tree.
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * The {@code isEmpty} method checks if the tree currently contains any keys or not.
+     *
+     * @return {@code true} if the tree is empty, otherwise {@code false}.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * The {@code height} method returns the number of levels of the tree, counting the leaves.
+     *
+     * @return the height of the tree, or {@code 0} if the tree is empty.
+     */
+    public int height() {
+        return height;
+    }
+
+    /**
+     * The {@code pageSize} method returns the size of a page in bytes.
+     *
+     * @return the page size of the tree.
+     */
+    public int pageSize() {
+        return pageSize;
+    }
+
+    /**
+     * The {@code close} method closes the files of the tree. Changes which have not been committed are discarded, and
+     * the tree should not be used afterwards.
+     */
+    @Override
+    public void close() {
+        try {
+            try {
+                store.close();
+            } finally {
+                log.close();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * The {@code closeAfterFailure} method closes resources which were opened before a failure, adding any error from
+     * closing them to the failure rather than hiding it.
+     */
+    private static void closeAfterFailure(Exception failure, Closeable... resources) {
+        for (Closeable resource : resources) {
+            try {
+                resource.close();
+            } catch (IOException | RuntimeException e) {
+                failure.addSuppressed(e);
+            }
+        }
+    }
+
+    /**
+     * The {@code recover} method reads the root log and restores the tree from the last record whose checksum is
+     * valid. A record which was only partly written by a crash is ignored.
+     */
+    private void recover() throws IOException {
+        long records = log.size() / RECORD_SIZE;
+        ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+        CRC32 checksum = new CRC32();
+
+        for (long i = records - 1; i >= 0; i--) {
+            record.clear();
+
+            while (record.hasRemaining() && log.read(record, i * RECORD_SIZE + record.position()) >= 0) {
+                // Read the whole record
+            }
+
+            checksum.reset();
+            checksum.update(record.array(), 0, RECORD_SIZE - Long.BYTES);
+
+            if (checksum.getValue() != record.getLong(RECORD_SIZE - Long.BYTES)) {
+                continue;
+            }
+
+            if (record.getInt(28) != pageSize) {
+                throw new IllegalArgumentException("Tree was created with a page size of " + record.getInt(28));
+            }
+
+            root = record.getLong(0);
+            pageCount = record.getLong(8);
+            size = record.getLong(16);
+            height = record.getInt(24);
+            committedPageCount = pageCount;
+            return;
+        }
+    }
+
+    /**
+     * The {@code insert} method adds a key into the subtree of a page, writing every changed node to a writable copy
+     * of its page. If the node had to be split, the separator and the page of the new right node are left in
+     * {@code splitKey} and {@code splitPage}.
+     *
+     * @return the page the node has been written to.
+     */
+    private long insert(long page, long key) {
+        Node node = decode(page);
+
+        if (node.type == LEAF) {
+            int index = search(node.keys, node.count, key);
+
+            if (index >= 0) {
+                throw new NodeAlreadyExistsException();
+            }
+
+            insertAt(node.keys, node.count, -index - 1, key);
+            node.count++;
+        } else {
+            int index = upperBound(node.keys, node.count, key);
+            long child = insert(node.children[index], key);
+
+            node.children[index] = child;
+
+            if (splitPage != NO_PAGE) {
+                insertAt(node.keys, node.count, index, splitKey);
+                insertAt(node.children, node.count + 1, index + 1, splitPage);
+                node.count++;
+                splitPage = NO_PAGE;
+            }
+        }
+
+        int maxKeys = node.type == LEAF ? maxLeafKeys : maxInnerKeys;
+
+        if (node.count > maxKeys) {
+            split(node);
+        }
+
+        if (isWritable(page)) {
+            encode(page, node);
+            return page;
+        }
+
+        long target = allocate();
+
+        replacedPages = push(replacedPages, replacedCount++, page);
+        encode(target, node);
+        return target;
+    }
+
+    /**
+     * The {@code split} method moves the upper half of an overfull node into a new page, leaving the separator in
+     * {@code splitKey} and the new page in {@code splitPage}. A leaf keeps a copy of the separator in the new node,
+     * while an inner node moves it up.
+     */
+    private void split(Node node) {
+        Node sibling = new Node(node.type, node.type == LEAF ? maxLeafKeys : maxInnerKeys);
+        int leftCount = node.count / 2;
+
+        if (node.type == LEAF) {
+            sibling.count = node.count - leftCount;
+            System.arraycopy(node.keys, leftCount, sibling.keys, 0, sibling.count);
+            splitKey = sibling.keys[0];
+        } else {
+            sibling.count = node.count - leftCount - 1;
+            System.arraycopy(node.keys, leftCount + 1, sibling.keys, 0, sibling.count);
+            System.arraycopy(node.children, leftCount + 1, sibling.children, 0, sibling.count + 1);
+            splitKey = node.keys[leftCount];
+        }
+
+        node.count = leftCount;
+        splitPage = allocate();
+        encode(splitPage, sibling);
+    }
+
+    /**
+     * The {@code allocate} method returns a page to write to, reusing a free page if there is one, otherwise a new page
+     * at the end of the file.
+     */
+    private long allocate() {
+        if (freeCount == 0) {
+            return pageCount++;
+        }
+
+        long page = freePages[--freeCount];
+
+        reusedPages.set((int) page);
+        return page;
+    }
+
+    /**
+     * The {@code isWritable} method checks if a page has been written since the last commit, in which case it is not
+     * part of the committed tree and can be changed in place.
+     */
+    private boolean isWritable(long page) {
+        return page >= committedPageCount || reusedPages.get((int) page);
+    }
+
+    private static long[] push(long[] stack, int count, long page) {
+        if (count == stack.length) {
+            stack = Arrays.copyOf(stack, count * 2);
+        }
+
+        stack[count] = page;
+        return stack;
+    }
+
+    private Node decode(long page) {
+        ByteBuffer buffer = store.read(page);
+        byte type = buffer.get(0);
+        Node node = new Node(type, type == LEAF ? maxLeafKeys : maxInnerKeys);
+
+        node.count = buffer.getInt(4);
+
+        for (int i = 0; i < node.count; i++) {
+            node.keys[i] = buffer.getLong(keyOffset(i));
+        }
+
+        if (type == INNER) {
+            for (int i = 0; i <= node.count; i++) {
+                node.children[i] = buffer.getLong(childOffset(i));
+            }
+        }
+
+        return node;
+    }
+
+    private void encode(long page, Node node) {
+        ByteBuffer buffer = store.write(page);
+
+        buffer.put(0, node.type);
+        buffer.putInt(4, node.count);
+
+        for (int i = 0; i < node.count; i++) {
+            buffer.putLong(keyOffset(i), node.keys[i]);
+        }
+
+        if (node.type == INNER) {
+            for (int i = 0; i <= node.count; i++) {
+                buffer.putLong(childOffset(i), node.children[i]);
+            }
+        }
+    }
+
+    private int keyOffset(int index) {
+        return HEADER_SIZE + index * Long.BYTES;
+    }
+
+    private int childOffset(int index) {
+        return HEADER_SIZE + (maxInnerKeys + index) * Long.BYTES;
+    }
+
+    /**
+     * The {@code childIndex} method finds the child of an inner page which covers the key, which is the number of
+     * separators smaller than or equal to the key.
+     */
+    private int childIndex(ByteBuffer buffer, long key) {
+        int low = 0;
+        int high = buffer.getInt(4) - 1;
+
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+
+            if (key >= buffer.getLong(keyOffset(middle))) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * The {@code searchLeaf} method does a binary search over the keys of a leaf page.
+     *
+     * @return the index of the key, otherwise {@code -(insertion point) - 1}.
+     */
+    private int searchLeaf(ByteBuffer buffer, long key) {
+        int low = 0;
+        int high = buffer.getInt(4) - 1;
+
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            long middleKey = buffer.getLong(keyOffset(middle));
+
+            if (middleKey < key) {
+                low = middle + 1;
+            } else if (middleKey > key) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+
+        return -(low + 1);
+    }
+
+    private static int search(long[] keys, int count, long key) {
+        int low = 0;
+        int high = count - 1;
+
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+
+            if (keys[middle] < key) {
+                low = middle + 1;
+            } else if (keys[middle] > key) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+
+        return -(low + 1);
+    }
+
+    private static int upperBound(long[] keys, int count, long key) {
+        int low = 0;
+        int high = count - 1;
+
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+
+            if (key >= keys[middle]) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+
+        return low;
+    }
+
+    private static void insertAt(long[] array, int count, int index, long value) {
+        System.arraycopy(array, index, array, index + 1, count - index);
+        array[index] = value;
+    }
+
+    @Override
+    public String toString() {
+        return "PagedBTree{" +
+                "size=" + size +
+                ", height=" + height +
+                ", pageSize=" + pageSize +
+                ", pages=" + pageCount +
+                '}';
+    }
+
+    /**
+     * A {@code Node} is a page decoded onto the heap so that it can be changed. Both arrays have one extra slot so that
+     * a full node can take a key before it is split.
+     */
+    private static final class Node {
+        private final byte type;
+        private final long[] keys;
+        private final long[] children;
+        private int count;
+
+        private Node(byte type, int maxKeys) {
+            this.type = type;
+            this.keys = new long[maxKeys + 1];
+            this.children = type == INNER ? new long[maxKeys + 2] : null;
+        }
+    }
+
+    /**
+     * A {@code PageStore} gives access to the pages of the file. The buffers it returns are only valid until the next
+     * call to the store, and {@code write} marks the page as changed.
+     */
+    private interface PageStore extends Closeable {
+
+        ByteBuffer read(long page);
+
+        ByteBuffer write(long page);
+
+        void flush() throws IOException;
+    }
+
+    /**
+     * A {@code MappedStore} maps the file into memory in segments of whole pages, mapping new segments as the file
+     * grows.
+     */
+    private final class MappedStore implements PageStore {
+        private final FileChannel channel;
+        private final int pagesPerSegment;
+        private final List<MappedByteBuffer> segments;
+
+        private MappedStore(FileChannel channel) {
+            this.channel = channel;
+            this.pagesPerSegment = SEGMENT_SIZE / pageSize;
+            this.segments = new ArrayList<>();
+        }
+
+        @Override
+        public ByteBuffer read(long page) {
+            return write(page);
+        }
+
+        @Override
+        public ByteBuffer write(long page) {
+            int segment = (int) (page / pagesPerSegment);
+
+            try {
+                while (segments.size() <= segment) {
+                    long position = (long) segments.size() * SEGMENT_SIZE;
+                    segments.add(channel.map(FileChannel.MapMode.READ_WRITE, position, SEGMENT_SIZE));
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            return segments.get(segment).slice((int) (page % pagesPerSegment) * pageSize, pageSize);
+        }
+
+        @Override
+        public void flush() {
+            for (MappedByteBuffer segment : segments) {
+                segment.force();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            segments.clear();
+            channel.close();
+        }
+    }
+
+    /**
+     * A {@code CachedStore} reads pages into an LRU cache, writing a changed page back to the file when it is evicted
+     * or flushed.
+     */
+    private final class CachedStore implements PageStore {
+        private final FileChannel channel;
+        private final LinkedHashMap<Long, CachedPage> cache;
+
+        private CachedStore(FileChannel channel, int capacity) {
+            this.channel = channel;
+            this.cache = new LinkedHashMap<>(capacity * 4 / 3 + 1, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, CachedPage> eldest) {
+                    if (size() <= capacity) {
+                        return false;
+                    }
+
+                    writeBack(eldest.getKey(), eldest.getValue());
+                    return true;
+                }
+            };
+        }
+
+        @Override
+        public ByteBuffer read(long page) {
+            return load(page).buffer;
+        }
+
+        @Override
+        public ByteBuffer write(long page) {
+            CachedPage cachedPage = load(page);
+
+            cachedPage.dirty = true;
+            return cachedPage.buffer;
+        }
+
+        private CachedPage load(long page) {
+            CachedPage cachedPage = cache.get(page);
+
+            if (cachedPage != null) {
+                return cachedPage;
+            }
+
+            cachedPage = new CachedPage(ByteBuffer.allocate(pageSize));
+
+            try {
+                ByteBuffer buffer = cachedPage.buffer.duplicate();
+
+                while (buffer.hasRemaining() && channel.read(buffer, page * pageSize + buffer.position()) >= 0) {
+                    // Read the whole page, leaving zeroes past the end of the file
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            cache.put(page, cachedPage);
+            return cachedPage;
+        }
+
+        private void writeBack(long page, CachedPage cachedPage) {
+            if (!cachedPage.dirty) {
+                return;
+            }
+
+            try {
+                ByteBuffer buffer = cachedPage.buffer.duplicate().clear();
+
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer, page * pageSize + buffer.position());
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            cachedPage.dirty = false;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            for (Map.Entry<Long, CachedPage> entry : cache.entrySet()) {
+                writeBack(entry.getKey(), entry.getValue());
+            }
+
+            channel.force(false);
+        }
+
+        @Override
+        public void close() throws IOException {
+            cache.clear();
+            channel.close();
+        }
+    }
+
+    private static final class CachedPage {
+        private final ByteBuffer buffer;
+        private boolean dirty;
+
+        private CachedPage(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+    }
+
+    /**
+     * A {@code RangeIterator} keeps the path from the root to the current leaf as page numbers and child indices, and
+     * reads each page again when it moves, so it holds no buffers between calls.
+     */
+    private final class RangeIterator implements PrimitiveIterator.OfLong {
+        private final long hi;
+        private final long[] pages;
+        private final int[] indices;
+        private final int expectedModCount;
+        private boolean hasNext;
+        private long next;
+
+        private RangeIterator(long lo, long hi) {
+            this.hi = hi;
+            this.pages = new long[height];
+            this.indices = new int[height];
+            this.expectedModCount = modCount;
+
+            if (root == NO_PAGE || lo > hi) {
+                return;
+            }
+
+            long page = root;
+
+            for (int level = 0; level < height - 1; level++) {
+                int index = childIndex(store.read(page), lo);
+
+                pages[level] = page;
+                indices[level] = index;
+                page = store.read(page).getLong(childOffset(index));
+            }
+
+            int index = searchLeaf(store.read(page), lo);
+
+            pages[height - 1] = page;
+            indices[height - 1] = index >= 0 ? index : -index - 1;
+            advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return hasNext;
+        }
+
+        @Override
+        public long nextLong() {
+            if (!hasNext) {
+                throw new NoSuchElementException();
+            }
+
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            long key = next;
+            advance();
+            return key;
+        }
+
+        /**
+         * The {@code advance} method moves to the next key in the range, climbing out of an exhausted leaf to the
+         * next subtree on the right.
+         */
+        private void advance() {
+            int leaf = height - 1;
+            int level = leaf;
+
+            while (level >= 0) {
+                int count = store.read(pages[level]).getInt(4);
+
+                // A leaf has count keys, while an inner page has count + 1 children
+                if (indices[level] < (level == leaf ? count : count + 1)) {
+                    break;
+                }
+
+                level--;
+
+                if (level >= 0) {
+                    indices[level]++;
+                }
+            }
+
+            if (level < 0) {
+                hasNext = false;
+                return;
+            }
+
+            // Walk down the leftmost path of the subtree which has been moved into
+            while (level < leaf) {
+                long child = store.read(pages[level]).getLong(childOffset(indices[level]));
+
+                level++;
+                pages[level] = child;
+                indices[level] = 0;
+            }
+
+            next = store.read(pages[leaf]).getLong(keyOffset(indices[leaf]++));
+            hasNext = next <= hi;
+        }
+    }
+}
@@ -0,0 +1,376 @@
+package dev.andrewjfei.tree;
+
+import dev.andrewjfei.exceptions.EmptyTreeException;
+
+/**
+ * A {@code PairingHeap} is a heap ordered multi-way tree, where every node keeps a pointer to its first child and to
+ * its next sibling. Like {@link BinaryHeap} it is a <b>Max Heap</b>, so the root is the element with the greatest
+ * priority.
+ *
+ * <p> Two pairing heaps are merged, or <b>melded</b>, by linking their roots, where the root with less priority simply
+ * becomes the first child of the other. This makes {@code insert} and {@code meld} take {@code O(1)} time. The work is
+ * deferred to {@code poll}, which pairs up the children of the removed root left to right and then merges the pairs
+ * right to left, taking {@code O(log(n))} amortised time.
+ *
+ * <p> {@code insert} returns a {@link Handle} to the node holding the element, which can be used to increase the
+ * priority of the element or to remove it from anywhere in the heap. Each handle records the heap which owns it, and a
+ * handle which belongs to another heap is rejected. As {@code meld} must stay {@code O(1)}, the handles of a melded
+ * heap are not updated one by one. Instead the owner of the melded heap is forwarded to the owner of this heap, and
+ * the forwarding chain is followed, and shortened, the next time one of its handles is checked.
+ *
+ * @see BinaryHeap
+ *
+ * @author andrewjfei
+ *
+ * @param <T> the data type of the list which must be {@code Comparable}.
+ */
+public class PairingHeap<T extends Comparable<T>> {
+
+    private Handle<T> root;
+    private int size;
+    private Owner owner = new Owner();
+
+    public PairingHeap() {
+        size = 0;
+    }
+
+    /**
+     * The {@code insert} method adds an element into the heap.
+     *
+     * <p> This operation takes {@code O(1)} time as the element is melded with the root as a single node heap.
+     *
+     * @param t the element which is being added to the heap.
+     * @return the handle of the node holding the element.
+     */
+    public Handle<T> insert(T t) {
+        if (t == null) {
+            throw new NullPointerException();
+        }
+
+        Handle<T> handle = new Handle<>(t, owner);
+
+        root = link(root, handle);
+        size++;
+        return handle;
+    }
+
+    /**
+     * The {@code poll} method removes the element at the root of the heap.
+     *
+     * <p> This operation takes {@code O(log(n))} amortised time as the children of the root are merged into a new heap
+     * with the two pass pairing method.
+     *
+     * @return the element at the root of the heap.
+     */
+    public T poll() {
+        if (isEmpty()) throw new EmptyTreeException();
+
+        Handle<T> rootNode = root;
+
+        root = combineSiblings(rootNode.child);
+        rootNode.child = null;
+        rootNode.inHeap = false;
+        size--;
+        return rootNode.element;
+    }
+
+    /**
+     * The {@code peek} method returns the element at the root of the heap.
+     *
+     * <p> This operation takes {@code O(1)} time as there is a pointer to the root of the heap.
+     *
+     * @return the element at the root of the heap.
+     */
+    public T peek() {
+        if (isEmpty()) return null;
+
+        return root.element;
+    }
+
+    /**
+     * The {@code meld} method moves every element of another heap into this heap, leaving the other heap empty. Handles
+     * of the moved elements can be used with this heap afterwards.
+     *
+     * <p> This operation takes {@code O(1)} time as only the two roots are linked.
+     *
+     * @param other the heap which is being merged into this heap.
+     */
+    public void meld(PairingHeap<T> other) {
+        if (other == this) {
+            throw new IllegalArgumentException("Cannot meld a heap with itself");
+        }
+
+        if (other.root != null) {
+            // The handles of the other heap now belong to this heap, and the other heap starts over with a new owner
+            other.owner.forward = owner;
+            other.owner = new Owner();
+        }
+
+        root = link(root, other.root);
+        size += other.size;
+        other.root = null;
+        other.size = 0;
+    }
+
+    /**
+     * The {@code increaseKey} method replaces the element held by a node with a new element of greater or equal
+     * priority. In this <b>Max Heap</b> it is the counterpart of the <b>decrease key</b> operation of a Min Heap.
+     *
+     * <p> This operation takes {@code O(1)} time, and {@code O(log(n))} amortised time once the following
+     * {@code poll} is accounted for, as the node is cut out of its parent and linked with the root.
+     *
+     * @param handle the handle of the node whose element is being replaced.
+     * @param newT the element which replaces it.
+     * @throws IllegalArgumentException if the new element has less priority than the old element, or the handle does
+     * not belong to an element in this heap.
+     */
+    public void increaseKey(Handle<T> handle, T newT) {
+        checkHandle(handle);
+
+        if (newT.compareTo(handle.element) < 0) {
+            throw new IllegalArgumentException("New element has less priority than the current element");
+        }
+
+        handle.element = newT;
+
+        if (handle != root) {
+            cut(handle);
+            root = link(root, handle);
+        }
+    }
+
+    /**
+     * The {@code remove} method removes the element held by a node from anywhere in the heap.
+     *
+     * <p> This operation takes {@code O(log(n))} amortised time as the node is cut out of its parent and its children
+     * are merged with the two pass pairing method before being linked with the root.
+     *
+     * @param handle the handle of the node which is being removed.
+     * @return the removed element.
+     * @throws IllegalArgumentException if the handle does not belong to an element in this heap.
+     */
+    public T remove(Handle<T> handle) {
+        checkHandle(handle);
+
+        if (handle == root) {
+            return poll();
+        }
+
+        cut(handle);
+        root = link(root, combineSiblings(handle.child));
+        handle.child = null;
+        handle.inHeap = false;
+        size--;
+        return handle.element;
+    }
+
+    /**
+     * The {@code size} method returns the current size of the heap.
+     *
+     * <p> This operation takes {@code O(1)} time as there is a variable tracking the size of the heap.
+     *
+     * @return the size of the heap.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * The {@code isEmpty} method checks if the heap currently contains any elements or not.
+     *
+     * <p> This operation takes {@code O(1)} time as there is a variable tracking the size of the heap.
+     *
+     * @return {@code true} if the heap is empty, otherwise {@code false}.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private void checkHandle(Handle<T> handle) {
+        if (!handle.inHeap || resolveOwner(handle) != owner) {
+            throw new IllegalArgumentException("Handle does not belong to an element in the heap");
+        }
+    }
+
+    /**
+     * The {@code resolveOwner} method follows the forwarding chain from the owner recorded in a handle to the owner of
+     * the heap which currently holds it, and points every owner along the chain straight at it.
+     */
+    private static Owner resolveOwner(Handle<?> handle) {
+        Owner current = handle.owner;
+
+        while (current.forward != null) {
+            current = current.forward;
+        }
+
+        Owner compressed = handle.owner;
+
+        while (compressed != current) {
+            Owner next = compressed.forward;
+            compressed.forward = current;
+            compressed = next;
+        }
+
+        handle.owner = current;
+        return current;
+    }
+
+    /**
+     * The {@code link} method melds two heaps by making the root with less priority the first child of the other root.
+     */
+    private Handle<T> link(Handle<T> first, Handle<T> second) {
+        if (first == null) {
+            return second;
+        }
+
+        if (second == null) {
+            return first;
+        }
+
+        if (first.element.compareTo(second.element) >= 0) {
+            addChild(first, second);
+            return first;
+        }
+
+        addChild(second, first);
+        return second;
+    }
+
+    private void addChild(Handle<T> parent, Handle<T> child) {
+        child.prev = parent;
+        child.next = parent.child;
+
+        if (parent.child != null) {
+            parent.child.prev = child;
+        }
+
+        parent.child = child;
+    }
+
+    /**
+     * The {@code cut} method detaches a node, together with its children, from its parent and siblings.
+     */
+    private void cut(Handle<T> node) {
+        if (node.prev.child == node) {
+            node.prev.child = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+
+        if (node.next != null) {
+            node.next.prev = node.prev;
+        }
+
+        node.prev = null;
+        node.next = null;
+    }
+
+    /**
+     * The {@code combineSiblings} method merges a list of sibling heaps into one heap. The siblings are first linked in
+     * pairs from left to right, and the pairs are then linked from right to left.
+     */
+    private Handle<T> combineSiblings(Handle<T> first) {
+        if (first == null) {
+            return null;
+        }
+
+        // First pass, the linked pairs are pushed onto a stack threaded through the next pointers
+        Handle<T> pairs = null;
+        Handle<T> current = first;
+
+        while (current != null) {
+            Handle<T> left = current;
+            Handle<T> right = left.next;
+
+            current = right != null ? right.next : null;
+            detach(left);
+            detach(right);
+
+            Handle<T> pair = link(left, right);
+            pair.next = pairs;
+            pairs = pair;
+        }
+
+        // Second pass, popping the stack links the pairs from right to left
+        Handle<T> merged = pairs;
+        pairs = pairs.next;
+        merged.next = null;
+
+        while (pairs != null) {
+            Handle<T> pair = pairs;
+
+            pairs = pair.next;
+            pair.next = null;
+            merged = link(merged, pair);
+        }
+
+        return merged;
+    }
+
+    private void detach(Handle<T> node) {
+        if (node != null) {
+            node.prev = null;
+            node.next = null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "PairingHeap{" +
+                "root=" + (root != null ? root.element : null) +
+                ", size=" + size +
+                '}';
+    }
+
+    /**
+     * A {@code Handle} is a node of a {@code PairingHeap}. Its {@code prev} pointer points to its parent if it is the
+     * first child, otherwise to its previous sibling.
+     *
+     * @param <T> the data type of the node.
+     */
+    public static final class Handle<T> {
+        private T element;
+        private Handle<T> child;
+        private Handle<T> next;
+        private Handle<T> prev;
+        private boolean inHeap;
+        private Owner owner;
+
+        private Handle(T element, Owner owner) {
+            this.element = element;
+            this.inHeap = true;
+            this.owner = owner;
+        }
+
+        /**
+         * Retrieves the element held by the node.
+         *
+         * @return the element held by the node.
+         */
+        public T getElement() {
+            return element;
+        }
+
+        /**
+         * Checks whether the element held by the node is still in a heap.
+         *
+         * @return {@code true} if the element is still in a heap, otherwise {@code false}.
+         */
+        public boolean isValid() {
+            return inHeap;
+        }
+
+        @Override
+        public String toString() {
+            return String.valueOf(element);
+        }
+    }
+
+    /**
+     * An {@code Owner} identifies the heap which holds a handle. Once its heap is melded into another heap it forwards
+     * to the owner of that heap.
+     */
+    private static final class Owner {
+        private Owner forward;
+    }
+}
@@ -0,0 +1,337 @@
+package dev.andrewjfei.tree;
+
+import dev.andrewjfei.exceptions.EmptyTreeException;
+import dev.andrewjfei.exceptions.NodeAlreadyExistsException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * A {@code PersistentBinarySearchTree} is an immutable {@link BinarySearchTree}, where {@code add} and {@code remove}
+ * leave the tree unchanged and return a new version of it instead. Repeated elements are not allowed.
+ *
+ * <p> A new version is made by <b>path copying</b>. Only the nodes on the path from the root down to the changed node
+ * are copied, and every other subtree is shared with the old version, so an update allocates {@code O(log(n))} nodes
+ * rather than copying the whole tree. The tree is kept balanced as an <b>AVL Tree</b>, and the rotations only ever
+ * create new nodes, so no version is ever changed once it has been made.
+ *
+ * <p> Because every version is immutable, keeping a reference to one is an {@code O(1)} snapshot. A version can be
+ * published to any number of reader threads through a {@code volatile} field or an atomic reference, and read by all
+ * of them without any locks.
+ *
+ * @see BinarySearchTree
+ *
+ * @author andrewjfei
+ *
+ * @param <T> the data type of the tree which must be {@code Comparable}.
+ */
+public final class PersistentBinarySearchTree<T extends Comparable<T>> implements Iterable<T> {
+
+    private static final PersistentBinarySearchTree<?> EMPTY = new PersistentBinarySearchTree<>(null, 0);
+
+    private final Node<T> root;
+    private final int size;
+
+    private PersistentBinarySearchTree(Node<T> root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * The {@code empty} method returns the empty tree, which every tree is built up from.
+     *
+     * @return the empty tree.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Comparable<T>> PersistentBinarySearchTree<T> empty() {
+        return (PersistentBinarySearchTree<T>) EMPTY;
+    }
+
+    /**
+     * The {@code add} method returns a new version of the tree with the element added. This tree is not changed.
+     *
+     * <p> This operation takes {@code O(log(n))} time and allocates {@code O(log(n))} nodes, as only the path from the
+     * root down to the new node is copied and rebalanced.
+     *
+     * @param t the element which is being added to the tree.
+     * @return the new version of the tree.
+     * @throws NodeAlreadyExistsException if the element is already in the tree.
+     */
+    public PersistentBinarySearchTree<T> add(T t) {
+        Objects.requireNonNull(t);
+
+        return new PersistentBinarySearchTree<>(insert(root, t), size + 1);
+    }
+
+    /**
+     * The {@code remove} method returns a new version of the tree with the element removed. This tree is not changed.
+     *
+     * <p> This operation takes {@code O(log(n))} time and allocates {@code O(log(n))} nodes, as only the path from the
+     * root down to the removed node, and down to its successor, is copied and rebalanced.
+     *
+     * @param t the element which is being removed from the tree.
+     * @return the new version of the tree, otherwise this tree if the element is not in it.
+     */
+    public PersistentBinarySearchTree<T> remove(T t) {
+        if (isEmpty()) throw new EmptyTreeException();
+
+        Node<T> newRoot = delete(root, t);
+
+        if (newRoot == root) {
+            return this;
+        }
+
+        return size == 1 ? empty() : new PersistentBinarySearchTree<>(newRoot, size - 1);
+    }
+
+    /**
+     * The {@code peek} method returns the element at the root of the tree.
+     *
+     * <p> This operation takes {@code O(1)} time as there is a pointer to the root of the tree.
+     *
+     * @return the element at the root of the tree.
+     */
+    public T peek() {
+        if (isEmpty()) return null;
+
+        return root.data;
+    }
+
+    /**
+     * The {@code contains} method checks if an element exists in the tree.
+     *
+     * <p> This operation takes {@code O(log(n))} time as only one path from the root is followed.
+     *
+     * @return {@code true} if the element is in the tree, otherwise {@code false}.
+     */
+    public boolean contains(T t) {
+        Node<T> node = root;
+
+        while (node != null) {
+            int comparison = t.compareTo(node.data);
+
+            if (comparison < 0) {
+                node = node.left;
+            } else if (comparison > 0) {
+                node = node.right;
+            } else {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * The {@code size} method returns the size of the tree.
+     *
+     * <p> This operation takes {@code O(1)} time as every version stores its size.
+     *
+     * @return the size of the tree.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * The {@code height} method returns the number of nodes on the longest path from the root down to a leaf.
+     *
+     * @return the height of the tree, or {@code 0} if the tree is empty.
+     */
+    public int height() {
+        return height(root);
+    }
+
+    /**
+     * The {@code isEmpty} method checks if the tree contains any elements or not.
+     *
+     * @return {@code true} if the tree is empty, otherwise {@code false}.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * The {@code iterator} method returns an iterator over every element of the tree in ascending order. The version
+     * being iterated can never change, so the iterator never fails, whatever new versions are made meanwhile.
+     *
+     * <p> Each step takes {@code O(1)} amortised time. As nodes have no parent pointers, the path back up is kept in a
+     * stack as deep as the tree.
+     *
+     * @return an ascending iterator over the tree.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new InOrderIterator();
+    }
+
+    private Node<T> insert(Node<T> node, T t) {
+        if (node == null) {
+            return new Node<>(t, null, null);
+        }
+
+        int comparison = t.compareTo(node.data);
+
+        if (comparison < 0) {
+            return balance(node.data, insert(node.left, t), node.right);
+        } else if (comparison > 0) {
+            return balance(node.data, node.left, insert(node.right, t));
+        }
+
+        throw new NodeAlreadyExistsException();
+    }
+
+    /**
+     * The {@code delete} method removes an element from a subtree.
+     *
+     * @return the new subtree, or the same subtree if the element is not in it.
+     */
+    private Node<T> delete(Node<T> node, T t) {
+        if (node == null) {
+            return null;
+        }
+
+        int comparison = t.compareTo(node.data);
+
+        if (comparison < 0) {
+            Node<T> left = delete(node.left, t);
+
+            return left == node.left ? node : balance(node.data, left, node.right);
+        } else if (comparison > 0) {
+            Node<T> right = delete(node.right, t);
+
+            return right == node.right ? node : balance(node.data, node.left, right);
+        }
+
+        if (node.left == null) {
+            return node.right;
+        }
+
+        if (node.right == null) {
+            return node.left;
+        }
+
+        // A node with two children takes the element of its successor, the smallest node of its right subtree
+        Node<T> successor = node.right;
+
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+
+        return balance(successor.data, node.left, deleteMin(node.right));
+    }
+
+    private Node<T> deleteMin(Node<T> node) {
+        if (node.left == null) {
+            return node.right;
+        }
+
+        return balance(node.data, deleteMin(node.left), node.right);
+    }
+
+    /**
+     * The {@code balance} method creates a node out of an element and two subtrees, whose heights differ by at most
+     * two. If they differ by two, the new node is rotated so that they differ by at most one again.
+     */
+    private Node<T> balance(T data, Node<T> left, Node<T> right) {
+        int balance = height(left) - height(right);
+
+        if (balance > 1) {
+            if (height(left.left) < height(left.right)) {
+                // Double rotation, the inner grandchild becomes the new root
+                Node<T> pivot = left.right;
+
+                return new Node<>(pivot.data, new Node<>(left.data, left.left, pivot.left),
+                        new Node<>(data, pivot.right, right));
+            }
+
+            return new Node<>(left.data, left.left, new Node<>(data, left.right, right));
+        }
+
+        if (balance < -1) {
+            if (height(right.right) < height(right.left)) {
+                Node<T> pivot = right.left;
+
+                return new Node<>(pivot.data, new Node<>(data, left, pivot.left),
+                        new Node<>(right.data, pivot.right, right.right));
+            }
+
+            return new Node<>(right.data, new Node<>(data, left, right.left), right.right);
+        }
+
+        return new Node<>(data, left, right);
+    }
+
+    private static int height(Node<?> node) {
+        return node != null ? node.height : 0;
+    }
+
+    @Override
+    public String toString() {
+        return "PersistentBinarySearchTree{" +
+                "size=" + size +
+                ", root=" + root +
+                '}';
+    }
+
+    private static final class Node<T> {
+        private final T data;
+        private final Node<T> left;
+        private final Node<T> right;
+        private final int height;
+
+        private Node(T data, Node<T> left, Node<T> right) {
+            this.data = data;
+            this.left = left;
+            this.right = right;
+            this.height = 1 + Math.max(height(left), height(right));
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private static <T> Node<T>[] newArray(int length) {
+            return (Node<T>[]) new Node[length];
+        }
+
+        @Override
+        public String toString() {
+            return "Node{" +
+                    "data=" + data +
+                    ", left=" + left +
+                    ", right=" + right +
+                    '}';
+        }
+    }
+
+    private final class InOrderIterator implements Iterator<T> {
+        private final Node<T>[] stack;
+        private int depth;
+
+        private InOrderIterator() {
+            stack = Node.newArray(height(root));
+            pushLeft(root);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return depth > 0;
+        }
+
+        @Override
+        public T next() {
+            if (depth == 0) {
+                throw new NoSuchElementException();
+            }
+
+            Node<T> node = stack[--depth];
+            pushLeft(node.right);
+            return node.data;
+        }
+
+        private void pushLeft(Node<T> node) {
+            while (node != null) {
+                stack[depth++] = node;
+                node = node.left;
+            }
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package dev.andrewjfei.tree;
+
+import dev.andrewjfei.exceptions.EmptyTreeException;
+import java.util.Arrays;
+
+/**
+ * A {@code RadixHeap} is a <b>monotone Min Heap</b> of non-negative {@code long} keys, where a key can never be smaller
+ * than the last key that was polled. This is the case for shortest path searches such as Dijkstra's algorithm and for
+ * discrete event simulations, where time only moves forward.
+ *
+ * <p> Instead of a tree, keys are kept in 65 buckets. Bucket {@code 0} holds keys equal to the last polled key, and
+ * bucket {@code b} holds keys whose highest bit that differs from the last polled key is bit {@code b - 1}. When bucket
+ * {@code 0} runs out, the smallest key of the first non-empty bucket becomes the last polled key and the bucket is
+ * redistributed, where every key moves to a strictly lower bucket. A key can therefore only move {@code 64} times,
+ * which gives {@code O(log(C))} amortised time per key with no comparisons between keys along the way.
+ *
+ * <p> Each key carries an {@code int} value, such as a vertex id. The bucket arrays are grown when needed and then
+ * reused, so once they are large enough neither {@code insert} nor {@code poll} allocate.
+ *
+ * @see LongBinaryHeap
+ *
+ * @author andrewjfei
+ */
+public class RadixHeap {
+
+    private static final int BUCKET_COUNT = Long.SIZE + 1;
+    private static final int DEFAULT_BUCKET_CAPACITY = 8;
+
+    private final long[][] keys;
+    private final int[][] values;
+    private final int[] sizes;
+    private long last;
+    private int size;
+
+    public RadixHeap() {
+        keys = new long[BUCKET_COUNT][DEFAULT_BUCKET_CAPACITY];
+        values = new int[BUCKET_COUNT][DEFAULT_BUCKET_CAPACITY];
+        sizes = new int[BUCKET_COUNT];
+        last = 0;
+        size = 0;
+    }
+
+    /**
+     * The {@code insert} method adds a key into the heap with a value of {@code 0}.
+     *
+     * <p> This operation takes {@code O(1)} time as the bucket is found from the highest differing bit of the key.
+     *
+     * @param key the key which is being added to the heap.
+     * @throws IllegalArgumentException if the key is negative or smaller than the last polled key.
+     */
+    public void insert(long key) {
+        insert(key, 0);
+    }
+
+    /**
+     * The {@code insert} method adds a key together with its value into the heap.
+     *
+     * <p> This operation takes {@code O(1)} time as the bucket is found from the highest differing bit of the key.
+     *
+     * @param key the key which is being added to the heap.
+     * @param value the value carried by the key.
+     * @throws IllegalArgumentException if the key is negative or smaller than the last polled key.
+     */
+    public void insert(long key, int value) {
+        if (key < last) {
+            throw new IllegalArgumentException("Key " + key + " is smaller than the last polled key " + last);
+        }
+
+        push(bucketIndex(key), key, value);
+        size++;
+    }
+
+    /**
+     * The {@code poll} method removes the smallest key in the heap.
+     *
+     * <p> This operation takes {@code O(log(C))} amortised time, where {@code C} is the range of the keys, as each key
+     * can only be redistributed into a lower bucket a bounded number of times.
+     *
+     * @return the smallest key in the heap.
+     */
+    public long poll() {
+        if (isEmpty()) throw new EmptyTreeException();
+
+        pull();
+        size--;
+        return keys[0][--sizes[0]];
+    }
+
+    /**
+     * The {@code pollValue} method removes the smallest key in the heap and returns its value instead.
+     *
+     * <p> This operation takes {@code O(log(C))} amortised time, where {@code C} is the range of the keys, as each key
+     * can only be redistributed into a lower bucket a bounded number of times.
+     *
+     * @return the value of the smallest key in the heap.
+     */
+    public int pollValue() {
+        if (isEmpty()) throw new EmptyTreeException();
+
+        pull();
+        size--;
+        return values[0][--sizes[0]];
+    }
+
+    /**
+     * The {@code peek} method returns the smallest key in the heap.
+     *
+     * <p> This operation takes {@code O(log(C))} amortised time as the buckets may need to be redistributed first to
+     * find the smallest key.
+     *
+     * @return the smallest key in the heap.
+     */
+    public long peek() {
+        if (isEmpty()) throw new EmptyTreeException();
+
+        pull();
+        return keys[0][sizes[0] - 1];
+    }
+
+    /**
+     * The {@code peekValue} method returns the value of the smallest key in the heap.
+     *
+     * <p> This operation takes {@code O(log(C))} amortised time as the buckets may need to be redistributed first to
+     * find the smallest key.
+     *
+     * @return the value of the smallest key in the heap.
+     */
+    public int peekValue() {
+        if (isEmpty()) throw new EmptyTreeException();
+
+        pull();
+        return values[0][sizes[0] - 1];
+    }
+
+    /**
+     * The {@code lastKey} method returns the last polled key, which is the smallest key that can still be inserted.
+     *
+     * @return the last polled key, or {@code 0} if nothing has been polled.
+     */
+    public long lastKey() {
+        return last;
+    }
+
+    /**
+     * The {@code size} method returns the current size of the heap.
+     *
+     * <p> This operation takes {@code O(1)} time as there is a variable tracking the size of the heap.
+     *
+     * @return the size of the heap.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * The {@code isEmpty} method checks if the heap currently contains any keys or not.
+     *
+     * <p> This operation takes {@code O(1)} time as there is a variable tracking the size of the heap.
+     *
+     * @return {@code true} if the heap is empty, otherwise {@code false}.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * The {@code clear} method removes every key from the heap and resets the last polled key to {@code 0}. The bucket
+     * arrays are kept so that they can be reused.
+     *
+     * <p> This operation takes {@code O(1)} time as only the bucket sizes are reset.
+     */
+    public void clear() {
+        Arrays.fill(sizes, 0);
+        last = 0;
+        size = 0;
+    }
+
+    private int bucketIndex(long key) {
+        return Long.SIZE - Long.numberOfLeadingZeros(key ^ last);
+    }
+
+    /**
+     * The {@code pull} method makes sure bucket {@code 0} is not empty by redistributing the first non-empty bucket
+     * around its smallest key. The heap must not be empty.
+     */
+    private void pull() {
+        if (sizes[0] > 0) {
+            return;
+        }
+
+        int index = 1;
+
+        while (sizes[index] == 0) {
+            index++;
+        }
+
+        long[] bucketKeys = keys[index];
+        int[] bucketValues = values[index];
+        int bucketSize = sizes[index];
+        long min = bucketKeys[0];
+
+        for (int i = 1; i < bucketSize; i++) {
+            min = Math.min(min, bucketKeys[i]);
+        }
+
+        last = min;
+        sizes[index] = 0;
+
+        // Every key now differs from the last key in a lower bit, so it moves to a lower bucket
+        for (int i = 0; i < bucketSize; i++) {
+            long key = bucketKeys[i];
+            push(bucketIndex(key), key, bucketValues[i]);
+        }
+    }
+
+    private void push(int index, long key, int value) {
+        int bucketSize = sizes[index];
+
+        if (bucketSize == keys[index].length) {
+            int newCapacity = bucketSize + (bucketSize >> 1) + 1;
+
+            keys[index] = Arrays.copyOf(keys[index], newCapacity);
+            values[index] = Arrays.copyOf(values[index], newCapacity);
+        }
+
+        keys[index][bucketSize] = key;
+        values[index][bucketSize] = value;
+        sizes[index] = bucketSize + 1;
+    }
+
+    @Override
+    public String toString() {
+        return "RadixHeap{" +
+                "last=" + last +
+                ", size=" + size +
+                '}';
+    }
+}
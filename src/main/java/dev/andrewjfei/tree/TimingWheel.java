@@ -0,0 +1,436 @@
+package dev.andrewjfei.tree;
+
+import java.util.function.Consumer;
+
+/**
+ * A {@code TimingWheel} is a timer queue which sorts timers into buckets by their deadline instead of keeping them in
+ * a heap. Time is split into ticks of a fixed duration, and a wheel is a ring of slots where each slot holds the timers
+ * which are due on one tick.
+ *
+ * <p> The wheels are <b>hierarchical</b>. The first wheel has one slot per tick, and every following wheel has one slot
+ * per full turn of the wheel before it, so a few small wheels can cover a large range of deadlines. When a higher wheel
+ * reaches a slot, its timers are <b>cascaded</b> down into the lower wheels. Deadlines which are too far away for even
+ * the highest wheel are kept in a {@link BinaryHeap} ordered by deadline, and only move into the wheels once they are
+ * close enough.
+ *
+ * <p> Each slot is a doubly linked list and every timer knows which slot it is in, so {@code schedule} and
+ * {@code cancel} take {@code O(1)} time. Cancelling a timer in the overflow heap only marks it, and the heap is purged
+ * in {@code O(n)} time once most of it is cancelled.
+ *
+ * <p> Timers expire when the wheel is moved forward with {@code advanceTo}. A timer never expires before its deadline,
+ * but can expire up to one tick after it.
+ *
+ * @see BinaryHeap
+ *
+ * @author andrewjfei
+ *
+ * @param <T> the data type of the tasks which are run when the timers expire.
+ */
+public class TimingWheel<T> {
+
+    private static final int DEFAULT_WHEEL_SIZE = 64;
+    private static final int DEFAULT_LEVELS = 4;
+
+    private final long tickDuration;
+    private final int wheelBits;
+    private final int wheelMask;
+    private final long span;
+    private final Bucket<T>[][] wheels;
+    private final Bucket<T> due;
+    private final BinaryHeap<Timer<T>> overflow;
+    private int overflowCancelled;
+    private long currentTick;
+    private int wheelCount;
+    private int size;
+
+    public TimingWheel(long tickDuration) {
+        this(tickDuration, DEFAULT_WHEEL_SIZE, DEFAULT_LEVELS, 0);
+    }
+
+    public TimingWheel(long tickDuration, int wheelSize, int levels, long startTime) {
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("Illegal tick duration: " + tickDuration);
+        }
+
+        if (wheelSize < 2 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("Wheel size must be a power of two: " + wheelSize);
+        }
+
+        int bits = Integer.numberOfTrailingZeros(wheelSize);
+
+        if (levels <= 0 || (long) bits * levels > 62) {
+            throw new IllegalArgumentException("Illegal number of levels: " + levels);
+        }
+
+        this.tickDuration = tickDuration;
+        this.wheelBits = bits;
+        this.wheelMask = wheelSize - 1;
+        this.span = 1L << (bits * levels);
+        this.wheels = Bucket.newArray(levels, wheelSize);
+
+        for (Bucket<T>[] wheel : wheels) {
+            for (int slot = 0; slot < wheelSize; slot++) {
+                wheel[slot] = new Bucket<>();
+            }
+        }
+
+        this.due = new Bucket<>();
+        this.overflow = new BinaryHeap<>();
+        this.currentTick = Math.floorDiv(startTime, tickDuration);
+    }
+
+    /**
+     * The {@code schedule} method adds a timer which runs a task once its deadline has been reached. A deadline which
+     * has already passed expires on the next call to {@code advanceTo}.
+     *
+     * <p> This operation takes {@code O(1)} time as the slot is found from the number of ticks until the deadline. Only
+     * deadlines beyond the range of the wheels are inserted into the overflow heap, which takes {@code O(log(n))} time.
+     *
+     * @param deadline the time at which the timer expires.
+     * @param task the task which is passed to the consumer when the timer expires.
+     * @return the timer, which can be used to cancel it.
+     */
+    public Timer<T> schedule(long deadline, T task) {
+        long tick = Math.floorDiv(deadline, tickDuration);
+
+        // Round up so that a timer never expires before its deadline
+        if (tick * tickDuration < deadline) {
+            tick++;
+        }
+
+        Timer<T> timer = new Timer<>(deadline, tick, task);
+
+        place(timer);
+        size++;
+        return timer;
+    }
+
+    /**
+     * The {@code cancel} method stops a timer from expiring.
+     *
+     * <p> This operation takes {@code O(1)} time as the timer is unlinked from its slot, or only marked if it is in the
+     * overflow heap.
+     *
+     * @param timer the timer which is being cancelled.
+     * @return {@code true} if the timer was pending and has been cancelled, otherwise {@code false}.
+     */
+    public boolean cancel(Timer<T> timer) {
+        if (timer.state != Timer.PENDING) {
+            return false;
+        }
+
+        timer.state = Timer.CANCELLED;
+
+        if (timer.bucket != null) {
+            unlink(timer);
+        } else {
+            overflowCancelled++;
+
+            if (overflowCancelled > overflow.size() >>> 1) {
+                purgeOverflow();
+            }
+        }
+
+        size--;
+        return true;
+    }
+
+    /**
+     * The {@code advanceTo} method moves the wheel forward to the given time, passing the task of every timer which
+     * expires along the way to the consumer. Timers scheduled by the consumer which are already due expire before this
+     * method returns.
+     *
+     * <p> This operation takes {@code O(t + e)} time, where {@code t} is the number of ticks moved and {@code e} is the
+     * number of timers which expire or are cascaded. Stretches of time where the wheels are empty are skipped.
+     *
+     * @param time the time to move the wheel to.
+     * @param consumer the consumer which is given the task of each expired timer.
+     * @return the number of timers which expired.
+     */
+    public int advanceTo(long time, Consumer<? super T> consumer) {
+        long targetTick = Math.floorDiv(time, tickDuration);
+        int expired = expire(due, consumer);
+
+        while (currentTick < targetTick) {
+            if (wheelCount == 0) {
+                // Nothing can expire until the earliest overflow timer comes into range
+                long nextTick = targetTick;
+                Timer<T> earliest = peekOverflow();
+
+                if (earliest != null) {
+                    nextTick = Math.min(targetTick, earliest.tick - span);
+                }
+
+                if (nextTick > currentTick) {
+                    currentTick = nextTick;
+                    continue;
+                }
+            }
+
+            currentTick++;
+            pullOverflow();
+            cascade();
+            expired += expire(wheels[0][(int) currentTick & wheelMask], consumer);
+            expired += expire(due, consumer);
+        }
+
+        return expired;
+    }
+
+    /**
+     * The {@code currentTime} method returns the start of the tick the wheel is currently on.
+     *
+     * @return the current time of the wheel.
+     */
+    public long currentTime() {
+        return currentTick * tickDuration;
+    }
+
+    /**
+     * The {@code size} method returns the number of pending timers.
+     *
+     * <p> This operation takes {@code O(1)} time as there is a variable tracking the number of timers.
+     *
+     * @return the number of pending timers.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * The {@code isEmpty} method checks if there are any pending timers or not.
+     *
+     * <p> This operation takes {@code O(1)} time as there is a variable tracking the number of timers.
+     *
+     * @return {@code true} if there are no pending timers, otherwise {@code false}.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * The {@code place} method puts a pending timer into the lowest wheel whose range covers its deadline, into the
+     * due list if its deadline has passed, or into the overflow heap if it is too far away.
+     */
+    private void place(Timer<T> timer) {
+        long delta = timer.tick - currentTick;
+
+        if (delta <= 0) {
+            link(due, timer);
+            return;
+        }
+
+        for (int level = 0; level < wheels.length; level++) {
+            int shift = wheelBits * level;
+
+            if (delta < 1L << (shift + wheelBits)) {
+                link(wheels[level][(int) (timer.tick >>> shift) & wheelMask], timer);
+                wheelCount++;
+                return;
+            }
+        }
+
+        overflow.insert(timer);
+    }
+
+    /**
+     * The {@code cascade} method moves the timers out of every higher wheel slot which the current tick has just
+     * reached, starting from the highest wheel so that its timers can cascade all the way down.
+     */
+    private void cascade() {
+        int level = 1;
+
+        while (level < wheels.length && (currentTick & ((1L << (wheelBits * level)) - 1)) == 0) {
+            level++;
+        }
+
+        for (level--; level > 0; level--) {
+            Bucket<T> bucket = wheels[level][(int) (currentTick >>> (wheelBits * level)) & wheelMask];
+
+            while (bucket.head != null) {
+                Timer<T> timer = bucket.head;
+
+                unlink(timer);
+                place(timer);
+            }
+        }
+    }
+
+    private int expire(Bucket<T> bucket, Consumer<? super T> consumer) {
+        int expired = 0;
+
+        while (bucket.head != null) {
+            Timer<T> timer = bucket.head;
+
+            unlink(timer);
+            timer.state = Timer.EXPIRED;
+            size--;
+            expired++;
+            consumer.accept(timer.task);
+        }
+
+        return expired;
+    }
+
+    private void pullOverflow() {
+        Timer<T> earliest;
+
+        while ((earliest = peekOverflow()) != null && earliest.tick - currentTick < span) {
+            place(overflow.poll());
+        }
+    }
+
+    private Timer<T> peekOverflow() {
+        Timer<T> earliest = overflow.peek();
+
+        while (earliest != null && earliest.state == Timer.CANCELLED) {
+            overflow.poll();
+            overflowCancelled--;
+            earliest = overflow.peek();
+        }
+
+        return earliest;
+    }
+
+    /**
+     * The {@code purgeOverflow} method drops the cancelled timers from the overflow heap in {@code O(n)} time, by
+     * filtering its array in place and heapifying what is left.
+     */
+    private void purgeOverflow() {
+        overflow.removeIf(timer -> timer.state != Timer.PENDING);
+        overflowCancelled = 0;
+    }
+
+    private void link(Bucket<T> bucket, Timer<T> timer) {
+        timer.bucket = bucket;
+        timer.prev = null;
+        timer.next = bucket.head;
+
+        if (bucket.head != null) {
+            bucket.head.prev = timer;
+        }
+
+        bucket.head = timer;
+    }
+
+    private void unlink(Timer<T> timer) {
+        Bucket<T> bucket = timer.bucket;
+
+        if (timer.prev != null) {
+            timer.prev.next = timer.next;
+        } else {
+            bucket.head = timer.next;
+        }
+
+        if (timer.next != null) {
+            timer.next.prev = timer.prev;
+        }
+
+        if (bucket != due) {
+            wheelCount--;
+        }
+
+        timer.bucket = null;
+        timer.prev = null;
+        timer.next = null;
+    }
+
+    @Override
+    public String toString() {
+        return "TimingWheel{" +
+                "currentTick=" + currentTick +
+                ", size=" + size +
+                ", overflow=" + (overflow.size() - overflowCancelled) +
+                '}';
+    }
+
+    /**
+     * A {@code Timer} is a task which has been scheduled on a {@code TimingWheel}. Timers are ordered so that the one
+     * with the earliest deadline has the greatest priority, which is how the overflow heap keeps them.
+     *
+     * @param <T> the data type of the task.
+     */
+    public static final class Timer<T> implements Comparable<Timer<T>> {
+        private static final int PENDING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private final long deadline;
+        private final long tick;
+        private final T task;
+        private Bucket<T> bucket;
+        private Timer<T> prev;
+        private Timer<T> next;
+        private int state;
+
+        private Timer(long deadline, long tick, T task) {
+            this.deadline = deadline;
+            this.tick = tick;
+            this.task = task;
+            this.state = PENDING;
+        }
+
+        /**
+         * Retrieves the time at which the timer expires.
+         *
+         * @return the deadline of the timer.
+         */
+        public long getDeadline() {
+            return deadline;
+        }
+
+        /**
+         * Retrieves the task which is run when the timer expires.
+         *
+         * @return the task of the timer.
+         */
+        public T getTask() {
+            return task;
+        }
+
+        /**
+         * Checks whether the timer has been cancelled.
+         *
+         * @return {@code true} if the timer has been cancelled, otherwise {@code false}.
+         */
+        public boolean isCancelled() {
+            return state == CANCELLED;
+        }
+
+        /**
+         * Checks whether the timer has expired.
+         *
+         * @return {@code true} if the timer has expired, otherwise {@code false}.
+         */
+        public boolean isExpired() {
+            return state == EXPIRED;
+        }
+
+        @Override
+        public int compareTo(Timer<T> other) {
+            return Long.compare(other.tick, tick);
+        }
+
+        @Override
+        public String toString() {
+            return "Timer{" +
+                    "deadline=" + deadline +
+                    ", task=" + task +
+                    '}';
+        }
+    }
+
+    /**
+     * A {@code Bucket} is a slot of a wheel, holding a doubly linked list of the timers which are due on its tick.
+     *
+     * @param <T> the data type of the tasks.
+     */
+    private static final class Bucket<T> {
+        private Timer<T> head;
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private static <T> Bucket<T>[][] newArray(int levels, int length) {
+            return (Bucket<T>[][]) new Bucket[levels][length];
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package dev.andrewjfei.tree;
+
+import dev.andrewjfei.exceptions.EmptyTreeException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.function.IntFunction;
+
+/**
+ * A {@code TopKHeap} is a fixed capacity heap which keeps the {@code k} elements with the greatest priority out of all
+ * the elements offered to it. It is used to select the top {@code k} elements of a stream while only ever holding
+ * {@code k} elements in memory.
+ *
+ * <p> Internally the heap is a <b>Min Heap</b>, so the root is the element with the least priority which has been kept
+ * and is the first one to be evicted. Once the heap is full, an offered element is compared against the root only and
+ * either rejected straight away or written over the root and sunk, which replaces the insert followed by poll that a
+ * {@link BinaryHeap} would need.
+ *
+ * @see BinaryHeap
+ *
+ * @author andrewjfei
+ *
+ * @param <T> the data type of the list which must be {@code Comparable}.
+ */
+public class TopKHeap<T extends Comparable<T>> {
+
+    private final T[] heap;
+    private int size;
+
+    public TopKHeap(int k) {
+        if (k <= 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + k);
+        }
+
+        heap = newArray(k);
+        size = 0;
+    }
+
+    /**
+     * The {@code offer} method gives an element to the heap, which keeps it if it is among the top {@code k} elements
+     * offered so far.
+     *
+     * <p> This operation takes {@code O(1)} time if the element has no greater priority than the root of a full heap,
+     * as it is rejected after a single comparison. Otherwise it takes {@code O(log(k))} time as the element either swims
+     * up from the next available position or replaces the root and sinks.
+     *
+     * @param t the element which is being offered to the heap.
+     * @return {@code true} if the element was kept, otherwise {@code false}.
+     */
+    public boolean offer(T t) {
+        if (size < heap.length) {
+            swim(size++, t);
+            return true;
+        }
+
+        if (t.compareTo(heap[0]) <= 0) {
+            return false;
+        }
+
+        heap[0] = t;
+        sink();
+        return true;
+    }
+
+    /**
+     * The {@code poll} method removes the element with the least priority which has been kept.
+     *
+     * <p> This operation takes {@code O(log(k))} time as the last element is sunk from the root until the
+     * <b>heap invariant</b> is met.
+     *
+     * @return the element at the root of the heap.
+     */
+    public T poll() {
+        if (isEmpty()) throw new EmptyTreeException();
+
+        T rootNode = heap[0];
+        int lastIndex = --size;
+        T lastNode = heap[lastIndex];
+
+        heap[lastIndex] = null;
+
+        if (lastIndex > 0) {
+            heap[0] = lastNode;
+            sink();
+        }
+
+        return rootNode;
+    }
+
+    /**
+     * The {@code peek} method returns the element with the least priority which has been kept. Once the heap is full,
+     * an element must have greater priority than this one to be kept.
+     *
+     * <p> This operation takes {@code O(1)} time as it is the root of the heap.
+     *
+     * @return the element at the root of the heap.
+     */
+    public T peek() {
+        if (isEmpty()) return null;
+
+        return heap[0];
+    }
+
+    /**
+     * The {@code toSortedArray} method returns the kept elements ordered from greatest to least priority. The heap is
+     * left unchanged.
+     *
+     * <p> This operation takes {@code O(k log(k))} time as the elements are copied and then heap sorted, repeatedly
+     * moving the root behind the shrinking heap.
+     *
+     * @param generator creates an array of the requested length, for example {@code Integer[]::new}.
+     * @return the kept elements sorted by priority.
+     */
+    public T[] toSortedArray(IntFunction<T[]> generator) {
+        T[] sorted = generator.apply(size);
+        System.arraycopy(heap, 0, sorted, 0, size);
+
+        // Sorting a min ordered heap by reversed order leaves the greatest element first
+        HeapSort.sortHeap(sorted, size, Comparator.reverseOrder());
+        return sorted;
+    }
+
+    /**
+     * The {@code size} method returns the number of elements which are kept.
+     *
+     * <p> This operation takes {@code O(1)} time as there is a variable tracking the size of the heap.
+     *
+     * @return the size of the heap.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * The {@code capacity} method returns {@code k}, the number of elements the heap keeps.
+     *
+     * <p> This operation takes {@code O(1)} time as the capacity is fixed when the heap is created.
+     *
+     * @return the capacity of the heap.
+     */
+    public int capacity() {
+        return heap.length;
+    }
+
+    /**
+     * The {@code isEmpty} method checks if the heap currently contains any elements or not.
+     *
+     * <p> This operation takes {@code O(1)} time as there is a variable tracking the size of the heap.
+     *
+     * @return {@code true} if the heap is empty, otherwise {@code false}.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * The {@code isFull} method checks if the heap holds {@code k} elements, after which an offered element has to
+     * evict the root to be kept.
+     *
+     * <p> This operation takes {@code O(1)} time as there is a variable tracking the size of the heap.
+     *
+     * @return {@code true} if the heap is full, otherwise {@code false}.
+     */
+    public boolean isFull() {
+        return size == heap.length;
+    }
+
+    private void swim(int index, T t) {
+        while (index > 0) {
+            int parentIndex = (index - 1) >>> 1;
+            T parentNode = heap[parentIndex];
+
+            if (parentNode.compareTo(t) <= 0) {
+                break;
+            }
+
+            heap[index] = parentNode;
+            index = parentIndex;
+        }
+
+        heap[index] = t;
+    }
+
+    /**
+     * The {@code sink} method moves the element at the root down the heap until the <b>heap invariant</b> is met. The
+     * heap is min ordered, which is a max ordered heap by reversed order, so it shares the sink of {@link HeapSort}.
+     */
+    private void sink() {
+        HeapSort.sink(heap, 0, size, Comparator.reverseOrder());
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T extends Comparable<T>> T[] newArray(int length) {
+        return (T[]) new Comparable[length];
+    }
+
+    @Override
+    public String toString() {
+        return "TopKHeap{" +
+                "heap=" + Arrays.toString(Arrays.copyOf(heap, size)) +
+                ", size=" + size +
+                ", capacity=" + heap.length +
+                '}';
+    }
+}
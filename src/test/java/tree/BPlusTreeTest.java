@@ -0,0 +1,283 @@
+package tree;
+
+import dev.andrewjfei.exceptions.EmptyTreeException;
+import dev.andrewjfei.exceptions.NodeAlreadyExistsException;
+import dev.andrewjfei.tree.BPlusTree;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BPlusTreeTest {
+
+    private BPlusTree<Integer> tree;
+
+    @BeforeEach
+    public void setUp() {
+        tree = new BPlusTree<>(4);
+    }
+
+    @Test
+    public void constructor_whenFanoutIsTooSmall_shouldThrowException() {
+        // Given
+        // When
+        // Then
+        assertThrows(IllegalArgumentException.class, () -> new BPlusTree<Integer>(3));
+    }
+
+    @Test
+    public void add_whenBPlusTreeIsEmpty_shouldAddElementToTree() {
+        // Given
+        assertTrue(tree.isEmpty());
+
+        // When
+        tree.add(50);
+
+        // Then
+        assertEquals(1, tree.size());
+        assertTrue(tree.contains(50));
+        assertEquals(50, tree.peek());
+    }
+
+    @Test
+    public void add_whenElementAlreadyExists_shouldThrowException() {
+        // Given
+        for (int element = 0; element < 20; element++) {
+            tree.add(element);
+        }
+
+        // When
+        // Then
+        assertThrows(NodeAlreadyExistsException.class, () -> tree.add(7));
+        assertEquals(20, tree.size());
+    }
+
+    @Test
+    public void add_whenManyElementsAreAdded_shouldSplitNodes() {
+        // Given
+        // When
+        for (int element = 0; element < 1_000; element++) {
+            tree.add(element);
+        }
+
+        // Then
+        assertEquals(1_000, tree.size());
+        assertTrue(tree.height() > 1);
+        assertTrue(tree.height() <= 10);
+        assertEquals(0, tree.peek());
+    }
+
+    @Test
+    public void remove_whenBPlusTreeIsEmpty_shouldThrowException() {
+        // Given
+        assertTrue(tree.isEmpty());
+
+        // When
+        // Then
+        assertThrows(EmptyTreeException.class, () -> tree.remove(50));
+    }
+
+    @Test
+    public void remove_whenElementIsNotInTree_shouldReturnNull() {
+        // Given
+        tree.add(50);
+
+        // When
+        // Then
+        assertNull(tree.remove(25));
+        assertEquals(1, tree.size());
+    }
+
+    @Test
+    public void remove_whenEveryElementIsRemoved_shouldShrinkToSingleLeaf() {
+        // Given
+        for (int element = 0; element < 500; element++) {
+            tree.add(element);
+        }
+
+        // When
+        for (int element = 0; element < 500; element++) {
+            assertEquals(element, tree.remove(element));
+        }
+
+        // Then
+        assertTrue(tree.isEmpty());
+        assertEquals(1, tree.height());
+        assertNull(tree.peek());
+        assertFalse(tree.iterator().hasNext());
+    }
+
+    @Test
+    public void peek_whenBPlusTreeIsEmpty_shouldReturnNull() {
+        // Given
+        assertTrue(tree.isEmpty());
+
+        // When
+        // Then
+        assertNull(tree.peek());
+    }
+
+    @Test
+    public void remove_whenElementsAreAddedAndRemovedRandomly_shouldMatchTreeSet() {
+        for (int fanout : new int[] { 4, 5, 32 }) {
+            tree = new BPlusTree<>(fanout);
+            TreeSet<Integer> expected = new TreeSet<>();
+            Random random = new Random(53);
+
+            // Given
+            // When
+            for (int i = 0; i < 20_000; i++) {
+                int element = random.nextInt(2_000);
+
+                if (random.nextBoolean()) {
+                    if (expected.add(element)) {
+                        tree.add(element);
+                    }
+                } else if (!expected.isEmpty()) {
+                    assertEquals(expected.remove(element) ? element : null, tree.remove(element));
+                }
+            }
+
+            // Then
+            List<Integer> actual = new ArrayList<>();
+            tree.forEach(actual::add);
+
+            assertEquals(new ArrayList<>(expected), actual);
+            assertEquals(expected.size(), tree.size());
+            assertEquals(expected.isEmpty() ? null : expected.first(), tree.peek());
+
+            for (int element = 0; element < 2_000; element++) {
+                assertEquals(expected.contains(element), tree.contains(element));
+            }
+        }
+    }
+
+    @Test
+    public void iterator_whenRangeIsGiven_shouldOnlyReturnElementsInRange() {
+        // Given
+        for (int element = 0; element < 100; element += 2) {
+            tree.add(element);
+        }
+
+        // When
+        List<Integer> range = new ArrayList<>();
+        tree.iterator(15, 31).forEachRemaining(range::add);
+
+        // Then
+        assertEquals(List.of(16, 18, 20, 22, 24, 26, 28, 30), range);
+        assertFalse(tree.iterator(31, 15).hasNext());
+        assertFalse(tree.iterator(99, 200).hasNext());
+    }
+
+    @Test
+    public void iterator_whenTreeIsModified_shouldThrowException() {
+        // Given
+        tree.add(50);
+        tree.add(25);
+        Iterator<Integer> iterator = tree.iterator();
+        iterator.next();
+
+        // When
+        tree.add(75);
+
+        // Then
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    @Test
+    public void fromSorted_whenElementsAreSorted_shouldBuildTree() {
+        for (int n : new int[] { 0, 1, 4, 5, 17, 1_000 }) {
+            Integer[] sorted = new Integer[n];
+
+            for (int i = 0; i < n; i++) {
+                sorted[i] = i * 3;
+            }
+
+            // Given
+            // When
+            tree = BPlusTree.fromSorted(sorted, 4);
+
+            // Then
+            List<Integer> actual = new ArrayList<>();
+            tree.forEach(actual::add);
+
+            assertEquals(List.of(sorted), actual);
+            assertEquals(n, tree.size());
+
+            // The tree keeps working as a normal tree afterwards
+            for (int i = 0; i < n; i++) {
+                tree.add(i * 3 + 1);
+                assertEquals(i * 3, tree.remove(i * 3));
+            }
+
+            assertEquals(n, tree.size());
+        }
+    }
+
+    @Test
+    public void fromSorted_whenElementsAreNotSorted_shouldThrowException() {
+        // Given
+        Integer[] repeated = { 1, 2, 2 };
+        Integer[] unsorted = { 1, 3, 2 };
+
+        // When
+        // Then
+        assertThrows(NodeAlreadyExistsException.class, () -> BPlusTree.fromSorted(repeated));
+        assertThrows(IllegalArgumentException.class, () -> BPlusTree.fromSorted(unsorted));
+    }
+
+    @Test
+    public void containsAndIterator_whenReadConcurrently_shouldReturnCorrectResults() throws Exception {
+        // Given
+        Integer[] sorted = new Integer[50_000];
+
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = i * 2;
+        }
+
+        BPlusTree<Integer> shared = BPlusTree.fromSorted(sorted, 8);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        // When
+        for (int thread = 0; thread < 4; thread++) {
+            int seed = thread;
+
+            results.add(executor.submit(() -> {
+                Random random = new Random(seed);
+                boolean correct = true;
+
+                for (int i = 0; i < 20_000; i++) {
+                    int element = random.nextInt(sorted.length * 2 - 1);
+                    correct &= shared.contains(element) == (element % 2 == 0);
+
+                    Iterator<Integer> iterator = shared.iterator(element, element + 4);
+                    int first = element + (element % 2);
+                    correct &= iterator.hasNext() && iterator.next() == first;
+                }
+
+                return correct;
+            }));
+        }
+
+        // Then
+        for (Future<Boolean> result : results) {
+            assertTrue(result.get());
+        }
+
+        executor.shutdown();
+    }
+}
@@ -2,9 +2,14 @@ package tree;
 
 import dev.andrewjfei.exceptions.EmptyTreeException;
 import dev.andrewjfei.tree.BinaryHeap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -195,4 +200,265 @@ public class BinaryHeapTest {
         // Then
         assertFalse(heap.isEmpty());
     }
+
+    @Test
+    public void poll_whenHeapIsNotEmpty_shouldReturnElementsInPriorityOrder() {
+        // Given
+        int[] elements = { 5, 12, 3, 9, 1, 12, 7, 0, 4, 8, 11, 2 };
+
+        for (int element : elements) {
+            heap.insert(element);
+        }
+
+        assertEquals(elements.length, heap.size());
+
+        // When
+        int[] polled = new int[elements.length];
+
+        for (int i = 0; i < polled.length; i++) {
+            polled[i] = heap.poll();
+        }
+
+        // Then
+        assertArrayEquals(new int[] { 12, 12, 11, 9, 8, 7, 5, 4, 3, 2, 1, 0 }, polled);
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test
+    public void insert_whenHeapIsFull_shouldGrowCapacity() {
+        heap = new BinaryHeap<>(2, 2.0);
+
+        // Given
+        heap.insert(1);
+        heap.insert(2);
+        assertEquals(2, heap.capacity());
+
+        // When
+        heap.insert(3);
+
+        // Then
+        assertEquals(3, heap.size());
+        assertEquals(4, heap.capacity());
+        assertEquals(3, heap.peek());
+    }
+
+    @Test
+    public void insert_whenHeapHasZeroCapacity_shouldGrowCapacity() {
+        heap = new BinaryHeap<>(0);
+
+        // Given
+        assertEquals(0, heap.capacity());
+
+        // When
+        heap.insert(1);
+
+        // Then
+        assertEquals(1, heap.size());
+        assertEquals(1, heap.peek());
+    }
+
+    @Test
+    public void insert_whenElementsArePolledAndInsertedRepeatedly_shouldNotGrowCapacity() {
+        heap = new BinaryHeap<>(8);
+
+        // Given
+        for (int i = 0; i < 8; i++) {
+            heap.insert(i);
+        }
+
+        // When
+        for (int i = 8; i < 10_000; i++) {
+            heap.poll();
+            heap.insert(i);
+        }
+
+        // Then
+        assertEquals(8, heap.size());
+        assertEquals(8, heap.capacity());
+        assertEquals(9_999, heap.peek());
+    }
+
+    @Test
+    public void trimToSize_whenHeapHasUnusedCapacity_shouldShrinkCapacityToSize() {
+        heap = new BinaryHeap<>(64);
+
+        // Given
+        heap.insert(1);
+        heap.insert(2);
+        heap.insert(3);
+        assertEquals(64, heap.capacity());
+
+        // When
+        heap.trimToSize();
+
+        // Then
+        assertEquals(3, heap.capacity());
+        assertEquals(3, heap.poll());
+        assertEquals(2, heap.poll());
+        assertEquals(1, heap.poll());
+    }
+
+    @Test
+    public void constructor_whenArgumentsAreIllegal_shouldThrowException() {
+        // Given
+        // When
+        // Then
+        assertThrows(IllegalArgumentException.class, () -> new BinaryHeap<Integer>(-1));
+        assertThrows(IllegalArgumentException.class, () -> new BinaryHeap<Integer>(16, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> new BinaryHeap<Integer>(16, Double.NaN));
+    }
+
+    @Test
+    public void poll_whenHeapIsDAry_shouldReturnElementsInPriorityOrder() {
+        Random random = new Random(7);
+
+        for (int arity : new int[] { 2, 4, 8 }) {
+            heap = new BinaryHeap<>(4, 1.5, arity);
+
+            // Given
+            for (int i = 0; i < 1_000; i++) {
+                heap.insert(random.nextInt(500));
+            }
+
+            assertEquals(arity, heap.arity());
+            assertEquals(1_000, heap.size());
+
+            // When
+            // Then
+            int previous = Integer.MAX_VALUE;
+
+            while (!heap.isEmpty()) {
+                int polled = heap.poll();
+                assertTrue(polled <= previous);
+                previous = polled;
+            }
+        }
+    }
+
+    @Test
+    public void removeIf_whenElementsMatchFilter_shouldRemoveThemAndKeepHeapOrder() {
+        Random random = new Random(10);
+
+        for (int arity : new int[] { 2, 4, 8 }) {
+            heap = new BinaryHeap<>(4, 1.5, arity);
+            List<Integer> expected = new ArrayList<>();
+
+            // Given
+            for (int i = 0; i < 1_000; i++) {
+                int element = random.nextInt(500);
+                heap.insert(element);
+
+                if (element % 3 != 0) {
+                    expected.add(element);
+                }
+            }
+
+            // When
+            int removed = heap.removeIf(element -> element % 3 == 0);
+
+            // Then
+            assertEquals(1_000 - expected.size(), removed);
+            assertEquals(expected.size(), heap.size());
+            assertEquals(0, heap.removeIf(element -> element % 3 == 0));
+
+            expected.sort(Collections.reverseOrder());
+
+            for (int element : expected) {
+                assertEquals(element, heap.poll());
+            }
+
+            assertTrue(heap.isEmpty());
+        }
+    }
+
+    @Test
+    public void constructor_whenArityIsNotSupported_shouldThrowException() {
+        // Given
+        // When
+        // Then
+        assertThrows(IllegalArgumentException.class, () -> new BinaryHeap<Integer>(16, 1.5, 3));
+        assertThrows(IllegalArgumentException.class, () -> new BinaryHeap<Integer>(16, 1.5, 16));
+        assertEquals(2, heap.arity());
+    }
+
+    @Test
+    public void constructor_whenCollectionIsGiven_shouldBuildHeapFromElements() {
+        List<Integer> elements = new ArrayList<>();
+        Random random = new Random(11);
+
+        for (int i = 0; i < 1_000; i++) {
+            elements.add(random.nextInt());
+        }
+
+        // Given
+        // When
+        heap = new BinaryHeap<>(elements);
+
+        // Then
+        assertEquals(elements.size(), heap.size());
+
+        elements.sort(Collections.reverseOrder());
+
+        for (Integer element : elements) {
+            assertEquals(element, heap.poll());
+        }
+    }
+
+    @Test
+    public void constructor_whenArrayIsGiven_shouldBuildHeapWithoutModifyingArray() {
+        Integer[] elements = { 3, 1, 4, 1, 5, 9, 2, 6 };
+
+        // Given
+        // When
+        heap = new BinaryHeap<>(elements);
+
+        // Then
+        assertArrayEquals(new Integer[] { 3, 1, 4, 1, 5, 9, 2, 6 }, elements);
+        assertEquals(List.of(9, 6, 5, 4, 3, 2, 1, 1), heap.pollBatch(elements.length));
+    }
+
+    @Test
+    public void insertAll_whenHeapIsNotEmpty_shouldAddAllElementsToHeap() {
+        // Given
+        heap.insert(5);
+        heap.insert(50);
+
+        // When
+        heap.insertAll(List.of(7, 70, 1));
+        heap.insertAll(List.of(100));
+
+        // Then
+        assertEquals(6, heap.size());
+        assertEquals(List.of(100, 70, 50, 7, 5, 1), heap.pollBatch(10));
+    }
+
+    @Test
+    public void pollBatch_whenHeapIsEmpty_shouldReturnEmptyList() {
+        // Given
+        assertTrue(heap.isEmpty());
+
+        // When
+        List<Integer> polled = heap.pollBatch(5);
+
+        // Then
+        assertTrue(polled.isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> heap.pollBatch(-1));
+    }
+
+    @Test
+    public void drainTo_whenHeapHasMoreElementsThanMaximum_shouldOnlyRemoveMaximumElements() {
+        List<Integer> drained = new ArrayList<>();
+
+        // Given
+        heap.insertAll(List.of(4, 8, 2, 6));
+
+        // When
+        int count = heap.drainTo(drained, 3);
+
+        // Then
+        assertEquals(3, count);
+        assertEquals(List.of(8, 6, 4), drained);
+        assertEquals(1, heap.size());
+        assertEquals(2, heap.peek());
+    }
 }
@@ -3,11 +3,22 @@ package tree;
 import dev.andrewjfei.exceptions.EmptyTreeException;
 import dev.andrewjfei.exceptions.NodeAlreadyExistsException;
 import dev.andrewjfei.tree.BinarySearchTree;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.TreeSet;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -223,4 +234,924 @@ public class BinarySearchTreeTest {
         // Then
         assertFalse(bst.isEmpty());
     }
+
+    @Test
+    public void add_whenBinarySearchTreeIsBalanced_andElementsAreSorted_shouldKeepLogarithmicHeight() {
+        bst = new BinarySearchTree<>(true);
+
+        // Given
+        assertTrue(bst.isBalanced());
+
+        // When
+        for (int i = 0; i < 100_000; i++) {
+            bst.add(i);
+        }
+
+        // Then
+        assertEquals(100_000, bst.size());
+        assertEquals(17, bst.height());
+        assertTrue(bst.contains(0));
+        assertTrue(bst.contains(99_999));
+    }
+
+    @Test
+    public void remove_whenElementIsNotInTree_shouldReturnNull() {
+        // Given
+        bst.add(50);
+        bst.add(25);
+
+        // When
+        Integer removed = bst.remove(30);
+
+        // Then
+        assertNull(removed);
+        assertEquals(2, bst.size());
+    }
+
+    @Test
+    public void remove_whenElementIsRoot_shouldReplaceRoot() {
+        // Given
+        bst.add(50);
+        bst.add(25);
+        bst.add(75);
+
+        // When
+        Integer removed = bst.remove(50);
+
+        // Then
+        assertEquals(50, removed);
+        assertEquals(75, bst.peek());
+        assertTrue(bst.contains(25));
+        assertEquals(75, bst.remove(75));
+        assertEquals(25, bst.peek());
+        assertEquals(25, bst.remove(25));
+        assertTrue(bst.isEmpty());
+    }
+
+    @Test
+    public void remove_whenElementsAreAddedAndRemovedRandomly_shouldMatchTreeSet() {
+        for (boolean balanced : new boolean[] { false, true }) {
+            bst = new BinarySearchTree<>(balanced);
+            TreeSet<Integer> expected = new TreeSet<>();
+            Random random = new Random(29);
+
+            // Given
+            for (int i = 0; i < 2_000; i++) {
+                int element = random.nextInt(1_000);
+
+                if (expected.add(element)) {
+                    bst.add(element);
+                }
+            }
+
+            // When
+            for (int i = 0; i < 2_000; i++) {
+                int element = random.nextInt(1_000);
+
+                if (expected.remove(element)) {
+                    assertEquals(element, bst.remove(element));
+                } else if (!bst.isEmpty()) {
+                    assertNull(bst.remove(element));
+                }
+            }
+
+            // Then
+            assertEquals(expected.size(), bst.size());
+
+            for (int element = 0; element < 1_000; element++) {
+                assertEquals(expected.contains(element), bst.contains(element));
+            }
+
+            if (balanced) {
+                assertTrue(bst.height() <= 1.45 * (Math.log(bst.size() + 2) / Math.log(2)));
+            }
+        }
+    }
+
+    @Test
+    public void contains_whenBinarySearchTreeIsEmpty_shouldReturnFalse() {
+        // Given
+        assertTrue(bst.isEmpty());
+
+        // When
+        // Then
+        assertFalse(bst.contains(50));
+    }
+
+    @Test
+    public void addIfAbsent_whenElementIsNotInTree_shouldAddElement_andReturnTrue() {
+        // Given
+        bst.add(50);
+
+        // When
+        boolean added = bst.addIfAbsent(25);
+
+        // Then
+        assertTrue(added);
+        assertEquals(2, bst.size());
+        assertTrue(bst.contains(25));
+    }
+
+    @Test
+    public void addIfAbsent_whenElementIsInTree_shouldReturnFalse() {
+        // Given
+        bst.add(50);
+        bst.add(25);
+
+        // When
+        boolean added = bst.addIfAbsent(25);
+
+        // Then
+        assertFalse(added);
+        assertEquals(2, bst.size());
+    }
+
+    @Test
+    public void getOrInsert_whenElementIsInTree_shouldReturnExistingElement() {
+        BinarySearchTree<String> tree = new BinarySearchTree<>(true);
+        String existing = new String("key");
+        String lookup = new String("key");
+
+        // Given
+        tree.add(existing);
+
+        // When
+        String result = tree.getOrInsert(lookup);
+
+        // Then
+        assertSame(existing, result);
+        assertEquals(1, tree.size());
+    }
+
+    @Test
+    public void getOrInsert_whenElementIsNotInTree_shouldAddElement_andReturnIt() {
+        // Given
+        bst.add(50);
+
+        // When
+        Integer result = bst.getOrInsert(75);
+
+        // Then
+        assertEquals(75, result);
+        assertEquals(2, bst.size());
+        assertTrue(bst.contains(75));
+    }
+
+    @Test
+    public void addIfAbsent_whenBinarySearchTreeIsBalanced_andElementsAreSorted_shouldKeepLogarithmicHeight() {
+        bst = new BinarySearchTree<>(true);
+
+        // Given
+        for (int i = 0; i < 1_000; i++) {
+            assertTrue(bst.addIfAbsent(i));
+        }
+
+        // When
+        for (int i = 0; i < 1_000; i++) {
+            assertFalse(bst.addIfAbsent(i));
+        }
+
+        // Then
+        assertEquals(1_000, bst.size());
+        assertEquals(10, bst.height());
+    }
+
+    @Test
+    public void rank_whenBinarySearchTreeIsNotEmpty_shouldReturnNumberOfSmallerElements() {
+        // Given
+        for (int element : new int[] { 50, 20, 80, 10, 30, 70, 90 }) {
+            bst.add(element);
+        }
+
+        // When
+        // Then
+        assertEquals(0, bst.rank(5));
+        assertEquals(0, bst.rank(10));
+        assertEquals(3, bst.rank(50));
+        assertEquals(4, bst.rank(60));
+        assertEquals(7, bst.rank(100));
+    }
+
+    @Test
+    public void select_whenIndexIsOutOfRange_shouldThrowException() {
+        // Given
+        bst.add(50);
+
+        // When
+        // Then
+        assertThrows(IndexOutOfBoundsException.class, () -> bst.select(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> bst.select(1));
+    }
+
+    @Test
+    public void countInRange_whenBoundsAreInclusive_shouldCountBothEnds() {
+        // Given
+        for (int element = 0; element < 100; element += 10) {
+            bst.add(element);
+        }
+
+        // When
+        // Then
+        assertEquals(3, bst.countInRange(20, 40));
+        assertEquals(2, bst.countInRange(15, 35));
+        assertEquals(10, bst.countInRange(-5, 500));
+        assertEquals(0, bst.countInRange(41, 49));
+        assertEquals(0, bst.countInRange(40, 20));
+    }
+
+    @Test
+    public void percentile_whenBinarySearchTreeIsEmpty_shouldThrowException() {
+        // Given
+        assertTrue(bst.isEmpty());
+
+        // When
+        // Then
+        assertThrows(EmptyTreeException.class, () -> bst.percentile(50));
+    }
+
+    @Test
+    public void percentile_whenPercentileIsOutOfRange_shouldThrowException() {
+        // Given
+        bst.add(50);
+
+        // When
+        // Then
+        assertThrows(IllegalArgumentException.class, () -> bst.percentile(-1));
+        assertThrows(IllegalArgumentException.class, () -> bst.percentile(100.5));
+        assertThrows(IllegalArgumentException.class, () -> bst.percentile(Double.NaN));
+    }
+
+    @Test
+    public void percentile_whenBinarySearchTreeIsNotEmpty_shouldReturnNearestRankElement() {
+        bst = new BinarySearchTree<>(true);
+
+        // Given
+        for (int element = 1; element <= 1_000; element++) {
+            bst.add(element);
+        }
+
+        // When
+        // Then
+        assertEquals(1, bst.percentile(0));
+        assertEquals(500, bst.percentile(50));
+        assertEquals(990, bst.percentile(99));
+        assertEquals(991, bst.percentile(99.05));
+        assertEquals(1_000, bst.percentile(100));
+    }
+
+    @Test
+    public void select_whenElementsAreAddedAndRemovedRandomly_shouldMatchSortedOrder() {
+        for (boolean balanced : new boolean[] { false, true }) {
+            bst = new BinarySearchTree<>(balanced);
+            TreeSet<Integer> expected = new TreeSet<>();
+            Random random = new Random(31);
+
+            // Given
+            for (int i = 0; i < 3_000; i++) {
+                int element = random.nextInt(1_000);
+
+                if (random.nextInt(3) == 0) {
+                    if (expected.remove(element)) {
+                        bst.remove(element);
+                    }
+                } else if (expected.add(element)) {
+                    bst.add(element);
+                }
+            }
+
+            // When
+            Integer[] sorted = expected.toArray(new Integer[0]);
+
+            // Then
+            for (int k = 0; k < sorted.length; k++) {
+                assertEquals(sorted[k], bst.select(k));
+                assertEquals(k, bst.rank(sorted[k]));
+            }
+
+            assertEquals(expected.subSet(250, true, 750, true).size(), bst.countInRange(250, 750));
+        }
+    }
+
+    @Test
+    public void floor_whenBinarySearchTreeIsNotEmpty_shouldReturnGreatestSmallerOrEqualElement() {
+        // Given
+        for (int element = 10; element <= 50; element += 10) {
+            bst.add(element);
+        }
+
+        // When
+        // Then
+        assertEquals(30, bst.floor(30));
+        assertEquals(30, bst.floor(35));
+        assertEquals(50, bst.floor(99));
+        assertNull(bst.floor(5));
+        assertEquals(20, bst.lower(30));
+        assertNull(bst.lower(10));
+    }
+
+    @Test
+    public void ceiling_whenBinarySearchTreeIsNotEmpty_shouldReturnSmallestGreaterOrEqualElement() {
+        // Given
+        for (int element = 10; element <= 50; element += 10) {
+            bst.add(element);
+        }
+
+        // When
+        // Then
+        assertEquals(30, bst.ceiling(30));
+        assertEquals(40, bst.ceiling(35));
+        assertEquals(10, bst.ceiling(-1));
+        assertNull(bst.ceiling(51));
+        assertEquals(40, bst.higher(30));
+        assertNull(bst.higher(50));
+    }
+
+    @Test
+    public void floor_whenBinarySearchTreeIsEmpty_shouldReturnNull() {
+        // Given
+        assertTrue(bst.isEmpty());
+
+        // When
+        // Then
+        assertNull(bst.floor(50));
+        assertNull(bst.ceiling(50));
+        assertNull(bst.lower(50));
+        assertNull(bst.higher(50));
+    }
+
+    @Test
+    public void iterator_whenBinarySearchTreeIsEmpty_shouldHaveNoElements() {
+        // Given
+        assertTrue(bst.isEmpty());
+
+        // When
+        Iterator<Integer> iterator = bst.iterator();
+
+        // Then
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+        assertFalse(bst.descendingIterator().hasNext());
+    }
+
+    @Test
+    public void iterator_whenBinarySearchTreeIsNotEmpty_shouldReturnElementsInOrder() {
+        for (boolean balanced : new boolean[] { false, true }) {
+            bst = new BinarySearchTree<>(balanced);
+            TreeSet<Integer> expected = new TreeSet<>();
+            Random random = new Random(37);
+
+            // Given
+            for (int i = 0; i < 1_000; i++) {
+                int element = random.nextInt(5_000);
+
+                if (expected.add(element)) {
+                    bst.add(element);
+                }
+            }
+
+            // When
+            List<Integer> ascending = new ArrayList<>();
+            List<Integer> descending = new ArrayList<>();
+            bst.forEach(ascending::add);
+            bst.descendingIterator().forEachRemaining(descending::add);
+
+            // Then
+            assertEquals(new ArrayList<>(expected), ascending);
+            assertEquals(new ArrayList<>(expected.descendingSet()), descending);
+        }
+    }
+
+    @Test
+    public void iterator_whenRangeIsGiven_shouldOnlyReturnElementsInRange() {
+        // Given
+        for (int element = 0; element < 100; element += 10) {
+            bst.add(element);
+        }
+
+        // When
+        List<Integer> range = new ArrayList<>();
+        bst.iterator(15, 50).forEachRemaining(range::add);
+
+        // Then
+        assertEquals(List.of(20, 30, 40, 50), range);
+        assertFalse(bst.iterator(41, 49).hasNext());
+        assertFalse(bst.iterator(50, 20).hasNext());
+        assertFalse(bst.iterator(100, 200).hasNext());
+    }
+
+    @Test
+    public void iterator_whenTreeIsModified_shouldThrowException() {
+        // Given
+        bst.add(50);
+        bst.add(25);
+        Iterator<Integer> iterator = bst.iterator();
+        iterator.next();
+
+        // When
+        bst.add(75);
+
+        // Then
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    @Test
+    public void iterator_whenRemovingThroughIterator_shouldRemoveElementsAndKeepIterating() {
+        bst = new BinarySearchTree<>(true);
+
+        // Given
+        for (int element = 0; element < 500; element++) {
+            bst.add(element);
+        }
+
+        // When
+        List<Integer> visited = new ArrayList<>();
+        Iterator<Integer> iterator = bst.iterator();
+
+        while (iterator.hasNext()) {
+            int element = iterator.next();
+            visited.add(element);
+
+            if (element % 3 != 0) {
+                iterator.remove();
+            }
+        }
+
+        // Then
+        assertEquals(500, visited.size());
+        assertEquals(167, bst.size());
+
+        for (int element = 0; element < 500; element++) {
+            assertEquals(element % 3 == 0, bst.contains(element));
+        }
+    }
+
+    @Test
+    public void fromSorted_whenElementsAreSorted_shouldBuildPerfectlyBalancedTree() {
+        Integer[] sorted = new Integer[100_000];
+
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = i * 2;
+        }
+
+        // Given
+        // When
+        bst = BinarySearchTree.fromSorted(sorted, true);
+
+        // Then
+        assertEquals(100_000, bst.size());
+        assertEquals(17, bst.height());
+        assertEquals(0, bst.select(0));
+        assertEquals(100_000, bst.rank(200_000));
+        assertTrue(bst.contains(1_234));
+        assertFalse(bst.contains(1_235));
+
+        // The tree keeps working as a normal tree afterwards
+        bst.add(1_235);
+        assertEquals(0, bst.remove(0));
+        assertEquals(100_000, bst.size());
+        assertEquals(1_234, bst.lower(1_235));
+    }
+
+    @Test
+    public void fromSorted_whenArrayIsEmpty_shouldBuildEmptyTree() {
+        // Given
+        // When
+        bst = BinarySearchTree.fromSorted(new Integer[0]);
+
+        // Then
+        assertTrue(bst.isEmpty());
+        assertEquals(0, bst.height());
+    }
+
+    @Test
+    public void fromSorted_whenElementsAreRepeated_shouldThrowException() {
+        // Given
+        Integer[] sorted = { 1, 2, 2, 3 };
+
+        // When
+        // Then
+        assertThrows(NodeAlreadyExistsException.class, () -> BinarySearchTree.fromSorted(sorted));
+    }
+
+    @Test
+    public void fromSorted_whenElementsAreNotSorted_shouldThrowException() {
+        // Given
+        Integer[] unsorted = { 1, 3, 2 };
+
+        // When
+        // Then
+        assertThrows(IllegalArgumentException.class, () -> BinarySearchTree.fromSorted(unsorted));
+    }
+
+    @Test
+    public void fromSorted_whenIteratorIsGiven_shouldReadOnlySizeElements() {
+        // Given
+        Iterator<Integer> iterator = List.of(10, 20, 30, 40, 50).iterator();
+
+        // When
+        bst = BinarySearchTree.fromSorted(iterator, 3, false);
+
+        // Then
+        assertEquals(3, bst.size());
+        assertEquals(30, bst.floor(45));
+        assertEquals(40, iterator.next());
+    }
+
+    @Test
+    public void fromUnsorted_whenElementsAreRepeated_shouldKeepDistinctElements() {
+        Random random = new Random(41);
+        Integer[] elements = new Integer[10_000];
+        TreeSet<Integer> expected = new TreeSet<>();
+
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = random.nextInt(5_000);
+            expected.add(elements[i]);
+        }
+
+        Integer[] original = elements.clone();
+
+        // Given
+        // When
+        bst = BinarySearchTree.fromUnsorted(elements, true);
+
+        // Then
+        List<Integer> actual = new ArrayList<>();
+        bst.forEach(actual::add);
+
+        assertEquals(new ArrayList<>(expected), actual);
+        assertTrue(bst.isBalanced());
+        assertArrayEquals(original, elements);
+    }
+
+    @Test
+    public void split_whenElementIsInTree_shouldMoveGreaterOrEqualElementsToNewTree() {
+        // Given
+        bst = BinarySearchTree.fromSorted(range(0, 1000), true);
+
+        // When
+        BinarySearchTree<Integer> upper = bst.split(400);
+
+        // Then
+        assertTreeEquals(new TreeSet<>(List.of(range(0, 400))), bst);
+        assertTreeEquals(new TreeSet<>(List.of(range(400, 1000))), upper);
+        assertTrue(upper.isBalanced());
+    }
+
+    @Test
+    public void split_whenElementIsOutsideTree_shouldMoveAllOrNothing() {
+        // Given
+        bst = BinarySearchTree.fromSorted(range(0, 100), true);
+
+        // When
+        BinarySearchTree<Integer> upper = bst.split(-1);
+        BinarySearchTree<Integer> empty = upper.split(100);
+
+        // Then
+        assertTrue(bst.isEmpty());
+        assertTreeEquals(new TreeSet<>(List.of(range(0, 100))), upper);
+        assertTrue(empty.isEmpty());
+    }
+
+    @Test
+    public void join_whenTreesAreInOrder_shouldJoinIntoBalancedTree() {
+        // Given
+        BinarySearchTree<Integer> left = BinarySearchTree.fromSorted(range(0, 10), true);
+        BinarySearchTree<Integer> right = BinarySearchTree.fromSorted(range(11, 5000), true);
+
+        // When
+        bst = BinarySearchTree.join(left, 10, right);
+
+        // Then
+        assertTreeEquals(new TreeSet<>(List.of(range(0, 5000))), bst);
+        assertTrue(left.isEmpty());
+        assertTrue(right.isEmpty());
+    }
+
+    @Test
+    public void join_whenTreesAreNotInOrder_shouldThrowException() {
+        // Given
+        BinarySearchTree<Integer> left = BinarySearchTree.fromSorted(range(0, 10), true);
+        BinarySearchTree<Integer> right = BinarySearchTree.fromSorted(range(5, 20), true);
+
+        // When
+        // Then
+        assertThrows(IllegalArgumentException.class, () -> BinarySearchTree.join(left, 10, right));
+        assertThrows(IllegalArgumentException.class, () -> BinarySearchTree.join(left, 9, new BinarySearchTree<>()));
+        assertEquals(10, left.size());
+        assertEquals(15, right.size());
+    }
+
+    @Test
+    public void join_whenOneTreeIsUnbalanced_shouldJoinIntoBalancedTree() {
+        // Given
+        BinarySearchTree<Integer> left = ascendingUnbalancedTree(1000);
+        BinarySearchTree<Integer> right = new BinarySearchTree<>(true);
+        TreeSet<Integer> expected = new TreeSet<>(List.of(range(0, 1000)));
+        expected.add(5000);
+
+        // When
+        bst = BinarySearchTree.join(left, 5000, right);
+
+        // Then
+        assertTrue(bst.isBalanced());
+        assertTreeEquals(expected, bst);
+        assertTrue(left.isEmpty());
+    }
+
+    @Test
+    public void combine_whenOtherTreeIsUnbalanced_shouldKeepThisTreeBalanced() {
+        for (Operation operation : Operation.values()) {
+            // Given
+            Random random = new Random(11);
+            TreeSet<Integer> expected = new TreeSet<>(List.of(range(500, 600)));
+            TreeSet<Integer> otherElements = new TreeSet<>();
+            BinarySearchTree<Integer> other = new BinarySearchTree<>(false);
+
+            for (int i = 0; i < 2000; i++) {
+                int element = random.nextInt(1000);
+
+                if (other.addIfAbsent(element)) {
+                    otherElements.add(element);
+                }
+            }
+
+            bst = BinarySearchTree.fromSorted(range(500, 600), true);
+
+            // When
+            switch (operation) {
+                case UNION -> {
+                    bst.union(other);
+                    expected.addAll(otherElements);
+                }
+                case INTERSECTION -> {
+                    bst.intersection(other);
+                    expected.retainAll(otherElements);
+                }
+                case DIFFERENCE -> {
+                    bst.difference(other);
+                    expected.removeAll(otherElements);
+                }
+            }
+
+            // Then
+            assertTreeEquals(expected, bst);
+            assertTrue(other.isEmpty());
+        }
+    }
+
+    @Test
+    public void union_whenTreesOverlap_shouldHoldElementsOfBothTrees() {
+        for (int otherSize : new int[] { 100, 20_000 }) {
+            Random random = new Random(otherSize);
+            TreeSet<Integer> expected = new TreeSet<>();
+            bst = randomTree(random, 30_000, 100_000, expected);
+            BinarySearchTree<Integer> other = randomTree(random, otherSize, 100_000, expected);
+
+            // Given
+            // When
+            bst.union(other);
+
+            // Then
+            assertTreeEquals(expected, bst);
+            assertTrue(other.isEmpty());
+        }
+    }
+
+    @Test
+    public void intersection_whenTreesOverlap_shouldHoldElementsInBothTrees() {
+        for (int otherSize : new int[] { 100, 20_000 }) {
+            Random random = new Random(otherSize);
+            TreeSet<Integer> expected = new TreeSet<>();
+            TreeSet<Integer> otherExpected = new TreeSet<>();
+            bst = randomTree(random, 30_000, 50_000, expected);
+            BinarySearchTree<Integer> other = randomTree(random, otherSize, 50_000, otherExpected);
+            expected.retainAll(otherExpected);
+
+            // Given
+            // When
+            bst.intersection(other);
+
+            // Then
+            assertTreeEquals(expected, bst);
+            assertTrue(other.isEmpty());
+        }
+    }
+
+    @Test
+    public void difference_whenTreesOverlap_shouldRemoveElementsOfOtherTree() {
+        for (int otherSize : new int[] { 100, 20_000 }) {
+            Random random = new Random(otherSize);
+            TreeSet<Integer> expected = new TreeSet<>();
+            TreeSet<Integer> otherExpected = new TreeSet<>();
+            bst = randomTree(random, 30_000, 50_000, expected);
+            BinarySearchTree<Integer> other = randomTree(random, otherSize, 50_000, otherExpected);
+            expected.removeAll(otherExpected);
+
+            // Given
+            // When
+            bst.difference(other);
+
+            // Then
+            assertTreeEquals(expected, bst);
+            assertTrue(other.isEmpty());
+        }
+    }
+
+    @Test
+    public void difference_whenOtherIsSameTree_shouldEmptyTree() {
+        // Given
+        bst = BinarySearchTree.fromSorted(range(0, 100), true);
+
+        // When
+        bst.union(bst);
+        bst.intersection(bst);
+
+        // Then
+        assertEquals(100, bst.size());
+
+        bst.difference(bst);
+        assertTrue(bst.isEmpty());
+    }
+
+    @Test
+    public void stream_whenTreeHasElements_shouldStreamInAscendingOrder() {
+        // Given
+        for (int element : new int[] { 50, 25, 75, 10, 30, 60, 90 }) {
+            bst.add(element);
+        }
+
+        // When
+        List<Integer> elements = bst.stream().toList();
+
+        // Then
+        assertEquals(List.of(10, 25, 30, 50, 60, 75, 90), elements);
+        assertEquals(0, new BinarySearchTree<Integer>().stream().count());
+    }
+
+    @Test
+    public void parallelStream_whenTreeIsLarge_shouldMatchSequentialResult() {
+        // Given
+        Random random = new Random(25);
+        TreeSet<Integer> expected = new TreeSet<>();
+        bst = randomTree(random, 100_000, 1_000_000, expected);
+
+        // When
+        long sum = bst.parallelStream().mapToLong(Integer::longValue).sum();
+        List<Integer> evens = bst.parallelStream().filter(element -> element % 2 == 0).toList();
+
+        // Then
+        assertEquals(expected.stream().mapToLong(Integer::longValue).sum(), sum);
+        assertEquals(expected.stream().filter(element -> element % 2 == 0).toList(), evens);
+    }
+
+    @Test
+    public void spliterator_whenSplit_shouldSplitIntoEqualHalves() {
+        // Given
+        bst = new BinarySearchTree<>(false);
+
+        for (int element = 0; element < 1000; element++) {
+            bst.add(element);
+        }
+
+        Spliterator<Integer> upperHalf = bst.spliterator();
+        upperHalf.tryAdvance(element -> assertEquals(0, element));
+
+        // When
+        Spliterator<Integer> lowerHalf = upperHalf.trySplit();
+
+        // Then
+        assertEquals(499, lowerHalf.estimateSize());
+        assertEquals(500, upperHalf.estimateSize());
+        assertTrue(upperHalf.hasCharacteristics(Spliterator.SORTED | Spliterator.DISTINCT | Spliterator.SUBSIZED));
+        assertNull(upperHalf.getComparator());
+
+        List<Integer> lower = new ArrayList<>();
+        List<Integer> upper = new ArrayList<>();
+        lowerHalf.forEachRemaining(lower::add);
+        upperHalf.forEachRemaining(upper::add);
+
+        assertEquals(List.of(range(1, 500)), lower);
+        assertEquals(List.of(range(500, 1000)), upper);
+        assertFalse(upperHalf.tryAdvance(element -> { }));
+    }
+
+    @Test
+    public void spliterator_whenTreeIsChanged_shouldThrowException() {
+        // Given
+        bst.add(50);
+        bst.add(25);
+        Spliterator<Integer> spliterator = bst.spliterator();
+
+        // When
+        bst.add(75);
+
+        // Then
+        assertThrows(ConcurrentModificationException.class, () -> spliterator.tryAdvance(element -> { }));
+    }
+
+    @Test
+    public void splitAndCombine_whenTreeIsDeepAndUnbalanced_shouldNotOverflowStack() {
+        int count = 15_000;
+
+        // Given
+        BinarySearchTree<Integer> deep = ascendingUnbalancedTree(count);
+        assertEquals(count, deep.height());
+
+        // When
+        BinarySearchTree<Integer> upper = deep.split(count - 1);
+
+        // Then
+        assertTreeEquals(new TreeSet<>(List.of(range(0, count - 1))), deep);
+        assertTreeEquals(new TreeSet<>(List.of(count - 1)), upper);
+
+        for (Operation operation : Operation.values()) {
+            bst = ascendingUnbalancedTree(count);
+            BinarySearchTree<Integer> other = ascendingUnbalancedTree(10);
+            other.add(count);
+            TreeSet<Integer> expected = new TreeSet<>(List.of(range(0, count)));
+
+            switch (operation) {
+                case UNION -> {
+                    bst.union(other);
+                    expected.add(count);
+                }
+                case INTERSECTION -> {
+                    bst.intersection(other);
+                    expected.retainAll(List.of(range(0, 10)));
+                }
+                case DIFFERENCE -> {
+                    bst.difference(other);
+                    expected.removeAll(List.of(range(0, 10)));
+                }
+            }
+
+            assertTreeEquals(expected, bst);
+            assertTrue(other.isEmpty());
+        }
+    }
+
+    private enum Operation {
+        UNION,
+        INTERSECTION,
+        DIFFERENCE
+    }
+
+    private static BinarySearchTree<Integer> ascendingUnbalancedTree(int count) {
+        BinarySearchTree<Integer> tree = new BinarySearchTree<>(false);
+
+        for (int element = 0; element < count; element++) {
+            tree.add(element);
+        }
+
+        return tree;
+    }
+
+    private static Integer[] range(int from, int to) {
+        Integer[] elements = new Integer[to - from];
+
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = from + i;
+        }
+
+        return elements;
+    }
+
+    private static BinarySearchTree<Integer> randomTree(Random random, int count, int bound, TreeSet<Integer> expected) {
+        BinarySearchTree<Integer> tree = new BinarySearchTree<>(true);
+
+        for (int i = 0; i < count; i++) {
+            int element = random.nextInt(bound);
+
+            if (tree.addIfAbsent(element)) {
+                expected.add(element);
+            }
+        }
+
+        return tree;
+    }
+
+    /**
+     * Checks the elements, the subtree sizes through {@code select}, the parent pointers through the iterator and
+     * later updates, and the AVL height bound.
+     */
+    private static void assertTreeEquals(TreeSet<Integer> expected, BinarySearchTree<Integer> tree) {
+        List<Integer> actual = new ArrayList<>();
+        tree.forEach(actual::add);
+
+        assertEquals(new ArrayList<>(expected), actual);
+        assertEquals(expected.size(), tree.size());
+        assertTrue(tree.height() <= 1.45 * (Math.log(tree.size() + 2) / Math.log(2)));
+
+        for (int k = 0; k < actual.size(); k += Math.max(1, actual.size() / 50)) {
+            assertEquals(actual.get(k), tree.select(k));
+        }
+
+        if (!expected.isEmpty()) {
+            int first = expected.first();
+
+            assertEquals(first, tree.remove(first));
+            tree.add(first);
+            assertEquals(expected.size(), tree.size());
+        }
+    }
 }
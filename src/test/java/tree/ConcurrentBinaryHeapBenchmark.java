@@ -0,0 +1,169 @@
+package tree;
+
+import dev.andrewjfei.exceptions.EmptyTreeException;
+import dev.andrewjfei.tree.BinaryHeap;
+import dev.andrewjfei.tree.ConcurrentBinaryHeap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@code ConcurrentBinaryHeapBenchmark} measures how the throughput of a {@link ConcurrentBinaryHeap} scales from 1
+ * up to 64 threads, in strict mode and in relaxed mode, next to a {@link BinaryHeap} behind one lock.
+ *
+ * <p> It is not a test and is not run by the build. Run it by hand on a machine with many cores, after
+ * {@code mvn test-compile}:
+ *
+ * <pre>
+ * java -cp target/classes:target/test-classes tree.ConcurrentBinaryHeapBenchmark [size] [seconds] [insert%] [shards]
+ * </pre>
+ *
+ * <p> The heaps start with {@code size} random elements, and every operation is either an insert of a random element
+ * or a poll, so with the default mix of 50% inserts the size stays steady. In relaxed mode the heap has
+ * {@code shards} shards per thread. The defaults are one million elements, two seconds per run, 50% inserts and four
+ * shards per thread.
+ *
+ * @author andrewjfei
+ */
+public class ConcurrentBinaryHeapBenchmark {
+
+    private static final int[] THREADS = { 1, 2, 4, 8, 16, 32, 64 };
+
+    private interface Target {
+        void insert(int element);
+        void poll();
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 2;
+        int insertPercent = args.length > 2 ? Integer.parseInt(args[2]) : 50;
+        int shardsPerThread = args.length > 3 ? Integer.parseInt(args[3]) : 4;
+
+        if (size < 0 || seconds <= 0 || insertPercent < 0 || insertPercent > 100 || shardsPerThread <= 0) {
+            throw new IllegalArgumentException("Usage: [size] [seconds] [insert%] [shards]");
+        }
+
+        System.out.printf("%d elements, %d s per run, %d%% insert, %d%% poll, %d shards per thread, %d cores%n", size,
+                seconds, insertPercent, 100 - insertPercent, shardsPerThread,
+                Runtime.getRuntime().availableProcessors());
+        System.out.printf("%-8s %16s %16s %16s%n", "threads", "strict", "relaxed", "locked heap");
+
+        for (int threads : THREADS) {
+            double strict = run(concurrentHeap(size, 1), threads, seconds, insertPercent);
+            double relaxed = run(concurrentHeap(size, threads * shardsPerThread), threads, seconds, insertPercent);
+            double lockedHeap = run(lockedHeap(size), threads, seconds, insertPercent);
+
+            System.out.printf("%-8d %11.2f Mop/s %11.2f Mop/s %11.2f Mop/s%n", threads, strict, relaxed, lockedHeap);
+        }
+    }
+
+    /**
+     * The {@code run} method warms up for one second, then runs the mix on every thread for the given time.
+     *
+     * @return the throughput in millions of operations per second.
+     */
+    private static double run(Target target, int threads, int seconds, int insertPercent)
+            throws InterruptedException {
+        measure(target, threads, 1, insertPercent);
+
+        return measure(target, threads, seconds, insertPercent) / (seconds * 1e6);
+    }
+
+    private static long measure(Target target, int threads, int seconds, int insertPercent)
+            throws InterruptedException {
+        LongAdder operations = new LongAdder();
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+        long[] deadline = new long[1];
+
+        for (int i = 0; i < threads; i++) {
+            workers[i] = new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                long count = 0;
+
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+
+                // The clock is only read every 1024 operations so it does not dominate the cheap ones
+                do {
+                    for (int j = 0; j < 1024; j++) {
+                        if (random.nextInt(100) < insertPercent) {
+                            target.insert(random.nextInt());
+                        } else {
+                            target.poll();
+                        }
+                    }
+
+                    count += 1024;
+                } while (System.nanoTime() < deadline[0]);
+
+                operations.add(count);
+            });
+            workers[i].start();
+        }
+
+        // The deadline is written before the latch opens, which makes it visible to every worker
+        deadline[0] = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        start.countDown();
+
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        return operations.sum();
+    }
+
+    private static Target concurrentHeap(int size, int shardCount) {
+        ConcurrentBinaryHeap<Integer> heap = new ConcurrentBinaryHeap<>(shardCount);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        for (int i = 0; i < size; i++) {
+            heap.insert(random.nextInt());
+        }
+
+        return new Target() {
+            @Override
+            public void insert(int element) {
+                heap.insert(element);
+            }
+
+            @Override
+            public void poll() {
+                try {
+                    heap.poll();
+                } catch (EmptyTreeException e) {
+                    // A poll which finds the heap empty still counts as an operation
+                }
+            }
+        };
+    }
+
+    private static Target lockedHeap(int size) {
+        BinaryHeap<Integer> heap = new BinaryHeap<>();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        for (int i = 0; i < size; i++) {
+            heap.insert(random.nextInt());
+        }
+
+        return new Target() {
+            @Override
+            public synchronized void insert(int element) {
+                heap.insert(element);
+            }
+
+            @Override
+            public synchronized void poll() {
+                if (!heap.isEmpty()) {
+                    heap.poll();
+                }
+            }
+        };
+    }
+}
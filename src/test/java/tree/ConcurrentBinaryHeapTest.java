@@ -0,0 +1,152 @@
+package tree;
+
+import dev.andrewjfei.exceptions.EmptyTreeException;
+import dev.andrewjfei.tree.ConcurrentBinaryHeap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConcurrentBinaryHeapTest {
+    private ConcurrentBinaryHeap<Integer> heap;
+
+    @BeforeEach
+    public void setUp() {
+        heap = new ConcurrentBinaryHeap<>();
+    }
+
+    @Test
+    public void insert_whenHeapIsEmpty_shouldAddElementToHeap() {
+        // Given
+        assertTrue(heap.isEmpty());
+
+        // When
+        heap.insert(1);
+
+        // Then
+        assertEquals(1, heap.size());
+        assertEquals(1, heap.peek());
+    }
+
+    @Test
+    public void poll_whenHeapIsEmpty_shouldThrowException() {
+        // Given
+        assertTrue(heap.isEmpty());
+
+        // When
+        // Then
+        assertThrows(EmptyTreeException.class, () -> heap.poll());
+        assertThrows(EmptyTreeException.class, () -> new ConcurrentBinaryHeap<Integer>(4).poll());
+        assertNull(heap.peek());
+    }
+
+    @Test
+    public void poll_whenHeapIsStrict_shouldReturnElementsInPriorityOrder() {
+        // Given
+        assertTrue(heap.isStrict());
+
+        for (int i = 0; i < 100; i++) {
+            heap.insert((i * 37) % 100);
+        }
+
+        // When
+        // Then
+        for (int i = 99; i >= 0; i--) {
+            assertEquals(i, heap.poll());
+        }
+
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test
+    public void poll_whenHeapIsRelaxed_shouldEventuallyReturnEveryElement() {
+        heap = new ConcurrentBinaryHeap<>(8);
+        boolean[] polled = new boolean[1_000];
+
+        // Given
+        assertFalse(heap.isStrict());
+
+        for (int i = 0; i < polled.length; i++) {
+            heap.insert(i);
+        }
+
+        assertEquals(999, heap.peek());
+
+        // When
+        for (int i = 0; i < polled.length; i++) {
+            polled[heap.poll()] = true;
+        }
+
+        // Then
+        for (boolean wasPolled : polled) {
+            assertTrue(wasPolled);
+        }
+
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test
+    public void poll_whenThreadsInsertAndPollConcurrently_shouldNotLoseOrDuplicateElements() throws Exception {
+        heap = new ConcurrentBinaryHeap<>(16);
+        int threads = 4;
+        int perThread = 10_000;
+        ConcurrentLinkedQueue<Integer> polled = new ConcurrentLinkedQueue<>();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // Given
+        List<Future<?>> futures = new ArrayList<>();
+
+        // When
+        for (int t = 0; t < threads; t++) {
+            int offset = t * perThread;
+
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    heap.insert(offset + i);
+
+                    if ((i & 1) == 1) {
+                        polled.add(heap.poll());
+                    }
+                }
+            }));
+        }
+
+        for (Future<?> future : futures) {
+            future.get();
+        }
+
+        executor.shutdown();
+
+        while (!heap.isEmpty()) {
+            polled.add(heap.poll());
+        }
+
+        // Then
+        boolean[] seen = new boolean[threads * perThread];
+
+        for (Integer element : polled) {
+            assertFalse(seen[element]);
+            seen[element] = true;
+        }
+
+        assertEquals(seen.length, polled.size());
+    }
+
+    @Test
+    public void constructor_whenShardCountIsNotPositive_shouldThrowException() {
+        // Given
+        // When
+        // Then
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrentBinaryHeap<Integer>(0));
+    }
+}
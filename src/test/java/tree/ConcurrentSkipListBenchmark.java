@@ -0,0 +1,203 @@
+package tree;
+
+import dev.andrewjfei.tree.BinarySearchTree;
+import dev.andrewjfei.tree.ConcurrentSkipList;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@code ConcurrentSkipListBenchmark} measures how the throughput of a {@link ConcurrentSkipList} scales from 1 up
+ * to 64 threads, next to {@link ConcurrentSkipListSet} and a {@link BinarySearchTree} behind one lock.
+ *
+ * <p> It is not a test and is not run by the build. Run it by hand on a machine with many cores, after
+ * {@code mvn test-compile}:
+ *
+ * <pre>
+ * java -cp target/classes:target/test-classes tree.ConcurrentSkipListBenchmark [size] [seconds] [contains%] [add%]
+ * </pre>
+ *
+ * <p> The sets start with {@code size} even keys, and every operation picks a random key from twice that range, so
+ * adds and removes succeed about half the time and the size stays steady. Whatever is left over after
+ * {@code contains%} and {@code add%} is removes. The defaults are one million keys, two seconds per run, and a read
+ * heavy mix of 90% contains, 5% add and 5% remove.
+ *
+ * @author andrewjfei
+ */
+public class ConcurrentSkipListBenchmark {
+
+    private static final int[] THREADS = { 1, 2, 4, 8, 16, 32, 64 };
+
+    private interface Target {
+        boolean contains(int key);
+        boolean add(int key);
+        boolean remove(int key);
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 2;
+        int containsPercent = args.length > 2 ? Integer.parseInt(args[2]) : 90;
+        int addPercent = args.length > 3 ? Integer.parseInt(args[3]) : 5;
+
+        if (size <= 0 || seconds <= 0 || containsPercent < 0 || addPercent < 0 || containsPercent + addPercent > 100) {
+            throw new IllegalArgumentException("Usage: [size] [seconds] [contains%] [add%]");
+        }
+
+        System.out.printf("%d keys, %d s per run, %d%% contains, %d%% add, %d%% remove, %d cores%n", size, seconds,
+                containsPercent, addPercent, 100 - containsPercent - addPercent,
+                Runtime.getRuntime().availableProcessors());
+        System.out.printf("%-8s %16s %16s %16s%n", "threads", "skip list", "jdk skip list", "locked tree");
+
+        for (int threads : THREADS) {
+            double skipList = run(skipList(size), threads, size, seconds, containsPercent, addPercent);
+            double jdkSkipList = run(jdkSkipList(size), threads, size, seconds, containsPercent, addPercent);
+            double lockedTree = run(lockedTree(size), threads, size, seconds, containsPercent, addPercent);
+
+            System.out.printf("%-8d %11.2f Mop/s %11.2f Mop/s %11.2f Mop/s%n", threads, skipList, jdkSkipList,
+                    lockedTree);
+        }
+    }
+
+    /**
+     * The {@code run} method warms up for one second, then runs the mix on every thread for the given time.
+     *
+     * @return the throughput in millions of operations per second.
+     */
+    private static double run(Target target, int threads, int size, int seconds, int containsPercent, int addPercent)
+            throws InterruptedException {
+        measure(target, threads, size, 1, containsPercent, addPercent);
+
+        return measure(target, threads, size, seconds, containsPercent, addPercent) / (seconds * 1e6);
+    }
+
+    private static long measure(Target target, int threads, int size, int seconds, int containsPercent,
+            int addPercent) throws InterruptedException {
+        LongAdder operations = new LongAdder();
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+        long[] deadline = new long[1];
+
+        for (int i = 0; i < threads; i++) {
+            workers[i] = new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                long count = 0;
+
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+
+                // The clock is only read every 1024 operations so it does not dominate the cheap ones
+                do {
+                    for (int j = 0; j < 1024; j++) {
+                        int key = random.nextInt(2 * size);
+                        int percent = random.nextInt(100);
+
+                        if (percent < containsPercent) {
+                            target.contains(key);
+                        } else if (percent < containsPercent + addPercent) {
+                            target.add(key);
+                        } else {
+                            target.remove(key);
+                        }
+                    }
+
+                    count += 1024;
+                } while (System.nanoTime() < deadline[0]);
+
+                operations.add(count);
+            });
+            workers[i].start();
+        }
+
+        // The deadline is written before the latch opens, which makes it visible to every worker
+        deadline[0] = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        start.countDown();
+
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        return operations.sum();
+    }
+
+    private static Target skipList(int size) {
+        ConcurrentSkipList<Integer> list = new ConcurrentSkipList<>();
+
+        for (int i = 0; i < size; i++) {
+            list.add(2 * i);
+        }
+
+        return new Target() {
+            @Override
+            public boolean contains(int key) {
+                return list.contains(key);
+            }
+
+            @Override
+            public boolean add(int key) {
+                return list.addIfAbsent(key);
+            }
+
+            @Override
+            public boolean remove(int key) {
+                return list.remove(key) != null;
+            }
+        };
+    }
+
+    private static Target jdkSkipList(int size) {
+        ConcurrentSkipListSet<Integer> set = new ConcurrentSkipListSet<>();
+
+        for (int i = 0; i < size; i++) {
+            set.add(2 * i);
+        }
+
+        return new Target() {
+            @Override
+            public boolean contains(int key) {
+                return set.contains(key);
+            }
+
+            @Override
+            public boolean add(int key) {
+                return set.add(key);
+            }
+
+            @Override
+            public boolean remove(int key) {
+                return set.remove(key);
+            }
+        };
+    }
+
+    private static Target lockedTree(int size) {
+        BinarySearchTree<Integer> tree = new BinarySearchTree<>(true);
+
+        for (int i = 0; i < size; i++) {
+            tree.add(2 * i);
+        }
+
+        return new Target() {
+            @Override
+            public synchronized boolean contains(int key) {
+                return tree.contains(key);
+            }
+
+            @Override
+            public synchronized boolean add(int key) {
+                return tree.addIfAbsent(key);
+            }
+
+            @Override
+            public synchronized boolean remove(int key) {
+                return tree.remove(key) != null;
+            }
+        };
+    }
+}
@@ -0,0 +1,233 @@
+package tree;
+
+import dev.andrewjfei.exceptions.NodeAlreadyExistsException;
+import dev.andrewjfei.tree.ConcurrentSkipList;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConcurrentSkipListTest {
+
+    private ConcurrentSkipList<Integer> list;
+
+    @BeforeEach
+    public void setUp() {
+        list = new ConcurrentSkipList<>();
+    }
+
+    @Test
+    public void add_whenListIsEmpty_shouldAddElementToList() {
+        // Given
+        assertTrue(list.isEmpty());
+        assertNull(list.peek());
+
+        // When
+        list.add(50);
+
+        // Then
+        assertEquals(1, list.size());
+        assertTrue(list.contains(50));
+        assertEquals(50, list.peek());
+    }
+
+    @Test
+    public void add_whenElementAlreadyExists_shouldThrowException() {
+        // Given
+        list.add(50);
+
+        // When
+        // Then
+        assertThrows(NodeAlreadyExistsException.class, () -> list.add(50));
+        assertFalse(list.addIfAbsent(50));
+        assertEquals(1, list.size());
+    }
+
+    @Test
+    public void remove_whenElementIsNotInList_shouldReturnNull() {
+        // Given
+        list.add(50);
+
+        // When
+        // Then
+        assertNull(list.remove(25));
+        assertEquals(50, list.remove(50));
+        assertNull(list.remove(50));
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    public void remove_whenElementsAreAddedAndRemovedRandomly_shouldMatchTreeSet() {
+        TreeSet<Integer> expected = new TreeSet<>();
+        Random random = new Random(67);
+
+        // Given
+        // When
+        for (int i = 0; i < 20_000; i++) {
+            int element = random.nextInt(2_000);
+
+            if (random.nextBoolean()) {
+                assertEquals(expected.add(element), list.addIfAbsent(element));
+            } else {
+                assertEquals(expected.remove(element) ? element : null, list.remove(element));
+            }
+        }
+
+        // Then
+        List<Integer> actual = new ArrayList<>();
+        list.forEach(actual::add);
+
+        assertEquals(new ArrayList<>(expected), actual);
+        assertEquals(expected.size(), list.size());
+
+        for (int element = 0; element < 2_000; element++) {
+            assertEquals(expected.contains(element), list.contains(element));
+        }
+    }
+
+    @Test
+    public void range_whenBoundsAreGiven_shouldOnlyReturnElementsInRange() {
+        // Given
+        for (int element = 0; element < 100; element += 10) {
+            list.add(element);
+        }
+
+        // When
+        List<Integer> range = new ArrayList<>();
+        list.range(15, 50).forEachRemaining(range::add);
+
+        // Then
+        assertEquals(List.of(20, 30, 40, 50), range);
+        assertFalse(list.range(50, 15).hasNext());
+        assertFalse(list.range(91, 200).hasNext());
+    }
+
+    @Test
+    public void add_whenThreadsAddAndRemoveConcurrently_shouldKeepEveryElementExactlyOnce() throws Exception {
+        int threads = 8;
+        int range = 2_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        AtomicInteger[] balance = new AtomicInteger[range];
+
+        for (int i = 0; i < range; i++) {
+            balance[i] = new AtomicInteger();
+        }
+
+        // Given
+        List<Future<?>> futures = new ArrayList<>();
+
+        // When
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+
+                for (int i = 0; i < 50_000; i++) {
+                    int element = random.nextInt(range);
+
+                    if (random.nextBoolean()) {
+                        if (list.addIfAbsent(element)) {
+                            balance[element].incrementAndGet();
+                        }
+                    } else if (list.remove(element) != null) {
+                        balance[element].decrementAndGet();
+                    } else {
+                        list.contains(element);
+                    }
+                }
+            }));
+        }
+
+        for (Future<?> future : futures) {
+            future.get();
+        }
+
+        executor.shutdown();
+
+        // Then
+        int expectedSize = 0;
+        Integer previous = null;
+
+        for (Integer element : list) {
+            assertTrue(previous == null || previous < element);
+            previous = element;
+        }
+
+        for (int element = 0; element < range; element++) {
+            int count = balance[element].get();
+
+            assertTrue(count == 0 || count == 1);
+            assertEquals(count == 1, list.contains(element));
+            expectedSize += count;
+        }
+
+        assertEquals(expectedSize, list.size());
+    }
+
+    @Test
+    public void contains_whenReadersRunDuringWrites_shouldAlwaysSeeStableElements() throws Exception {
+        // Elements which are never removed must be seen by every reader, whatever the writers do
+        for (int element = 0; element < 1_000; element += 2) {
+            list.add(element);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // Given
+        Future<?> writer = executor.submit(() -> {
+            for (int i = 0; i < 100_000; i++) {
+                int element = 2 * ThreadLocalRandom.current().nextInt(500) + 1;
+
+                if (!list.addIfAbsent(element)) {
+                    list.remove(element);
+                }
+            }
+        });
+
+        // When
+        List<Future<Boolean>> readers = new ArrayList<>();
+
+        for (int r = 0; r < 3; r++) {
+            readers.add(executor.submit(() -> {
+                for (int i = 0; i < 100_000; i++) {
+                    if (!list.contains(2 * ThreadLocalRandom.current().nextInt(500))) {
+                        return false;
+                    }
+                }
+
+                Iterator<Integer> iterator = list.range(100, 200);
+                int evens = 0;
+
+                while (iterator.hasNext()) {
+                    if (iterator.next() % 2 == 0) {
+                        evens++;
+                    }
+                }
+
+                return evens == 51;
+            }));
+        }
+
+        // Then
+        writer.get();
+
+        for (Future<Boolean> reader : readers) {
+            assertTrue(reader.get());
+        }
+
+        executor.shutdown();
+    }
+}
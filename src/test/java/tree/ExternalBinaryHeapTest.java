@@ -0,0 +1,253 @@
+package tree;
+
+import dev.andrewjfei.exceptions.EmptyTreeException;
+import dev.andrewjfei.tree.ExternalBinaryHeap;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ExternalBinaryHeapTest {
+    private static final ExternalBinaryHeap.Serializer<Long> LONG_SERIALIZER = new ExternalBinaryHeap.Serializer<>() {
+        @Override
+        public int sizeOf(Long t) {
+            return Long.BYTES;
+        }
+
+        @Override
+        public void write(Long t, ByteBuffer buffer) {
+            buffer.putLong(t);
+        }
+
+        @Override
+        public Long read(ByteBuffer buffer) {
+            return buffer.getLong();
+        }
+    };
+
+    @TempDir
+    private Path directory;
+
+    private ExternalBinaryHeap<Long> heap;
+
+    @BeforeEach
+    public void setUp() {
+        heap = new ExternalBinaryHeap<>(LONG_SERIALIZER, 100, directory);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        heap.close();
+    }
+
+    @Test
+    public void insert_whenSpillThresholdIsReached_shouldSpillRunToDisk() throws IOException {
+        // Given
+        for (long i = 0; i < 99; i++) {
+            heap.insert(i);
+        }
+
+        assertEquals(0, heap.runCount());
+
+        // When
+        heap.insert(99L);
+
+        // Then
+        assertEquals(1, heap.runCount());
+        assertEquals(100, heap.size());
+        assertEquals(99L, heap.peek());
+        assertEquals(1, countFiles());
+    }
+
+    @Test
+    public void poll_whenHeapIsEmpty_shouldThrowException() {
+        // Given
+        assertTrue(heap.isEmpty());
+
+        // When
+        // Then
+        assertThrows(EmptyTreeException.class, () -> heap.poll());
+        assertNull(heap.peek());
+    }
+
+    @Test
+    public void poll_whenElementsAreSpreadOverRunsAndMemory_shouldReturnElementsInPriorityOrder() throws IOException {
+        List<Long> elements = new ArrayList<>();
+        Random random = new Random(19);
+
+        // Given
+        for (int i = 0; i < 2_550; i++) {
+            long element = random.nextLong();
+            elements.add(element);
+            heap.insert(element);
+        }
+
+        assertEquals(25, heap.runCount());
+
+        // When
+        List<Long> polled = new ArrayList<>();
+
+        while (!heap.isEmpty()) {
+            polled.add(heap.poll());
+        }
+
+        // Then
+        elements.sort(Collections.reverseOrder());
+        assertEquals(elements, polled);
+        assertEquals(0, heap.runCount());
+        assertEquals(0, countFiles());
+    }
+
+    @Test
+    public void insert_whenElementsAreInsertedWhileMerging_shouldKeepPriorityOrder() {
+        // Given
+        for (long i = 0; i < 300; i += 2) {
+            heap.insert(i);
+        }
+
+        // When
+        assertEquals(298L, heap.poll());
+        heap.insert(297L);
+        heap.insert(1_000L);
+
+        // Then
+        assertEquals(1_000L, heap.poll());
+        assertEquals(297L, heap.poll());
+        assertEquals(296L, heap.poll());
+        assertEquals(148, heap.size());
+    }
+
+    @Test
+    public void close_whenRunsAreOnDisk_shouldDeleteRunFiles() throws IOException {
+        // Given
+        for (long i = 0; i < 500; i++) {
+            heap.insert(i);
+        }
+
+        assertEquals(5, countFiles());
+
+        // When
+        heap.close();
+
+        // Then
+        assertEquals(0, countFiles());
+    }
+
+    @Test
+    public void spill_whenWritingRunFails_shouldDeletePartialRunFile() throws IOException {
+        ExternalBinaryHeap.Serializer<Long> failing = new ExternalBinaryHeap.Serializer<>() {
+            @Override
+            public int sizeOf(Long t) {
+                return t == 5L ? Integer.BYTES : Long.BYTES;
+            }
+
+            @Override
+            public void write(Long t, ByteBuffer buffer) {
+                buffer.putLong(t);
+            }
+
+            @Override
+            public Long read(ByteBuffer buffer) {
+                return buffer.getLong();
+            }
+        };
+
+        // Given
+        try (ExternalBinaryHeap<Long> failingHeap = new ExternalBinaryHeap<>(failing, 100, directory)) {
+            for (long i = 0; i < 10; i++) {
+                failingHeap.insert(i);
+            }
+
+            // When
+            // Then
+            assertThrows(IllegalStateException.class, failingHeap::spill);
+            assertEquals(0, countFiles());
+            assertEquals(0, failingHeap.runCount());
+        }
+    }
+
+    @Test
+    public void close_whenHeapCreatedSpillDirectory_shouldDeleteIt() throws IOException {
+        Path temp = Path.of(System.getProperty("java.io.tmpdir"));
+        long before = countSpillDirectories(temp);
+
+        // Given
+        ExternalBinaryHeap<Long> ownHeap = new ExternalBinaryHeap<>(LONG_SERIALIZER, 10);
+
+        for (long i = 0; i < 50; i++) {
+            ownHeap.insert(i);
+        }
+
+        assertEquals(before + 1, countSpillDirectories(temp));
+
+        // When
+        ownHeap.close();
+
+        // Then
+        assertEquals(before, countSpillDirectories(temp));
+    }
+
+    @Test
+    public void poll_whenElementsHaveVariableSize_shouldReadEachRecordBack() {
+        ExternalBinaryHeap.Serializer<String> serializer = new ExternalBinaryHeap.Serializer<>() {
+            @Override
+            public int sizeOf(String t) {
+                return t.getBytes(StandardCharsets.UTF_8).length;
+            }
+
+            @Override
+            public void write(String t, ByteBuffer buffer) {
+                buffer.put(t.getBytes(StandardCharsets.UTF_8));
+            }
+
+            @Override
+            public String read(ByteBuffer buffer) {
+                return StandardCharsets.UTF_8.decode(buffer).toString();
+            }
+        };
+
+        // Given
+        try (ExternalBinaryHeap<String> strings = new ExternalBinaryHeap<>(serializer, 2, directory)) {
+            strings.insert("b");
+            strings.insert("dddd");
+            strings.insert("");
+            strings.insert("ccc");
+            strings.insert("a".repeat(3_000_000));
+
+            // When
+            // Then
+            assertEquals("dddd", strings.poll());
+            assertEquals("ccc", strings.poll());
+            assertEquals("b", strings.poll());
+            assertEquals("a".repeat(3_000_000), strings.poll());
+            assertEquals("", strings.poll());
+        }
+    }
+
+    private long countFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    private static long countSpillDirectories(Path temp) throws IOException {
+        try (Stream<Path> files = Files.list(temp)) {
+            return files.filter(file -> file.getFileName().toString().startsWith("external-heap-")).count();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package tree;
+
+import dev.andrewjfei.tree.BinarySearchTree;
+import dev.andrewjfei.tree.EytzingerTree;
+import java.util.Random;
+import java.util.TreeSet;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class EytzingerTreeTest {
+
+    @Test
+    public void contains_whenTreeIsEmpty_shouldReturnFalse() {
+        // Given
+        EytzingerTree<Integer> tree = new EytzingerTree<>(new BinarySearchTree<Integer>());
+
+        // When
+        // Then
+        assertTrue(tree.isEmpty());
+        assertFalse(tree.contains(50));
+        assertNull(tree.floor(50));
+        assertEquals(0, tree.rank(50));
+    }
+
+    @Test
+    public void floor_whenTreeIsNotEmpty_shouldReturnGreatestSmallerOrEqualElement() {
+        BinarySearchTree<Integer> bst = new BinarySearchTree<>();
+
+        for (int element = 10; element <= 50; element += 10) {
+            bst.add(element);
+        }
+
+        // Given
+        EytzingerTree<Integer> tree = new EytzingerTree<>(bst);
+
+        // When
+        // Then
+        assertEquals(5, tree.size());
+        assertEquals(30, tree.floor(30));
+        assertEquals(30, tree.floor(39));
+        assertEquals(50, tree.floor(1_000));
+        assertNull(tree.floor(9));
+    }
+
+    @Test
+    public void rank_whenTreeIsNotEmpty_shouldReturnNumberOfSmallerElements() {
+        BinarySearchTree<Integer> bst = new BinarySearchTree<>();
+
+        for (int element = 10; element <= 50; element += 10) {
+            bst.add(element);
+        }
+
+        // Given
+        EytzingerTree<Integer> tree = new EytzingerTree<>(bst);
+
+        // When
+        // Then
+        assertEquals(0, tree.rank(5));
+        assertEquals(0, tree.rank(10));
+        assertEquals(2, tree.rank(25));
+        assertEquals(4, tree.rank(50));
+        assertEquals(5, tree.rank(51));
+    }
+
+    @Test
+    public void contains_whenTreeIsFrozenFromRandomElements_shouldMatchTreeSet() {
+        Random random = new Random(43);
+
+        for (int n = 0; n < 70; n++) {
+            BinarySearchTree<Integer> bst = new BinarySearchTree<>(true);
+            TreeSet<Integer> expected = new TreeSet<>();
+
+            while (expected.size() < n) {
+                int element = random.nextInt(200);
+
+                if (expected.add(element)) {
+                    bst.add(element);
+                }
+            }
+
+            // Given
+            EytzingerTree<Integer> tree = new EytzingerTree<>(bst);
+
+            // When
+            // Then
+            for (int element = -1; element <= 201; element++) {
+                assertEquals(expected.contains(element), tree.contains(element));
+                assertEquals(expected.floor(element), tree.floor(element));
+                assertEquals(expected.headSet(element).size(), tree.rank(element));
+            }
+        }
+    }
+}
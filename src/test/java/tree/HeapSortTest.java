@@ -0,0 +1,184 @@
+package tree;
+
+import dev.andrewjfei.tree.HeapSort;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HeapSortTest {
+    private Random random;
+
+    @BeforeEach
+    public void setUp() {
+        random = new Random(23);
+    }
+
+    @Test
+    public void sort_whenArrayIsUnsorted_shouldSortArrayInAscendingOrder() {
+        // Given
+        Integer[] array = randomIntegers(1_000);
+        Integer[] expected = array.clone();
+        Arrays.sort(expected);
+
+        // When
+        HeapSort.sort(array);
+
+        // Then
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    public void sort_whenComparatorIsGiven_shouldSortArrayInComparatorOrder() {
+        // Given
+        String[] array = { "pear", "fig", "banana", "kiwi", "apple" };
+
+        // When
+        HeapSort.sort(array, Comparator.comparingInt(String::length).thenComparing(Comparator.naturalOrder()));
+
+        // Then
+        assertArrayEquals(new String[] { "fig", "kiwi", "pear", "apple", "banana" }, array);
+    }
+
+    @Test
+    public void partialSort_whenKIsLessThanLength_shouldSortSmallestElementsToFront() {
+        // Given
+        Integer[] array = randomIntegers(1_000);
+        Integer[] expected = array.clone();
+        Arrays.sort(expected);
+
+        // When
+        HeapSort.partialSort(array, 10);
+
+        // Then
+        assertArrayEquals(Arrays.copyOf(expected, 10), Arrays.copyOf(array, 10));
+        assertThrows(IllegalArgumentException.class, () -> HeapSort.partialSort(array, 1_001));
+    }
+
+    @Test
+    public void nthElement_whenIndexIsInRange_shouldPlaceElementWhereItWouldBeIfSorted() {
+        // Given
+        Integer[] array = randomIntegers(1_000);
+        Integer[] expected = array.clone();
+        Arrays.sort(expected);
+
+        // When
+        HeapSort.nthElement(array, 500);
+
+        // Then
+        assertEquals(expected[500], array[500]);
+
+        for (int i = 0; i < array.length; i++) {
+            assertTrue(i < 500 ? array[i] <= array[500] : array[i] >= array[500]);
+        }
+
+        assertThrows(IndexOutOfBoundsException.class, () -> HeapSort.nthElement(array, 1_000));
+    }
+
+    @Test
+    public void selectTopK_whenComparatorIsGiven_shouldMoveGreatestElementsToFrontInDescendingOrder() {
+        // Given
+        Integer[] array = randomIntegers(1_000);
+        Integer[] expected = array.clone();
+        Arrays.sort(expected, Comparator.reverseOrder());
+
+        // When
+        HeapSort.selectTopK(array, 25, Comparator.naturalOrder());
+
+        // Then
+        assertArrayEquals(Arrays.copyOf(expected, 25), Arrays.copyOf(array, 25));
+    }
+
+    @Test
+    public void sort_whenArrayIsPrimitive_shouldSortArrayInAscendingOrder() {
+        // Given
+        int[] ints = random.ints(1_000).toArray();
+        long[] longs = random.longs(1_000).toArray();
+        double[] doubles = random.doubles(1_000).toArray();
+        doubles[0] = Double.NaN;
+        doubles[1] = -0.0;
+        doubles[2] = 0.0;
+        int[] expectedInts = ints.clone();
+        long[] expectedLongs = longs.clone();
+        double[] expectedDoubles = doubles.clone();
+        Arrays.sort(expectedInts);
+        Arrays.sort(expectedLongs);
+        Arrays.sort(expectedDoubles);
+
+        // When
+        HeapSort.sort(ints);
+        HeapSort.sort(longs);
+        HeapSort.sort(doubles);
+
+        // Then
+        assertArrayEquals(expectedInts, ints);
+        assertArrayEquals(expectedLongs, longs);
+        assertArrayEquals(expectedDoubles, doubles);
+    }
+
+    @Test
+    public void partialSort_whenArrayIsPrimitive_shouldSortSmallestValuesToFront() {
+        // Given
+        long[] array = random.longs(1_000).toArray();
+        long[] expected = array.clone();
+        Arrays.sort(expected);
+
+        // When
+        HeapSort.partialSort(array, 50);
+
+        // Then
+        assertArrayEquals(Arrays.copyOf(expected, 50), Arrays.copyOf(array, 50));
+    }
+
+    @Test
+    public void nthElement_whenArrayIsPrimitive_shouldPlaceValueWhereItWouldBeIfSorted() {
+        // Given
+        double[] array = random.doubles(999).toArray();
+        double[] expected = array.clone();
+        Arrays.sort(expected);
+
+        // When
+        HeapSort.nthElement(array, 499);
+
+        // Then
+        assertEquals(expected[499], array[499]);
+    }
+
+    @Test
+    public void selectTopK_whenArrayIsPrimitive_shouldMoveGreatestValuesToFrontInDescendingOrder() {
+        // Given
+        int[] array = random.ints(1_000, 0, 100).toArray();
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+
+        // When
+        HeapSort.selectTopK(array, 100);
+
+        // Then
+        for (int i = 0; i < 100; i++) {
+            assertEquals(expected[expected.length - 1 - i], array[i]);
+        }
+    }
+
+    @Test
+    public void selectTopK_whenKIsZero_shouldLeaveArrayUnchanged() {
+        // Given
+        int[] array = { 3, 1, 2 };
+
+        // When
+        HeapSort.selectTopK(array, 0);
+
+        // Then
+        assertArrayEquals(new int[] { 3, 1, 2 }, array);
+    }
+
+    private Integer[] randomIntegers(int length) {
+        return random.ints(length, -500, 500).boxed().toArray(Integer[]::new);
+    }
+}
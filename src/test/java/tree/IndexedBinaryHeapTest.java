@@ -0,0 +1,215 @@
+package tree;
+
+import dev.andrewjfei.exceptions.EmptyTreeException;
+import dev.andrewjfei.exceptions.NodeAlreadyExistsException;
+import dev.andrewjfei.tree.IndexedBinaryHeap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IndexedBinaryHeapTest {
+    private IndexedBinaryHeap<Integer> heap;
+
+    @BeforeEach
+    public void setUp() {
+        heap = new IndexedBinaryHeap<>();
+    }
+
+    @Test
+    public void insert_whenHeapIsEmpty_shouldAddElementToHeap_andReturnValidHandle() {
+        // Given
+        assertTrue(heap.isEmpty());
+
+        // When
+        IndexedBinaryHeap.Handle<Integer> handle = heap.insert(1);
+
+        // Then
+        assertEquals(1, heap.size());
+        assertEquals(1, handle.getElement());
+        assertTrue(handle.isValid());
+        assertSame(handle, heap.handle(1));
+    }
+
+    @Test
+    public void insert_whenElementAlreadyExists_shouldThrowException() {
+        // Given
+        heap.insert(1);
+
+        // When
+        // Then
+        assertThrows(NodeAlreadyExistsException.class, () -> heap.insert(1));
+        assertEquals(1, heap.size());
+    }
+
+    @Test
+    public void insert_whenElementIsNull_shouldThrowException_andLeaveHeapUnchanged() {
+        // Given
+        heap.insert(2);
+
+        // When
+        // Then
+        assertThrows(NullPointerException.class, () -> heap.insert(null));
+        assertEquals(1, heap.size());
+
+        heap.insert(1);
+        heap.insert(3);
+
+        assertEquals(3, heap.size());
+        assertEquals(3, heap.poll());
+        assertEquals(2, heap.poll());
+        assertEquals(1, heap.poll());
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test
+    public void poll_whenHeapIsEmpty_shouldThrowException() {
+        // Given
+        assertTrue(heap.isEmpty());
+
+        // When
+        // Then
+        assertThrows(EmptyTreeException.class, () -> heap.poll());
+        assertNull(heap.peek());
+    }
+
+    @Test
+    public void poll_whenHeapIsNotEmpty_shouldReturnRootElement_andInvalidateHandle() {
+        // Given
+        heap.insert(3);
+        IndexedBinaryHeap.Handle<Integer> handle = heap.insert(10);
+        heap.insert(7);
+
+        // When
+        Integer polled = heap.poll();
+
+        // Then
+        assertEquals(10, polled);
+        assertFalse(handle.isValid());
+        assertFalse(heap.contains(10));
+        assertEquals(7, heap.peek());
+    }
+
+    @Test
+    public void contains_whenElementIsInHeap_shouldReturnTrue() {
+        // Given
+        heap.insert(1);
+        heap.insert(2);
+
+        // When
+        // Then
+        assertTrue(heap.contains(1));
+        assertFalse(heap.contains(3));
+    }
+
+    @Test
+    public void changePriority_whenElementIsIncreased_shouldSwimElementToRoot() {
+        // Given
+        heap.insert(10);
+        heap.insert(8);
+        IndexedBinaryHeap.Handle<Integer> handle = heap.insert(1);
+
+        // When
+        heap.changePriority(handle, 20);
+
+        // Then
+        assertEquals(20, heap.peek());
+        assertEquals(20, handle.getElement());
+        assertTrue(heap.contains(20));
+        assertFalse(heap.contains(1));
+    }
+
+    @Test
+    public void changePriority_whenElementIsNotInHeap_shouldReturnFalse() {
+        // Given
+        heap.insert(10);
+
+        // When
+        // Then
+        assertFalse(heap.changePriority(5, 20));
+        assertTrue(heap.changePriority(10, 2));
+        assertEquals(2, heap.peek());
+    }
+
+    @Test
+    public void decreaseKey_whenNewElementHasGreaterPriority_shouldThrowException() {
+        // Given
+        IndexedBinaryHeap.Handle<Integer> handle = heap.insert(10);
+
+        // When
+        // Then
+        assertThrows(IllegalArgumentException.class, () -> heap.decreaseKey(handle, 11));
+        assertThrows(IllegalArgumentException.class, () -> heap.increaseKey(handle, 9));
+    }
+
+    @Test
+    public void decreaseKey_whenElementIsRoot_shouldSinkElement() {
+        // Given
+        IndexedBinaryHeap.Handle<Integer> handle = heap.insert(10);
+        heap.insert(8);
+        heap.insert(6);
+
+        // When
+        heap.decreaseKey(handle, 1);
+
+        // Then
+        assertEquals(8, heap.poll());
+        assertEquals(6, heap.poll());
+        assertEquals(1, heap.poll());
+    }
+
+    @Test
+    public void remove_whenElementIsInHeap_shouldRemoveElementFromHeap() {
+        // Given
+        heap.insert(10);
+        IndexedBinaryHeap.Handle<Integer> handle = heap.insert(5);
+        heap.insert(7);
+        heap.insert(1);
+
+        // When
+        Integer removed = heap.remove(handle);
+
+        // Then
+        assertEquals(5, removed);
+        assertFalse(handle.isValid());
+        assertFalse(heap.remove(Integer.valueOf(5)));
+        assertTrue(heap.remove(Integer.valueOf(1)));
+        assertEquals(2, heap.size());
+        assertThrows(IllegalArgumentException.class, () -> heap.remove(handle));
+    }
+
+    @Test
+    public void remove_whenElementsAreRemovedRandomly_shouldKeepHeapOrder() {
+        Random random = new Random(42);
+        List<IndexedBinaryHeap.Handle<Integer>> handles = new ArrayList<>();
+
+        // Given
+        for (int i = 0; i < 1_000; i++) {
+            handles.add(heap.insert(i));
+        }
+
+        // When
+        for (int i = 0; i < 500; i++) {
+            heap.remove(handles.remove(random.nextInt(handles.size())));
+        }
+
+        // Then
+        assertEquals(500, heap.size());
+
+        int previous = Integer.MAX_VALUE;
+
+        while (!heap.isEmpty()) {
+            int polled = heap.poll();
+            assertTrue(polled < previous);
+            previous = polled;
+        }
+    }
+}
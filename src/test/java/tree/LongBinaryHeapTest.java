@@ -0,0 +1,159 @@
+package tree;
+
+import dev.andrewjfei.exceptions.EmptyTreeException;
+import dev.andrewjfei.tree.LongBinaryHeap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LongBinaryHeapTest {
+    private LongBinaryHeap heap;
+
+    @BeforeEach
+    public void setUp() {
+        heap = new LongBinaryHeap();
+    }
+
+    @Test
+    public void insert_whenHeapIsEmpty_shouldAddKeyToHeap() {
+        // Given
+        assertTrue(heap.isEmpty());
+
+        // When
+        heap.insert(1);
+
+        // Then
+        assertEquals(1, heap.size());
+        assertEquals(1, heap.peek());
+    }
+
+    @Test
+    public void insert_whenHeapIsFull_shouldGrowCapacity() {
+        heap = new LongBinaryHeap(1);
+
+        // Given
+        heap.insert(1);
+        assertEquals(1, heap.capacity());
+
+        // When
+        heap.insert(2);
+
+        // Then
+        assertEquals(2, heap.size());
+        assertTrue(heap.capacity() >= 2);
+        assertEquals(2, heap.peek());
+    }
+
+    @Test
+    public void insert_whenHeapWasNotCreatedWithValues_andValueIsGiven_shouldThrowException() {
+        // Given
+        // When
+        // Then
+        assertThrows(IllegalStateException.class, () -> heap.insert(1L, 100));
+    }
+
+    @Test
+    public void poll_whenHeapIsEmpty_shouldThrowException() {
+        // Given
+        assertTrue(heap.isEmpty());
+
+        // When
+        // Then
+        assertThrows(EmptyTreeException.class, () -> heap.poll());
+        assertThrows(EmptyTreeException.class, () -> heap.peek());
+    }
+
+    @Test
+    public void poll_whenHeapIsNotEmpty_shouldReturnKeysInPriorityOrder() {
+        // Given
+        long[] keys = { 5L, -12L, 3L, 9L, 1L, 9L, Long.MIN_VALUE, Long.MAX_VALUE, 0L };
+
+        for (long key : keys) {
+            heap.insert(key);
+        }
+
+        // When
+        long[] polled = new long[keys.length];
+
+        for (int i = 0; i < polled.length; i++) {
+            polled[i] = heap.poll();
+        }
+
+        // Then
+        assertArrayEquals(new long[] { Long.MAX_VALUE, 9L, 9L, 5L, 3L, 1L, 0L, -12L, Long.MIN_VALUE }, polled);
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test
+    public void pollValue_whenHeapHasValues_shouldReturnValueOfRootKey() {
+        heap = new LongBinaryHeap(4, true);
+
+        // Given
+        heap.insert(30, 3);
+        heap.insert(10, 1);
+        heap.insert(50, 5);
+        heap.insert(20, 2);
+        heap.insert(40, 4);
+
+        // When
+        int[] polled = new int[5];
+
+        for (int i = 0; i < polled.length; i++) {
+            assertEquals(polled.length - i, heap.peekValue());
+            assertEquals((polled.length - i) * 10, heap.peek());
+            polled[i] = heap.pollValue();
+        }
+
+        // Then
+        assertArrayEquals(new int[] { 5, 4, 3, 2, 1 }, polled);
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test
+    public void contains_whenKeyIsInHeap_shouldReturnTrue() {
+        // Given
+        heap.insert(10);
+        heap.insert(20);
+
+        // When
+        // Then
+        assertTrue(heap.contains(10));
+        assertFalse(heap.contains(30));
+    }
+
+    @Test
+    public void trimToSize_whenHeapHasUnusedCapacity_shouldShrinkCapacityToSize() {
+        heap = new LongBinaryHeap(32, true);
+
+        // Given
+        heap.insert(1, 10);
+        heap.insert(2, 20);
+
+        // When
+        heap.trimToSize();
+
+        // Then
+        assertEquals(2, heap.capacity());
+        assertEquals(20, heap.pollValue());
+        assertEquals(10, heap.pollValue());
+    }
+
+    @Test
+    public void clear_whenHeapIsNotEmpty_shouldRemoveAllKeys() {
+        // Given
+        heap.insert(1);
+        heap.insert(2);
+
+        // When
+        heap.clear();
+
+        // Then
+        assertTrue(heap.isEmpty());
+        assertEquals(0, heap.size());
+    }
+}
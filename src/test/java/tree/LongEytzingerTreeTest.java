@@ -0,0 +1,99 @@
+package tree;
+
+import dev.andrewjfei.exceptions.NodeAlreadyExistsException;
+import dev.andrewjfei.tree.LongEytzingerTree;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LongEytzingerTreeTest {
+
+    @Test
+    public void constructor_whenKeysAreRepeated_shouldThrowException() {
+        // Given
+        long[] sorted = { 1, 2, 2, 3 };
+
+        // When
+        // Then
+        assertThrows(NodeAlreadyExistsException.class, () -> new LongEytzingerTree(sorted));
+    }
+
+    @Test
+    public void constructor_whenKeysAreNotSorted_shouldThrowException() {
+        // Given
+        long[] unsorted = { 1, 3, 2 };
+
+        // When
+        // Then
+        assertThrows(IllegalArgumentException.class, () -> new LongEytzingerTree(unsorted));
+    }
+
+    @Test
+    public void floor_whenNoKeyIsSmallerOrEqual_shouldThrowException() {
+        // Given
+        LongEytzingerTree tree = new LongEytzingerTree(new long[] { 10, 20 });
+
+        // When
+        // Then
+        assertThrows(NoSuchElementException.class, () -> tree.floor(9));
+        assertThrows(NoSuchElementException.class, () -> new LongEytzingerTree(new long[0]).floor(0));
+    }
+
+    @Test
+    public void floor_whenTreeIsNotEmpty_shouldReturnGreatestSmallerOrEqualKey() {
+        // Given
+        LongEytzingerTree tree = new LongEytzingerTree(new long[] { Long.MIN_VALUE, -5, 10, 20, 30, Long.MAX_VALUE });
+
+        // When
+        // Then
+        assertEquals(Long.MIN_VALUE, tree.floor(-6));
+        assertEquals(-5, tree.floor(0));
+        assertEquals(20, tree.floor(20));
+        assertEquals(30, tree.floor(Long.MAX_VALUE - 1));
+        assertEquals(Long.MAX_VALUE, tree.floor(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void contains_whenTreeIsEmpty_shouldReturnFalse() {
+        // Given
+        LongEytzingerTree tree = new LongEytzingerTree(new long[0]);
+
+        // When
+        // Then
+        assertTrue(tree.isEmpty());
+        assertFalse(tree.contains(0));
+        assertEquals(0, tree.rank(0));
+    }
+
+    @Test
+    public void rank_whenKeysAreRandom_shouldMatchBinarySearch() {
+        Random random = new Random(47);
+
+        for (int n = 1; n < 300; n += 7) {
+            long[] sorted = random.longs(n, -1_000, 1_000).sorted().distinct().toArray();
+
+            // Given
+            LongEytzingerTree tree = new LongEytzingerTree(sorted);
+
+            // When
+            // Then
+            for (long key = -1_001; key <= 1_001; key++) {
+                int index = Arrays.binarySearch(sorted, key);
+                int rank = index >= 0 ? index : -index - 1;
+
+                assertEquals(index >= 0, tree.contains(key));
+                assertEquals(rank, tree.rank(key));
+
+                if (rank > 0 || index >= 0) {
+                    assertEquals(sorted[index >= 0 ? index : rank - 1], tree.floor(key));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package tree;
+
+import dev.andrewjfei.exceptions.EmptyTreeException;
+import dev.andrewjfei.exceptions.NodeAlreadyExistsException;
+import dev.andrewjfei.tree.LongSearchTree;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.TreeSet;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LongSearchTreeTest {
+
+    @Test
+    public void add_whenTreeIsEmpty_shouldAddKeyToTree() {
+        // Given
+        LongSearchTree tree = new LongSearchTree();
+        assertTrue(tree.isEmpty());
+
+        // When
+        tree.add(50L);
+
+        // Then
+        assertEquals(1, tree.size());
+        assertEquals(1, tree.height());
+        assertTrue(tree.contains(50L));
+        assertFalse(tree.contains(25L));
+    }
+
+    @Test
+    public void add_whenKeyAlreadyExists_shouldThrowException() {
+        // Given
+        LongSearchTree tree = new LongSearchTree();
+        tree.add(50L);
+
+        // When
+        // Then
+        assertThrows(NodeAlreadyExistsException.class, () -> tree.add(50L));
+        assertFalse(tree.addIfAbsent(50L));
+        assertTrue(tree.addIfAbsent(25L));
+        assertEquals(2, tree.size());
+    }
+
+    @Test
+    public void add_whenArraysAreFull_shouldGrowArrays() {
+        // Given
+        LongSearchTree tree = new LongSearchTree(2, true);
+
+        // When
+        for (long key = 0; key < 100; key++) {
+            tree.add(key);
+        }
+
+        // Then
+        assertEquals(100, tree.size());
+        assertTrue(tree.capacity() >= 100);
+
+        for (long key = 0; key < 100; key++) {
+            assertTrue(tree.contains(key));
+        }
+    }
+
+    @Test
+    public void add_whenKeysAreAscendingInUnbalancedMode_shouldDegradeIntoList() {
+        // Given
+        LongSearchTree tree = new LongSearchTree(false);
+
+        // When
+        for (long key = 0; key < 100; key++) {
+            tree.add(key);
+        }
+
+        // Then
+        assertFalse(tree.isBalanced());
+        assertEquals(100, tree.height());
+    }
+
+    @Test
+    public void add_whenKeysAreAscendingInBalancedMode_shouldKeepTreeBalanced() {
+        // Given
+        LongSearchTree tree = new LongSearchTree(true);
+
+        // When
+        for (long key = 0; key < 1023; key++) {
+            tree.add(key);
+        }
+
+        // Then
+        assertTrue(tree.isBalanced());
+        assertTrue(tree.height() <= 11);
+    }
+
+    @Test
+    public void constructor_whenCapacityIsNegative_shouldThrowException() {
+        // Given
+        // When
+        // Then
+        assertThrows(IllegalArgumentException.class, () -> new LongSearchTree(-1, false));
+    }
+
+    @Test
+    public void remove_whenTreeIsEmpty_shouldThrowException() {
+        // Given
+        LongSearchTree tree = new LongSearchTree();
+
+        // When
+        // Then
+        assertThrows(EmptyTreeException.class, () -> tree.remove(50L));
+    }
+
+    @Test
+    public void remove_whenNodeHasTwoChildren_shouldReplaceWithSuccessor() {
+        // Given
+        LongSearchTree tree = new LongSearchTree();
+
+        for (long key : new long[] { 50, 25, 75, 10, 30, 60, 90 }) {
+            tree.add(key);
+        }
+
+        // When
+        boolean removed = tree.remove(50L);
+
+        // Then
+        assertTrue(removed);
+        assertFalse(tree.remove(50L));
+        assertEquals(6, tree.size());
+        assertEquals(List.of(10L, 25L, 30L, 60L, 75L, 90L), toList(tree));
+    }
+
+    @Test
+    public void remove_whenNodesAreRemoved_shouldReuseTheirSlots() {
+        // Given
+        LongSearchTree tree = new LongSearchTree(16, true);
+
+        for (long key = 0; key < 16; key++) {
+            tree.add(key);
+        }
+
+        // When
+        for (long key = 0; key < 8; key++) {
+            tree.remove(key);
+        }
+
+        for (long key = 100; key < 108; key++) {
+            tree.add(key);
+        }
+
+        // Then
+        assertEquals(16, tree.size());
+        assertEquals(16, tree.capacity());
+    }
+
+    @Test
+    public void floorAndCeiling_whenKeyIsBetweenKeys_shouldReturnNeighbours() {
+        // Given
+        LongSearchTree tree = new LongSearchTree(true);
+
+        for (long key : new long[] { 10, 20, 30 }) {
+            tree.add(key);
+        }
+
+        // When
+        // Then
+        assertEquals(20L, tree.floor(25L));
+        assertEquals(30L, tree.ceiling(25L));
+        assertEquals(20L, tree.floor(20L));
+        assertEquals(20L, tree.ceiling(20L));
+        assertThrows(NoSuchElementException.class, () -> tree.floor(5L));
+        assertThrows(NoSuchElementException.class, () -> tree.ceiling(35L));
+    }
+
+    @Test
+    public void iterator_whenTreeIsChanged_shouldThrowException() {
+        // Given
+        LongSearchTree tree = new LongSearchTree();
+        tree.add(50L);
+        tree.add(25L);
+        PrimitiveIterator.OfLong iterator = tree.iterator();
+        iterator.nextLong();
+
+        // When
+        tree.add(75L);
+
+        // Then
+        assertThrows(ConcurrentModificationException.class, iterator::nextLong);
+    }
+
+    @Test
+    public void clear_whenTreeHasKeys_shouldEmptyTreeAndKeepCapacity() {
+        // Given
+        LongSearchTree tree = new LongSearchTree(true);
+
+        for (long key = 0; key < 100; key++) {
+            tree.add(key);
+        }
+
+        int capacity = tree.capacity();
+
+        // When
+        tree.clear();
+
+        // Then
+        assertTrue(tree.isEmpty());
+        assertEquals(0, tree.height());
+        assertFalse(tree.iterator().hasNext());
+        assertEquals(capacity, tree.capacity());
+    }
+
+    @Test
+    public void addAndRemove_whenOperationsAreRandom_shouldMatchTreeSet() {
+        for (boolean balanced : new boolean[] { false, true }) {
+            // Given
+            Random random = new Random(23);
+            LongSearchTree tree = new LongSearchTree(balanced);
+            TreeSet<Long> expected = new TreeSet<>();
+
+            // When
+            for (int i = 0; i < 20000; i++) {
+                long key = random.nextInt(2000) - 1000L;
+
+                if (random.nextBoolean()) {
+                    assertEquals(expected.add(key), tree.addIfAbsent(key));
+                } else if (!expected.isEmpty()) {
+                    assertEquals(expected.remove(key), tree.remove(key));
+                }
+            }
+
+            // Then
+            assertEquals(expected.size(), tree.size());
+            assertEquals(new ArrayList<>(expected), toList(tree));
+            assertTrue(tree.capacity() <= 2000);
+
+            if (balanced) {
+                assertTrue(tree.height() <= 1.45 * (Math.log(tree.size() + 2) / Math.log(2)));
+            }
+        }
+    }
+
+    private static List<Long> toList(LongSearchTree tree) {
+        List<Long> list = new ArrayList<>();
+        tree.iterator().forEachRemaining((long key) -> list.add(key));
+        return list;
+    }
+}
@@ -0,0 +1,292 @@
+package tree;
+
+import dev.andrewjfei.exceptions.NodeAlreadyExistsException;
+import dev.andrewjfei.tree.PagedBTree;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PagedBTreeTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void openMapped_whenPageSizeIsNotPowerOfTwo_shouldThrowException() {
+        // Given
+        Path file = directory.resolve("tree.db");
+
+        // When
+        // Then
+        assertThrows(IllegalArgumentException.class, () -> PagedBTree.openMapped(file, 1000));
+        assertThrows(IllegalArgumentException.class, () -> PagedBTree.openMapped(file, 32));
+    }
+
+    @Test
+    public void add_whenKeyAlreadyExists_shouldThrowException() {
+        try (PagedBTree tree = PagedBTree.openMapped(directory.resolve("tree.db"), 64)) {
+            // Given
+            for (long key = 0; key < 100; key++) {
+                tree.add(key);
+            }
+
+            // When
+            // Then
+            assertThrows(NodeAlreadyExistsException.class, () -> tree.add(42));
+            assertEquals(100, tree.size());
+        }
+    }
+
+    @Test
+    public void contains_whenTreeIsEmpty_shouldReturnFalse() {
+        try (PagedBTree tree = PagedBTree.openMapped(directory.resolve("tree.db"))) {
+            // Given
+            assertTrue(tree.isEmpty());
+
+            // When
+            // Then
+            assertFalse(tree.contains(0));
+            assertFalse(tree.range(Long.MIN_VALUE, Long.MAX_VALUE).hasNext());
+        }
+    }
+
+    @Test
+    public void add_whenKeysAreRandom_shouldMatchTreeSetInBothModes() {
+        for (boolean mapped : new boolean[] { true, false }) {
+            Path file = directory.resolve(mapped ? "mapped.db" : "cached.db");
+            TreeSet<Long> expected = new TreeSet<>();
+            Random random = new Random(59);
+
+            try (PagedBTree tree = mapped ? PagedBTree.openMapped(file, 128) : PagedBTree.openCached(file, 128, 4)) {
+                // Given
+                // When
+                for (int i = 0; i < 20_000; i++) {
+                    long key = random.nextInt(50_000) - 25_000;
+
+                    if (expected.add(key)) {
+                        tree.add(key);
+                    }
+
+                    if (i % 5_000 == 0) {
+                        tree.commit();
+                    }
+                }
+
+                // Then
+                assertEquals(expected.size(), tree.size());
+                assertTrue(tree.height() > 2);
+
+                for (long key = -25_001; key <= 25_001; key += 7) {
+                    assertEquals(expected.contains(key), tree.contains(key));
+                }
+
+                assertEquals(new ArrayList<>(expected.subSet(-1_000L, true, 1_000L, true)), collect(tree.range(-1_000, 1_000)));
+                assertEquals(new ArrayList<>(expected), collect(tree.range(Long.MIN_VALUE, Long.MAX_VALUE)));
+            }
+        }
+    }
+
+    @Test
+    public void range_whenBoundsAreGiven_shouldReturnKeysInRange() {
+        try (PagedBTree tree = PagedBTree.openCached(directory.resolve("tree.db"), 64, 2)) {
+            // Given
+            for (long key = 0; key < 100; key += 10) {
+                tree.add(key);
+            }
+
+            // When
+            PrimitiveIterator.OfLong iterator = tree.range(15, 50);
+
+            // Then
+            assertEquals(List.of(20L, 30L, 40L, 50L), collect(iterator));
+            assertThrows(NoSuchElementException.class, iterator::nextLong);
+            assertFalse(tree.range(50, 15).hasNext());
+            assertFalse(tree.range(91, 200).hasNext());
+        }
+    }
+
+    @Test
+    public void commit_whenTreeIsReopened_shouldRestoreCommittedKeys() {
+        Path file = directory.resolve("tree.db");
+
+        // Given
+        try (PagedBTree tree = PagedBTree.openMapped(file, 256)) {
+            for (long key = 0; key < 5_000; key++) {
+                tree.add(key * 3);
+            }
+
+            tree.commit();
+        }
+
+        // When
+        try (PagedBTree tree = PagedBTree.openCached(file, 256, 16)) {
+            // Then
+            assertEquals(5_000, tree.size());
+            assertTrue(tree.contains(2_997));
+            assertFalse(tree.contains(2_998));
+
+            tree.add(1);
+            tree.commit();
+        }
+
+        try (PagedBTree tree = PagedBTree.openMapped(file, 256)) {
+            assertEquals(5_001, tree.size());
+            assertTrue(tree.contains(1));
+        }
+    }
+
+    @Test
+    public void commit_whenCommittingOften_shouldReuseReplacedPages() throws IOException {
+        Path file = directory.resolve("tree.db");
+        Random random = new Random(61);
+        TreeSet<Long> expected = new TreeSet<>();
+
+        // Given
+        try (PagedBTree tree = PagedBTree.openCached(file, 64, 8)) {
+            // When
+            for (int i = 0; i < 2_000; i++) {
+                long key = random.nextLong();
+
+                if (expected.add(key)) {
+                    tree.add(key);
+                }
+
+                tree.commit();
+            }
+        }
+
+        // Then
+        try (PagedBTree tree = PagedBTree.openCached(file, 64, 8)) {
+            assertEquals(new ArrayList<>(expected), collect(tree.range(Long.MIN_VALUE, Long.MAX_VALUE)));
+        }
+
+        // Without reuse, every commit would copy the whole path to the changed leaf into new pages
+        assertTrue(Files.size(file) < 2_000L * 64);
+    }
+
+    @Test
+    public void close_whenChangesAreNotCommitted_shouldDiscardChanges() {
+        Path file = directory.resolve("tree.db");
+
+        // Given
+        try (PagedBTree tree = PagedBTree.openMapped(file, 64)) {
+            for (long key = 0; key < 1_000; key++) {
+                tree.add(key);
+            }
+
+            tree.commit();
+
+            // When
+            for (long key = 1_000; key < 2_000; key++) {
+                tree.add(key);
+            }
+        }
+
+        // Then
+        try (PagedBTree tree = PagedBTree.openMapped(file, 64)) {
+            assertEquals(1_000, tree.size());
+            assertTrue(tree.contains(999));
+            assertFalse(tree.contains(1_000));
+            assertEquals(1_000, collect(tree.range(Long.MIN_VALUE, Long.MAX_VALUE)).size());
+        }
+    }
+
+    @Test
+    public void open_whenLastRootRecordIsTorn_shouldRestorePreviousCommit() throws IOException {
+        Path file = directory.resolve("tree.db");
+
+        // Given
+        try (PagedBTree tree = PagedBTree.openMapped(file, 64)) {
+            tree.add(1);
+            tree.commit();
+            tree.add(2);
+            tree.commit();
+        }
+
+        // When
+        Path log = directory.resolve("tree.db.roots");
+        byte[] records = Files.readAllBytes(log);
+        records[records.length - 1] ^= 1;
+        Files.write(log, records, StandardOpenOption.TRUNCATE_EXISTING);
+
+        // Then
+        try (PagedBTree tree = PagedBTree.openMapped(file, 64)) {
+            assertEquals(1, tree.size());
+            assertTrue(tree.contains(1));
+            assertFalse(tree.contains(2));
+        }
+    }
+
+    @Test
+    public void open_whenPageSizeDiffers_shouldThrowException() {
+        Path file = directory.resolve("tree.db");
+
+        // Given
+        try (PagedBTree tree = PagedBTree.openMapped(file, 64)) {
+            tree.add(1);
+            tree.commit();
+        }
+
+        // When
+        // Then
+        assertThrows(IllegalArgumentException.class, () -> PagedBTree.openMapped(file, 128));
+    }
+
+    @Test
+    public void open_whenPageSizeDiffers_shouldCloseFilesItOpened() throws IOException {
+        Path file = directory.resolve("tree.db");
+        Path descriptors = Path.of("/proc/self/fd");
+
+        // Given
+        try (PagedBTree tree = PagedBTree.openMapped(file, 64)) {
+            tree.add(1);
+            tree.commit();
+        }
+
+        long openBefore = Files.isDirectory(descriptors) ? countEntries(descriptors) : -1;
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            assertThrows(IllegalArgumentException.class, () -> PagedBTree.openMapped(file, 128));
+            assertThrows(IllegalArgumentException.class, () -> PagedBTree.openCached(file, 128, 4));
+        }
+
+        // Then
+        if (openBefore >= 0) {
+            assertTrue(countEntries(descriptors) <= openBefore + 2);
+        }
+
+        try (PagedBTree tree = PagedBTree.openMapped(file, 64)) {
+            tree.add(2);
+            tree.commit();
+            assertEquals(List.of(1L, 2L), collect(tree.range(Long.MIN_VALUE, Long.MAX_VALUE)));
+        }
+    }
+
+    private static List<Long> collect(PrimitiveIterator.OfLong iterator) {
+        List<Long> keys = new ArrayList<>();
+        iterator.forEachRemaining((long key) -> keys.add(key));
+        return keys;
+    }
+
+    private static long countEntries(Path directory) throws IOException {
+        try (Stream<Path> entries = Files.list(directory)) {
+            return entries.count();
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package tree;
+
+import dev.andrewjfei.exceptions.EmptyTreeException;
+import dev.andrewjfei.tree.PairingHeap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PairingHeapTest {
+    private PairingHeap<Integer> heap;
+
+    @BeforeEach
+    public void setUp() {
+        heap = new PairingHeap<>();
+    }
+
+    @Test
+    public void insert_whenHeapIsEmpty_shouldAddElementToHeap() {
+        // Given
+        assertTrue(heap.isEmpty());
+
+        // When
+        PairingHeap.Handle<Integer> handle = heap.insert(1);
+
+        // Then
+        assertEquals(1, heap.size());
+        assertEquals(1, heap.peek());
+        assertTrue(handle.isValid());
+    }
+
+    @Test
+    public void poll_whenHeapIsEmpty_shouldThrowException() {
+        // Given
+        assertTrue(heap.isEmpty());
+
+        // When
+        // Then
+        assertThrows(EmptyTreeException.class, () -> heap.poll());
+        assertNull(heap.peek());
+    }
+
+    @Test
+    public void poll_whenHeapIsNotEmpty_shouldReturnElementsInPriorityOrder() {
+        List<Integer> elements = new ArrayList<>();
+        Random random = new Random(5);
+
+        // Given
+        for (int i = 0; i < 1_000; i++) {
+            int element = random.nextInt(200);
+            elements.add(element);
+            heap.insert(element);
+        }
+
+        // When
+        // Then
+        elements.sort(Collections.reverseOrder());
+
+        for (Integer element : elements) {
+            assertEquals(element, heap.poll());
+        }
+
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test
+    public void meld_whenBothHeapsAreNotEmpty_shouldMoveAllElementsIntoHeap() {
+        PairingHeap<Integer> other = new PairingHeap<>();
+
+        // Given
+        heap.insert(5);
+        heap.insert(1);
+        PairingHeap.Handle<Integer> handle = other.insert(3);
+        other.insert(9);
+
+        // When
+        heap.meld(other);
+
+        // Then
+        assertEquals(4, heap.size());
+        assertTrue(other.isEmpty());
+        assertNull(other.peek());
+
+        heap.increaseKey(handle, 10);
+        assertEquals(10, heap.poll());
+        assertEquals(9, heap.poll());
+        assertEquals(5, heap.poll());
+        assertEquals(1, heap.poll());
+        assertThrows(IllegalArgumentException.class, () -> heap.meld(heap));
+    }
+
+    @Test
+    public void increaseKey_whenElementIsNotRoot_shouldMoveElementToRoot() {
+        // Given
+        heap.insert(10);
+        heap.insert(8);
+        PairingHeap.Handle<Integer> handle = heap.insert(1);
+        heap.insert(4);
+        heap.poll();
+
+        // When
+        heap.increaseKey(handle, 20);
+
+        // Then
+        assertEquals(20, heap.peek());
+        assertEquals(20, heap.poll());
+        assertEquals(8, heap.poll());
+        assertEquals(4, heap.poll());
+    }
+
+    @Test
+    public void increaseKey_whenNewElementHasLessPriority_shouldThrowException() {
+        // Given
+        PairingHeap.Handle<Integer> handle = heap.insert(10);
+
+        // When
+        // Then
+        assertThrows(IllegalArgumentException.class, () -> heap.increaseKey(handle, 9));
+    }
+
+    @Test
+    public void removeAndIncreaseKey_whenHandleBelongsToAnotherHeap_shouldThrowException() {
+        // Given
+        PairingHeap<Integer> other = new PairingHeap<>();
+        PairingHeap.Handle<Integer> otherRoot = other.insert(10);
+        PairingHeap.Handle<Integer> otherChild = other.insert(5);
+        heap.insert(7);
+
+        // When
+        // Then
+        assertThrows(IllegalArgumentException.class, () -> heap.remove(otherRoot));
+        assertThrows(IllegalArgumentException.class, () -> heap.remove(otherChild));
+        assertThrows(IllegalArgumentException.class, () -> heap.increaseKey(otherChild, 20));
+        assertEquals(1, heap.size());
+        assertEquals(2, other.size());
+        assertEquals(10, other.peek());
+    }
+
+    @Test
+    public void remove_whenHandleWasMeldedIntoHeap_shouldRemoveElement() {
+        // Given
+        PairingHeap<Integer> first = new PairingHeap<>();
+        PairingHeap<Integer> second = new PairingHeap<>();
+        PairingHeap.Handle<Integer> firstHandle = first.insert(3);
+        PairingHeap.Handle<Integer> secondHandle = second.insert(4);
+        heap.insert(10);
+
+        // When
+        second.meld(first);
+        heap.meld(second);
+        PairingHeap.Handle<Integer> newHandle = second.insert(1);
+
+        // Then
+        assertThrows(IllegalArgumentException.class, () -> first.remove(firstHandle));
+        assertThrows(IllegalArgumentException.class, () -> second.remove(secondHandle));
+        assertThrows(IllegalArgumentException.class, () -> heap.remove(newHandle));
+        assertEquals(3, heap.remove(firstHandle));
+        assertEquals(4, heap.remove(secondHandle));
+        assertEquals(1, second.remove(newHandle));
+        assertEquals(1, heap.size());
+    }
+
+    @Test
+    public void remove_whenElementsAreRemovedRandomly_shouldKeepHeapOrder() {
+        Random random = new Random(9);
+        List<PairingHeap.Handle<Integer>> handles = new ArrayList<>();
+
+        // Given
+        for (int i = 0; i < 1_000; i++) {
+            handles.add(heap.insert(i));
+        }
+
+        heap.poll();
+        handles.remove(handles.size() - 1);
+
+        // When
+        for (int i = 0; i < 500; i++) {
+            PairingHeap.Handle<Integer> handle = handles.remove(random.nextInt(handles.size()));
+            assertEquals(handle.getElement(), heap.remove(handle));
+            assertFalse(handle.isValid());
+        }
+
+        // Then
+        assertEquals(499, heap.size());
+
+        int previous = Integer.MAX_VALUE;
+
+        while (!heap.isEmpty()) {
+            int polled = heap.poll();
+            assertTrue(polled < previous);
+            previous = polled;
+        }
+    }
+
+    @Test
+    public void remove_whenHandleWasAlreadyRemoved_shouldThrowException() {
+        // Given
+        PairingHeap.Handle<Integer> handle = heap.insert(1);
+        heap.poll();
+
+        // When
+        // Then
+        assertThrows(IllegalArgumentException.class, () -> heap.remove(handle));
+    }
+}
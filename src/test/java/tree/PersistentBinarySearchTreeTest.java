@@ -0,0 +1,226 @@
+package tree;
+
+import dev.andrewjfei.exceptions.EmptyTreeException;
+import dev.andrewjfei.exceptions.NodeAlreadyExistsException;
+import dev.andrewjfei.tree.PersistentBinarySearchTree;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeSet;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PersistentBinarySearchTreeTest {
+
+    @Test
+    public void add_whenTreeIsEmpty_shouldReturnNewTreeWithElement() {
+        // Given
+        PersistentBinarySearchTree<Integer> empty = PersistentBinarySearchTree.empty();
+
+        // When
+        PersistentBinarySearchTree<Integer> tree = empty.add(50);
+
+        // Then
+        assertEquals(1, tree.size());
+        assertTrue(tree.contains(50));
+        assertEquals(50, tree.peek());
+        assertTrue(empty.isEmpty());
+        assertFalse(empty.contains(50));
+        assertNull(empty.peek());
+    }
+
+    @Test
+    public void add_whenElementAlreadyExists_shouldThrowException() {
+        // Given
+        PersistentBinarySearchTree<Integer> tree = PersistentBinarySearchTree.<Integer>empty().add(50).add(25);
+
+        // When
+        // Then
+        assertThrows(NodeAlreadyExistsException.class, () -> tree.add(25));
+        assertEquals(2, tree.size());
+    }
+
+    @Test
+    public void add_whenElementIsNull_shouldThrowException() {
+        // Given
+        PersistentBinarySearchTree<Integer> tree = PersistentBinarySearchTree.empty();
+
+        // When
+        // Then
+        assertThrows(NullPointerException.class, () -> tree.add(null));
+    }
+
+    @Test
+    public void add_whenElementsAreAscending_shouldKeepTreeBalanced() {
+        // Given
+        PersistentBinarySearchTree<Integer> tree = PersistentBinarySearchTree.empty();
+
+        // When
+        for (int i = 0; i < 1023; i++) {
+            tree = tree.add(i);
+        }
+
+        // Then
+        assertEquals(1023, tree.size());
+        assertTrue(tree.height() <= 11);
+    }
+
+    @Test
+    public void add_whenOlderVersionIsKept_shouldLeaveOlderVersionUnchanged() {
+        // Given
+        List<PersistentBinarySearchTree<Integer>> versions = new ArrayList<>();
+        PersistentBinarySearchTree<Integer> tree = PersistentBinarySearchTree.empty();
+        versions.add(tree);
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            tree = tree.add(i * 7 % 100);
+            versions.add(tree);
+        }
+
+        // Then
+        for (int v = 0; v < versions.size(); v++) {
+            PersistentBinarySearchTree<Integer> version = versions.get(v);
+            assertEquals(v, version.size());
+
+            for (int i = 0; i < 100; i++) {
+                int position = i * 7 % 100;
+                assertEquals(i < v, version.contains(position));
+            }
+        }
+    }
+
+    @Test
+    public void remove_whenTreeIsEmpty_shouldThrowException() {
+        // Given
+        PersistentBinarySearchTree<Integer> tree = PersistentBinarySearchTree.empty();
+
+        // When
+        // Then
+        assertThrows(EmptyTreeException.class, () -> tree.remove(50));
+    }
+
+    @Test
+    public void remove_whenElementDoesNotExist_shouldReturnSameTree() {
+        // Given
+        PersistentBinarySearchTree<Integer> tree = PersistentBinarySearchTree.<Integer>empty().add(50).add(25);
+
+        // When
+        PersistentBinarySearchTree<Integer> removed = tree.remove(75);
+
+        // Then
+        assertSame(tree, removed);
+        assertEquals(2, removed.size());
+    }
+
+    @Test
+    public void remove_whenOnlyElementIsRemoved_shouldReturnEmptyTree() {
+        // Given
+        PersistentBinarySearchTree<Integer> tree = PersistentBinarySearchTree.<Integer>empty().add(50);
+
+        // When
+        PersistentBinarySearchTree<Integer> removed = tree.remove(50);
+
+        // Then
+        assertTrue(removed.isEmpty());
+        assertEquals(0, removed.height());
+        assertTrue(tree.contains(50));
+    }
+
+    @Test
+    public void remove_whenNodeHasTwoChildren_shouldReplaceWithSuccessorInNewVersionOnly() {
+        // Given
+        PersistentBinarySearchTree<Integer> tree = PersistentBinarySearchTree.empty();
+
+        for (int i : new int[] { 50, 25, 75, 10, 30, 60, 90 }) {
+            tree = tree.add(i);
+        }
+
+        // When
+        PersistentBinarySearchTree<Integer> removed = tree.remove(50);
+
+        // Then
+        assertEquals(60, removed.peek());
+        assertFalse(removed.contains(50));
+        assertEquals(6, removed.size());
+        assertEquals(50, tree.peek());
+        assertTrue(tree.contains(50));
+        assertEquals(7, tree.size());
+    }
+
+    @Test
+    public void iterator_whenNewVersionsAreMadeWhileIterating_shouldIterateOriginalVersion() {
+        // Given
+        PersistentBinarySearchTree<Integer> tree = PersistentBinarySearchTree.empty();
+
+        for (int i : new int[] { 50, 25, 75, 10, 30 }) {
+            tree = tree.add(i);
+        }
+
+        // When
+        List<Integer> elements = new ArrayList<>();
+        PersistentBinarySearchTree<Integer> next = tree;
+
+        for (int element : tree) {
+            elements.add(element);
+            next = next.remove(element).add(element + 1000);
+        }
+
+        // Then
+        assertEquals(List.of(10, 25, 30, 50, 75), elements);
+        assertEquals(List.of(1010, 1025, 1030, 1050, 1075), toList(next));
+    }
+
+    @Test
+    public void iterator_whenExhausted_shouldThrowException() {
+        // Given
+        Iterator<Integer> iterator = PersistentBinarySearchTree.<Integer>empty().add(50).iterator();
+        iterator.next();
+
+        // When
+        // Then
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    public void addAndRemove_whenOperationsAreRandom_shouldMatchTreeSetAndStayBalanced() {
+        // Given
+        Random random = new Random(22);
+        PersistentBinarySearchTree<Integer> tree = PersistentBinarySearchTree.empty();
+        TreeSet<Integer> expected = new TreeSet<>();
+
+        // When
+        for (int i = 0; i < 20000; i++) {
+            int value = random.nextInt(2000);
+
+            if (random.nextBoolean()) {
+                if (expected.add(value)) {
+                    tree = tree.add(value);
+                }
+            } else if (!expected.isEmpty()) {
+                expected.remove(value);
+                tree = tree.remove(value);
+            }
+        }
+
+        // Then
+        assertEquals(expected.size(), tree.size());
+        assertEquals(new ArrayList<>(expected), toList(tree));
+        assertTrue(tree.height() <= 1.45 * (Math.log(tree.size() + 2) / Math.log(2)));
+    }
+
+    private static List<Integer> toList(PersistentBinarySearchTree<Integer> tree) {
+        List<Integer> list = new ArrayList<>();
+        tree.forEach(list::add);
+        return list;
+    }
+}
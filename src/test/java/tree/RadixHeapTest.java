@@ -0,0 +1,131 @@
+package tree;
+
+import dev.andrewjfei.exceptions.EmptyTreeException;
+import dev.andrewjfei.tree.RadixHeap;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RadixHeapTest {
+    private RadixHeap heap;
+
+    @BeforeEach
+    public void setUp() {
+        heap = new RadixHeap();
+    }
+
+    @Test
+    public void insert_whenHeapIsEmpty_shouldAddKeyToHeap() {
+        // Given
+        assertTrue(heap.isEmpty());
+
+        // When
+        heap.insert(42, 7);
+
+        // Then
+        assertEquals(1, heap.size());
+        assertEquals(42, heap.peek());
+        assertEquals(7, heap.peekValue());
+    }
+
+    @Test
+    public void insert_whenKeyIsSmallerThanLastPolledKey_shouldThrowException() {
+        // Given
+        heap.insert(10);
+        heap.insert(20);
+        heap.poll();
+        assertEquals(10, heap.lastKey());
+
+        // When
+        // Then
+        assertThrows(IllegalArgumentException.class, () -> heap.insert(9));
+        assertThrows(IllegalArgumentException.class, () -> new RadixHeap().insert(-1));
+        heap.insert(10);
+        assertEquals(2, heap.size());
+    }
+
+    @Test
+    public void poll_whenHeapIsEmpty_shouldThrowException() {
+        // Given
+        assertTrue(heap.isEmpty());
+
+        // When
+        // Then
+        assertThrows(EmptyTreeException.class, () -> heap.poll());
+        assertThrows(EmptyTreeException.class, () -> heap.peek());
+    }
+
+    @Test
+    public void poll_whenHeapIsNotEmpty_shouldReturnKeysInAscendingOrder() {
+        long[] keys = new long[10_000];
+        Random random = new Random(13);
+
+        // Given
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = (random.nextLong() >>> 1) >>> random.nextInt(63);
+            heap.insert(keys[i]);
+        }
+
+        heap.insert(Long.MAX_VALUE);
+        heap.insert(0);
+
+        // When
+        long[] polled = new long[keys.length];
+        long first = heap.poll();
+
+        for (int i = 0; i < polled.length; i++) {
+            polled[i] = heap.poll();
+        }
+
+        // Then
+        Arrays.sort(keys);
+        assertEquals(0, first);
+        assertArrayEquals(keys, polled);
+        assertEquals(Long.MAX_VALUE, heap.poll());
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test
+    public void pollValue_whenKeysAreInsertedWhilePolling_shouldReturnValuesInKeyOrder() {
+        // Given
+        heap.insert(5, 50);
+        heap.insert(1, 10);
+        heap.insert(3, 30);
+
+        // When
+        // Then
+        assertEquals(10, heap.pollValue());
+        heap.insert(2, 20);
+        assertEquals(20, heap.pollValue());
+        assertEquals(30, heap.pollValue());
+        heap.insert(4, 40);
+        heap.insert(3, 31);
+        assertEquals(31, heap.pollValue());
+        assertEquals(40, heap.pollValue());
+        assertEquals(50, heap.pollValue());
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test
+    public void clear_whenHeapIsNotEmpty_shouldRemoveAllKeys_andResetLastKey() {
+        // Given
+        heap.insert(100);
+        heap.insert(200);
+        heap.poll();
+
+        // When
+        heap.clear();
+
+        // Then
+        assertTrue(heap.isEmpty());
+        assertEquals(0, heap.lastKey());
+        heap.insert(1);
+        assertEquals(1, heap.poll());
+    }
+}
@@ -0,0 +1,190 @@
+package tree;
+
+import dev.andrewjfei.tree.TimingWheel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TimingWheelTest {
+    private TimingWheel<String> wheel;
+    private List<String> expired;
+
+    @BeforeEach
+    public void setUp() {
+        wheel = new TimingWheel<>(10);
+        expired = new ArrayList<>();
+    }
+
+    @Test
+    public void schedule_whenWheelIsEmpty_shouldAddTimer() {
+        // Given
+        assertTrue(wheel.isEmpty());
+
+        // When
+        TimingWheel.Timer<String> timer = wheel.schedule(100, "a");
+
+        // Then
+        assertEquals(1, wheel.size());
+        assertEquals(100, timer.getDeadline());
+        assertEquals("a", timer.getTask());
+    }
+
+    @Test
+    public void advanceTo_whenDeadlinesAreReached_shouldExpireTimersInDeadlineOrder() {
+        // Given
+        wheel.schedule(300, "c");
+        wheel.schedule(100, "a");
+        wheel.schedule(200, "b");
+
+        // When
+        int first = wheel.advanceTo(199, expired::add);
+        int second = wheel.advanceTo(300, expired::add);
+
+        // Then
+        assertEquals(1, first);
+        assertEquals(2, second);
+        assertEquals(List.of("a", "b", "c"), expired);
+        assertTrue(wheel.isEmpty());
+    }
+
+    @Test
+    public void advanceTo_whenDeadlineIsWithinTick_shouldNotExpireTimerEarly() {
+        // Given
+        TimingWheel.Timer<String> timer = wheel.schedule(15, "a");
+
+        // When
+        wheel.advanceTo(14, expired::add);
+
+        // Then
+        assertTrue(expired.isEmpty());
+        wheel.advanceTo(20, expired::add);
+        assertEquals(List.of("a"), expired);
+        assertTrue(timer.isExpired());
+    }
+
+    @Test
+    public void advanceTo_whenDeadlineHasAlreadyPassed_shouldExpireTimerOnNextAdvance() {
+        // Given
+        wheel.advanceTo(1_000, expired::add);
+
+        // When
+        wheel.schedule(500, "late");
+        wheel.advanceTo(1_000, expired::add);
+
+        // Then
+        assertEquals(List.of("late"), expired);
+    }
+
+    @Test
+    public void cancel_whenTimerIsPending_shouldStopTimerFromExpiring() {
+        // Given
+        TimingWheel.Timer<String> timer = wheel.schedule(100, "a");
+        wheel.schedule(100, "b");
+
+        // When
+        boolean cancelled = wheel.cancel(timer);
+
+        // Then
+        assertTrue(cancelled);
+        assertTrue(timer.isCancelled());
+        assertFalse(wheel.cancel(timer));
+        assertEquals(1, wheel.size());
+        wheel.advanceTo(100, expired::add);
+        assertEquals(List.of("b"), expired);
+    }
+
+    @Test
+    public void advanceTo_whenDeadlineIsBeyondWheels_shouldExpireTimerFromOverflow() {
+        wheel = new TimingWheel<>(1, 4, 2, 0);
+
+        // Given
+        TimingWheel.Timer<String> cancelled = wheel.schedule(1_000, "cancelled");
+        wheel.schedule(1_000_000, "far");
+        wheel.schedule(20, "near");
+        wheel.cancel(cancelled);
+
+        // When
+        wheel.advanceTo(999_999, expired::add);
+
+        // Then
+        assertEquals(List.of("near"), expired);
+        wheel.advanceTo(1_000_000, expired::add);
+        assertEquals(List.of("near", "far"), expired);
+        assertTrue(wheel.isEmpty());
+    }
+
+    @Test
+    public void cancel_whenMostOverflowTimersAreCancelled_shouldPurgeThemAndKeepTheRest() {
+        wheel = new TimingWheel<>(1, 4, 2, 0);
+        List<TimingWheel.Timer<String>> timers = new ArrayList<>();
+
+        // Given
+        for (int i = 0; i < 100; i++) {
+            timers.add(wheel.schedule(1_000 + i * 10, String.valueOf(i)));
+        }
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            if (i % 10 != 0) {
+                assertTrue(wheel.cancel(timers.get(i)));
+            }
+        }
+
+        // Then
+        assertEquals(10, wheel.size());
+        wheel.advanceTo(10_000, expired::add);
+        assertEquals(List.of("0", "10", "20", "30", "40", "50", "60", "70", "80", "90"), expired);
+        assertTrue(wheel.isEmpty());
+    }
+
+    @Test
+    public void advanceTo_whenManyRandomTimersAreScheduled_shouldExpireEachWithinOneTickOfDeadline() {
+        TimingWheel<Long> timers = new TimingWheel<>(1, 8, 3, 0);
+        Random random = new Random(17);
+        int count = 5_000;
+
+        // Given
+        for (int i = 0; i < count; i++) {
+            long deadline = random.nextInt(2_000);
+            timers.schedule(deadline, deadline);
+        }
+
+        // When
+        long[] now = new long[1];
+        int expiredCount = 0;
+
+        for (now[0] = 0; now[0] < 2_000; now[0] = Math.min(2_000, now[0] + 1 + random.nextInt(7))) {
+            expiredCount += timers.advanceTo(now[0], deadline -> {
+                assertTrue(deadline <= now[0]);
+
+                if (deadline < now[0]) {
+                    // Only a jump in time can delay a timer by more than a tick
+                    assertTrue(now[0] - deadline <= 7);
+                }
+            });
+        }
+
+        expiredCount += timers.advanceTo(now[0], deadline -> assertTrue(deadline <= now[0]));
+
+        // Then
+        assertEquals(count, expiredCount);
+        assertTrue(timers.isEmpty());
+    }
+
+    @Test
+    public void constructor_whenArgumentsAreIllegal_shouldThrowException() {
+        // Given
+        // When
+        // Then
+        assertThrows(IllegalArgumentException.class, () -> new TimingWheel<String>(0));
+        assertThrows(IllegalArgumentException.class, () -> new TimingWheel<String>(1, 3, 2, 0));
+        assertThrows(IllegalArgumentException.class, () -> new TimingWheel<String>(1, 1 << 16, 4, 0));
+    }
+}
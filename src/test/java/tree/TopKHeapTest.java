@@ -0,0 +1,144 @@
+package tree;
+
+import dev.andrewjfei.exceptions.EmptyTreeException;
+import dev.andrewjfei.tree.TopKHeap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TopKHeapTest {
+    private TopKHeap<Integer> heap;
+
+    @BeforeEach
+    public void setUp() {
+        heap = new TopKHeap<>(3);
+    }
+
+    @Test
+    public void offer_whenHeapIsNotFull_shouldKeepElement() {
+        // Given
+        assertTrue(heap.isEmpty());
+
+        // When
+        boolean kept = heap.offer(5);
+
+        // Then
+        assertTrue(kept);
+        assertEquals(1, heap.size());
+        assertEquals(5, heap.peek());
+    }
+
+    @Test
+    public void offer_whenHeapIsFull_andElementHasLessPriorityThanRoot_shouldRejectElement() {
+        // Given
+        heap.offer(5);
+        heap.offer(6);
+        heap.offer(7);
+        assertTrue(heap.isFull());
+
+        // When
+        boolean kept = heap.offer(5);
+
+        // Then
+        assertFalse(kept);
+        assertEquals(3, heap.size());
+        assertEquals(5, heap.peek());
+    }
+
+    @Test
+    public void offer_whenHeapIsFull_andElementHasGreaterPriorityThanRoot_shouldReplaceRoot() {
+        // Given
+        heap.offer(5);
+        heap.offer(6);
+        heap.offer(7);
+
+        // When
+        boolean kept = heap.offer(10);
+
+        // Then
+        assertTrue(kept);
+        assertEquals(3, heap.size());
+        assertEquals(6, heap.peek());
+    }
+
+    @Test
+    public void toSortedArray_whenStreamIsLongerThanCapacity_shouldReturnTopElementsInPriorityOrder() {
+        heap = new TopKHeap<>(100);
+        Integer[] stream = new Integer[100_000];
+        Random random = new Random(3);
+
+        // Given
+        for (int i = 0; i < stream.length; i++) {
+            stream[i] = random.nextInt();
+            heap.offer(stream[i]);
+        }
+
+        assertEquals(100, heap.size());
+
+        // When
+        Integer[] sorted = heap.toSortedArray(Integer[]::new);
+
+        // Then
+        Arrays.sort(stream, Collections.reverseOrder());
+        assertArrayEquals(Arrays.copyOf(stream, 100), sorted);
+        assertEquals(100, heap.size());
+        assertEquals(stream[99], heap.peek());
+    }
+
+    @Test
+    public void toSortedArray_whenHeapIsEmpty_shouldReturnEmptyArray() {
+        // Given
+        assertTrue(heap.isEmpty());
+
+        // When
+        Integer[] sorted = heap.toSortedArray(Integer[]::new);
+
+        // Then
+        assertEquals(0, sorted.length);
+    }
+
+    @Test
+    public void poll_whenHeapIsEmpty_shouldThrowException() {
+        // Given
+        assertTrue(heap.isEmpty());
+
+        // When
+        // Then
+        assertThrows(EmptyTreeException.class, () -> heap.poll());
+        assertNull(heap.peek());
+    }
+
+    @Test
+    public void poll_whenHeapIsNotEmpty_shouldReturnElementWithLeastPriority() {
+        // Given
+        heap.offer(9);
+        heap.offer(2);
+        heap.offer(4);
+
+        // When
+        Integer polled = heap.poll();
+
+        // Then
+        assertEquals(2, polled);
+        assertEquals(2, heap.size());
+        assertEquals(4, heap.peek());
+    }
+
+    @Test
+    public void constructor_whenCapacityIsNotPositive_shouldThrowException() {
+        // Given
+        // When
+        // Then
+        assertThrows(IllegalArgumentException.class, () -> new TopKHeap<Integer>(0));
+        assertEquals(3, heap.capacity());
+    }
+}